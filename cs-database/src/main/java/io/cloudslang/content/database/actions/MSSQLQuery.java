@@ -25,6 +25,7 @@ import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.constants.DBReturnCodes;
 import io.cloudslang.content.database.services.SQLQueryService;
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLRowCursor;
 import io.cloudslang.content.database.utils.SQLSessionResource;
 import org.apache.commons.lang3.StringUtils;
 
@@ -44,7 +45,7 @@ import static io.cloudslang.content.database.constants.DBOutputNames.*;
 import static io.cloudslang.content.database.constants.DBResponseNames.*;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryInputs;
-import static io.cloudslang.content.database.utils.SQLUtils.getRowsFromGlobalSessionMap;
+import static io.cloudslang.content.database.utils.SQLUtils.getRowCursorFromGlobalSessionMap;
 import static io.cloudslang.content.database.utils.SQLUtils.getStrColumns;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
 import static io.cloudslang.content.utils.NumberUtilities.toInteger;
@@ -193,23 +194,25 @@ public class MSSQLQuery {
 
             final Map<String, Object> globalMap = globalSessionObject.get();
 
+            final SQLRowCursor rowCursor;
             if (globalMap.containsKey(aKey)) {
-                sqlInputs.setLRows(getRowsFromGlobalSessionMap(globalSessionObject, aKey));
+                rowCursor = getRowCursorFromGlobalSessionMap(globalSessionObject, aKey);
                 sqlInputs.setStrColumns(getStrColumns(globalSessionObject, strKeyCol));
 
             } else {
                 SQLQueryService.executeSqlQuery(sqlInputs);
+                rowCursor = new SQLRowCursor(sqlInputs.getLRows());
             }
 
             Map<String, String> result = new HashMap<>();
-            if (!sqlInputs.getLRows().isEmpty()) {
-                final String getFirstRow = sqlInputs.getLRows().remove(0);
+            if (rowCursor.hasNext()) {
+                final String getFirstRow = rowCursor.next();
 
                 result = getSuccessResultsMap(getFirstRow);
                 result.put(COLUMN_NAMES, sqlInputs.getStrColumns());
-                result.put(ROWS_LEFT, String.valueOf(sqlInputs.getLRows().size()));
+                result.put(ROWS_LEFT, String.valueOf(rowCursor.getRowsLeft()));
 
-                globalMap.put(aKey, sqlInputs.getLRows());
+                globalMap.put(aKey, rowCursor);
                 globalMap.put(strKeyCol, sqlInputs.getStrColumns());
 
                 globalSessionObject.setResource(new SQLSessionResource(globalMap));
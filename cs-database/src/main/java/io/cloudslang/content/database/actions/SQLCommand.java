@@ -38,6 +38,7 @@ import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.AUTH_SQL;
 import static io.cloudslang.content.database.constants.DBDefaultValues.NEW_LINE;
+import static io.cloudslang.content.database.constants.DBDefaultValues.DEFAULT_QUERY_PARAMETERS_DELIMITER;
 import static io.cloudslang.content.database.constants.DBInputNames.*;
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
 import static io.cloudslang.content.database.constants.DBOutputNames.OUTPUT_TEXT;
@@ -89,12 +90,22 @@ public class SQLCommand {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             The result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_FORWARD_ONLY
      * @param resultSetConcurrency      The result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param queryParameters           The values bound to the placeholders of the command, instead of concatenating them in the command.
+     *                                  Positional placeholders ('?') take the values in order, separated by queryParametersDelimiter.
+     *                                  Named placeholders (':name') take 'name=value' entries, separated by queryParametersDelimiter.
+     *                                  The values are bound as strings, which PostgreSQL receives untyped and types from the
+     *                                  command. Other databases convert them to the type of the column where they can, elsewhere
+     *                                  the placeholder needs an explicit cast, like 'cast(? as integer)'.
+     *                                  Example: "select * from users where id = :id and status = :status" with "id=10,status=active"
+     * @param queryParametersDelimiter  The delimiter of the queryParameters values.
+     *                                  Default value: ,
      * @return The return result of SQL command.
      */
     @Action(name = "SQL Command",
@@ -126,7 +137,9 @@ public class SQLCommand {
                                        @Param(value = AUTH_LIBRARY_PATH) String authLibraryPath,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = QUERY_PARAMETERS) String queryParameters,
+                                       @Param(value = QUERY_PARAMETERS_DELIMITER) String queryParametersDelimiter) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -170,6 +183,8 @@ public class SQLCommand {
                     .resultSetType(getResultSetType(resultSetType))
                     .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                     .isNetcool(checkIsNetcool(dbType))
+                    .queryParameters(queryParameters)
+                    .queryParametersDelimiter(defaultIfEmpty(queryParametersDelimiter, DEFAULT_QUERY_PARAMETERS_DELIMITER))
                     .build();
 
             String res = SQLCommandService.executeSqlCommand(sqlInputs);
@@ -0,0 +1,92 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.database.services.dbconnection.DBConnectionManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static io.cloudslang.content.constants.OutputNames.EXCEPTION;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.database.constants.DBDefaultValues.NEW_LINE;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+
+public class SQLPoolStatistics {
+    //connection urls of some drivers carry the password as a property
+    private static final Pattern URL_PASSWORD = Pattern.compile("(?i)(password=)[^;&]*");
+
+    /**
+     * Reports the database connection pools opened by the SQL operations that run with db.pooling.enable=true
+     * in their databasePoolingProperties.
+     *
+     * @return a map containing the output of the operation. Keys present in the map are:
+     * <br><b>returnResult</b> - One line per pool, the database type and url of the pool followed by its number of
+     * datasources, its active, idle and waiting connections, the number of check outs, of failed check outs and the
+     * average and maximum check out time in microseconds. Empty when no pool is open.
+     * <br><b>returnCode</b> - The returnCode of the operation: 0 for success, -1 for failure.
+     * <br><b>exception</b> - The exception message if the operation failed.
+     */
+    @Action(name = "SQL Pool Statistics",
+            outputs = {
+                    @Output(RETURN_CODE),
+                    @Output(RETURN_RESULT),
+                    @Output(EXCEPTION)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = RETURN_CODE, value = SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = RETURN_CODE, value = FAILURE, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            })
+    public Map<String, String> execute() {
+        try {
+            return getSuccessResultsMap(formatPoolStatistics(DBConnectionManager.getInstance().getPoolStatistics()));
+        } catch (Exception e) {
+            return getFailureResultsMap(e);
+        }
+    }
+
+    static String formatPoolStatistics(Map<String, Map<String, Long>> poolStatistics) {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, Map<String, Long>> pool : poolStatistics.entrySet()) {
+            if (result.length() > 0) {
+                result.append(NEW_LINE);
+            }
+            result.append(URL_PASSWORD.matcher(pool.getKey()).replaceAll("$1***")).append(": ");
+            Iterator<Map.Entry<String, Long>> statistics = pool.getValue().entrySet().iterator();
+            while (statistics.hasNext()) {
+                Map.Entry<String, Long> statistic = statistics.next();
+                result.append(statistic.getKey()).append('=').append(statistic.getValue());
+                if (statistics.hasNext()) {
+                    result.append(", ");
+                }
+            }
+        }
+        return result.toString();
+    }
+}
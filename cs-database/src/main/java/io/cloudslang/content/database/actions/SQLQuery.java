@@ -29,6 +29,7 @@ import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.constants.DBReturnCodes;
 import io.cloudslang.content.database.services.SQLQueryService;
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLRowCursor;
 import io.cloudslang.content.database.utils.SQLSessionResource;
 import io.cloudslang.content.utils.BooleanUtilities;
 import org.apache.commons.lang3.StringUtils;
@@ -49,7 +50,7 @@ import static io.cloudslang.content.database.constants.DBResponseNames.HAS_MORE;
 import static io.cloudslang.content.database.constants.DBResponseNames.NO_MORE;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryInputs;
-import static io.cloudslang.content.database.utils.SQLUtils.getRowsFromGlobalSessionMap;
+import static io.cloudslang.content.database.utils.SQLUtils.getRowCursorFromGlobalSessionMap;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
 import static io.cloudslang.content.utils.NumberUtilities.toInteger;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
@@ -103,6 +104,7 @@ public class SQLQuery {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             the result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_SCROLL_INSENSITIVE except DB2 which is overridden to TYPE_FORWARD_ONLY
@@ -112,6 +114,15 @@ public class SQLQuery {
      * @param ignoreCase                If set to true the inputs' letters case will be ignored and converted to lowercase.
      *                                  Valid values: true, false
      *                                  Default value: true
+     * @param queryParameters           The values bound to the placeholders of the command, instead of concatenating them in the command.
+     *                                  Positional placeholders ('?') take the values in order, separated by queryParametersDelimiter.
+     *                                  Named placeholders (':name') take 'name=value' entries, separated by queryParametersDelimiter.
+     *                                  The values are bound as strings, which PostgreSQL receives untyped and types from the
+     *                                  command. Other databases convert them to the type of the column where they can, elsewhere
+     *                                  the placeholder needs an explicit cast, like 'cast(? as integer)'.
+     *                                  Example: "select * from users where id = :id and status = :status" with "id=10,status=active"
+     * @param queryParametersDelimiter  The delimiter of the queryParameters values.
+     *                                  Default value: ,
      * @return It contains the data of one row, separated by the "delimiter".
      */
     @Action(name = "SQL Query",
@@ -150,6 +161,8 @@ public class SQLQuery {
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
                                        @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
                                        @Param(value = IGNORE_CASE) String ignoreCase,
+                                       @Param(value = QUERY_PARAMETERS) String queryParameters,
+                                       @Param(value = QUERY_PARAMETERS_DELIMITER) String queryParametersDelimiter,
                                        @Param(value = GLOBAL_SESSION_OBJECT) GlobalSessionObject<Map<String, Object>> globalSessionObject) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
@@ -200,6 +213,8 @@ public class SQLQuery {
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .ignoreCase(ignoreCaseBool)
                 .isNetcool(checkIsNetcool(dbType))
+                .queryParameters(queryParameters)
+                .queryParametersDelimiter(defaultIfEmpty(queryParametersDelimiter, DEFAULT_QUERY_PARAMETERS_DELIMITER))
                 .build();
 
 
@@ -210,21 +225,23 @@ public class SQLQuery {
 
             final Map<String, Object> globalMap = globalSessionObject.get();
 
+            final SQLRowCursor rowCursor;
             if (globalMap.containsKey(aKey)) {
-                sqlInputs.setLRows(getRowsFromGlobalSessionMap(globalSessionObject, aKey));
+                rowCursor = getRowCursorFromGlobalSessionMap(globalSessionObject, aKey);
             } else {
                 SQLQueryService.executeSqlQuery(sqlInputs);
+                rowCursor = new SQLRowCursor(sqlInputs.getLRows());
             }
 
             Map<String, String> result = new HashMap<>();
-            if (!sqlInputs.getLRows().isEmpty()) {
-                final String getFirstRow = sqlInputs.getLRows().remove(0);
+            if (rowCursor.hasNext()) {
+                final String getFirstRow = rowCursor.next();
 
                 result = getSuccessResultsMap(getFirstRow);
                 result.put(COLUMN_NAMES, sqlInputs.getStrColumns());
-                result.put(ROWS_LEFT, String.valueOf(sqlInputs.getLRows().size()));
+                result.put(ROWS_LEFT, String.valueOf(rowCursor.getRowsLeft()));
 
-                globalMap.put(aKey, sqlInputs.getLRows());
+                globalMap.put(aKey, rowCursor);
 
                 globalSessionObject.setResource(new SQLSessionResource(globalMap));
 
@@ -41,6 +41,8 @@ import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.*;
 import static io.cloudslang.content.database.constants.DBInputNames.*;
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
+import static io.cloudslang.content.database.constants.DBOutputNames.ELAPSED_TIME;
+import static io.cloudslang.content.database.constants.DBOutputNames.ROW_COUNT;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryAllRowsInputs;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
@@ -97,19 +99,41 @@ public class SQLQueryAllRows {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             the result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_SCROLL_INSENSITIVE except DB2 which is overridden to TYPE_FORWARD_ONLY
      * @param resultSetConcurrency      the result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param fetchSize                 The number of rows fetched from the database at a time. 0 leaves the choice to the driver.
+     *                                  Default value: 0
+     * @param outputFile                The path of a file, or named pipe, to stream the rows to instead of returning them.
+     *                                  The rows are written on a forward only cursor as they are fetched and the output is
+     *                                  flushed after every fetchSize rows. resultSetType and resultSetConcurrency are ignored.
+     * @param outputFormat              The format of the outputFile.
+     *                                  Valid values: csv, jsonl
+     *                                  Default value: csv
+     * @param queryParameters           The values bound to the placeholders of the command, instead of concatenating them in the command.
+     *                                  Positional placeholders ('?') take the values in order, separated by queryParametersDelimiter.
+     *                                  Named placeholders (':name') take 'name=value' entries, separated by queryParametersDelimiter.
+     *                                  The values are bound as strings, which PostgreSQL receives untyped and types from the
+     *                                  command. Other databases convert them to the type of the column where they can, elsewhere
+     *                                  the placeholder needs an explicit cast, like 'cast(? as integer)'.
+     *                                  Example: "select * from users where id = :id and status = :status" with "id=10,status=active"
+     * @param queryParametersDelimiter  The delimiter of the queryParameters values.
+     *                                  Default value: ,
      * @return Return the list of all the data returned by the query. It is delimited by colDelimiter and rowDelimiter.
+     * When an outputFile is given, returnResult is the path of the file, rowCount the number of rows written and
+     * elapsedTime the time of the query and the export in milliseconds.
      */
     @Action(name = "SQL Query All Rows",
             outputs = {
                     @Output(RETURN_CODE),
                     @Output(RETURN_RESULT),
-                    @Output(EXCEPTION)
+                    @Output(EXCEPTION),
+                    @Output(ROW_COUNT),
+                    @Output(ELAPSED_TIME)
             },
             responses = {
                     @Response(text = ResponseNames.SUCCESS, field = RETURN_CODE, value = SUCCESS,
@@ -137,7 +161,12 @@ public class SQLQueryAllRows {
                                        @Param(value = TIMEOUT) String timeout,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = FETCH_SIZE) String fetchSize,
+                                       @Param(value = OUTPUT_FILE) String outputFile,
+                                       @Param(value = OUTPUT_FORMAT) String outputFormat,
+                                       @Param(value = QUERY_PARAMETERS) String queryParameters,
+                                       @Param(value = QUERY_PARAMETERS_DELIMITER) String queryParametersDelimiter) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -151,10 +180,13 @@ public class SQLQueryAllRows {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        fetchSize = defaultIfEmpty(fetchSize, DEFAULT_FETCH_SIZE);
+        outputFile = defaultIfEmpty(outputFile, EMPTY);
+        outputFormat = defaultIfEmpty(outputFormat, CSV_FORMAT);
 
         final List<String> preInputsValidation = validateSqlQueryAllRowsInputs(dbServerName, dbType, username, password, instance,
                 dbPort, databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
-                timeout, resultSetType, resultSetConcurrency, authLibraryPath);
+                timeout, resultSetType, resultSetConcurrency, authLibraryPath, fetchSize, outputFormat);
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -184,9 +216,23 @@ public class SQLQueryAllRows {
                 .resultSetType(getResultSetTypeForDbType(resultSetType, dbType))
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .isNetcool(checkIsNetcool(dbType))
+                .fetchSize(toInteger(fetchSize))
+                .outputFile(outputFile)
+                .outputFormat(outputFormat)
+                .queryParameters(queryParameters)
+                .queryParametersDelimiter(defaultIfEmpty(queryParametersDelimiter, DEFAULT_QUERY_PARAMETERS_DELIMITER))
                 .build();
 
         try {
+            if (!outputFile.isEmpty()) {
+                final long startTime = System.currentTimeMillis();
+                final long rowCount = SQLQueryAllRowsService.execQueryAllRowsToFile(sqlInputs);
+
+                final Map<String, String> result = OutputUtilities.getSuccessResultsMap(outputFile);
+                result.put(ROW_COUNT, String.valueOf(rowCount));
+                result.put(ELAPSED_TIME, String.valueOf(System.currentTimeMillis() - startTime));
+                return result;
+            }
             final String queryResult = SQLQueryAllRowsService.execQueryAllRows(sqlInputs);
             return OutputUtilities.getSuccessResultsMap(queryResult);
         } catch (Exception e) {
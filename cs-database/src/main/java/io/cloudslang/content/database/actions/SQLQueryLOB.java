@@ -27,6 +27,8 @@ import io.cloudslang.content.database.constants.DBReturnCodes;
 import io.cloudslang.content.database.services.SQLQueryLobService;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.SQLInputsUtils;
+import io.cloudslang.content.database.utils.SQLLobSpool;
+import io.cloudslang.content.database.utils.SQLRowCursor;
 import io.cloudslang.content.database.utils.SQLSessionResource;
 import io.cloudslang.content.utils.BooleanUtilities;
 import io.cloudslang.content.utils.OutputUtilities;
@@ -34,6 +36,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -108,12 +111,18 @@ public class SQLQueryLOB {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             the result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_SCROLL_INSENSITIVE except DB2 which is overridden to TYPE_FORWARD_ONLY
      * @param resultSetConcurrency      the result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param lobSpool                  Whether to write all the CLOB and BLOB values of the query to a single spool file, deleted when
+     *                                  the iteration ends, instead of a temporary file per value. In this mode BLOB values are
+     *                                  returned too, encoded in base64.
+     *                                  Default value: false
+     *                                  Valid values: true, false
      * @return Returns the data of a row returned from query. It is delimited by <delimiter>.
      */
     @Action(name = "SQL Query LOB",
@@ -151,6 +160,7 @@ public class SQLQueryLOB {
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
                                        @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = LOB_SPOOL) String lobSpool,
                                        @Param(value = GLOBAL_SESSION_OBJECT) GlobalSessionObject<Map<String, Object>> globalSessionObject) {
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -164,10 +174,11 @@ public class SQLQueryLOB {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        lobSpool = defaultIfEmpty(lobSpool, FALSE);
 
         final List<String> preInputsValidation = validateSqlQueryLOBInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
-                timeout, resultSetType, resultSetConcurrency, authLibraryPath);
+                timeout, resultSetType, resultSetConcurrency, authLibraryPath, lobSpool);
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -203,6 +214,10 @@ public class SQLQueryLOB {
 
         try {
 
+            if (BooleanUtilities.toBoolean(lobSpool)) {
+                return executeWithLobSpool(sqlInputs, getOrDefaultGlobalSessionObj(globalSessionObject));
+            }
+
             final String aKey = SQLInputsUtils.getSqlKey(sqlInputs);
 
             final String strKeyCol = format(KEY_COLUMNS, aKey);
@@ -307,4 +322,83 @@ public class SQLQueryLOB {
         }
     }
 
+    /**
+     * Iterates the rows of the query and, after every row, its LOB values, read from the spool of the query.
+     */
+    private Map<String, String> executeWithLobSpool(final SQLInputs sqlInputs,
+                                                    final GlobalSessionObject<Map<String, Object>> globalSessionObject) throws Exception {
+        final String aKey = SQLInputsUtils.getSqlKey(sqlInputs);
+        final String strKeyCol = format(KEY_COLUMNS, aKey);
+        final String strKeySpool = format(KEY_LOB_SPOOL, aKey);
+        final String strKeySkip = format(KEY_SKIP, aKey);
+
+        final Map<String, Object> sqlConnectionMap = globalSessionObject.get();
+        final Map<String, String> result = new HashMap<>();
+
+        SQLRowCursor rowCursor;
+        SQLLobSpool lobSpool;
+        //index of the last row returned
+        long row;
+        if (sqlConnectionMap.get(aKey) instanceof SQLRowCursor) {
+            rowCursor = (SQLRowCursor) sqlConnectionMap.get(aKey);
+            lobSpool = (SQLLobSpool) sqlConnectionMap.get(strKeySpool);
+            row = (Long) sqlConnectionMap.get(strKeySkip);
+            sqlInputs.setStrColumns((String) sqlConnectionMap.get(strKeyCol));
+        } else {
+            //the spool of an iteration that was not read to the end
+            if (sqlConnectionMap.get(strKeySpool) instanceof SQLLobSpool) {
+                ((SQLLobSpool) sqlConnectionMap.get(strKeySpool)).close();
+                sqlConnectionMap.put(strKeySpool, null);
+            }
+            lobSpool = new SQLLobSpool();
+            try {
+                SQLQueryLobService.executeSqlQueryLob(sqlInputs, lobSpool);
+            } catch (Exception e) {
+                lobSpool.close();
+                throw e;
+            }
+            rowCursor = new SQLRowCursor(sqlInputs.getLRows());
+            row = -1;
+        }
+
+        if (row >= 0 && lobSpool.hasLob((int) row)) {
+            result.put(COLUMN_NAMES, lobSpool.getNextColumn());
+            try {
+                result.put(RETURN_RESULT, lobSpool.readNext());
+            } catch (IOException e) {
+                lobSpool.close();
+                sqlConnectionMap.put(aKey, null);
+                sqlConnectionMap.put(strKeySpool, null);
+                throw e;
+            }
+            result.put(ROWS_LEFT, String.valueOf(rowCursor.getRowsLeft()));
+            result.put(RETURN_CODE, SUCCESS);
+        } else if (rowCursor.hasNext()) {
+            result.put(RETURN_RESULT, rowCursor.next());
+            result.put(COLUMN_NAMES, sqlInputs.getStrColumns());
+            result.put(ROWS_LEFT, String.valueOf(rowCursor.getRowsLeft()));
+            result.put(RETURN_CODE, SUCCESS);
+            row++;
+        } else {
+            lobSpool.close();
+            sqlConnectionMap.put(aKey, null);
+            sqlConnectionMap.put(strKeyCol, null);
+            sqlConnectionMap.put(strKeySpool, null);
+            sqlConnectionMap.put(strKeySkip, 0L);
+
+            result.put(SQL_QUERY, sqlInputs.getSqlCommand());
+            result.put(RETURN_RESULT, NO_MORE);
+            result.put(ROWS_LEFT, ZERO);
+            result.put(RETURN_CODE, DBReturnCodes.NO_MORE);
+            globalSessionObject.setResource(new SQLSessionResource(sqlConnectionMap));
+            return result;
+        }
+
+        sqlConnectionMap.put(aKey, rowCursor);
+        sqlConnectionMap.put(strKeyCol, sqlInputs.getStrColumns());
+        sqlConnectionMap.put(strKeySpool, lobSpool);
+        sqlConnectionMap.put(strKeySkip, row);
+        globalSessionObject.setResource(new SQLSessionResource(sqlConnectionMap));
+        return result;
+    }
 }
@@ -92,12 +92,15 @@ public class SQLQueryTabular {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             the result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_SCROLL_INSENSITIVE except DB2 which is overridden to TYPE_FORWARD_ONLY
      * @param resultSetConcurrency      the result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param fetchSize                 The number of rows fetched from the database at a time. 0 leaves the choice to the driver.
+     *                                  Default value: 0
      * @return Returns the data returned from the query as a table.
      */
     @Action(name = "SQL Query Tabular",
@@ -130,7 +133,8 @@ public class SQLQueryTabular {
                                        @Param(value = TIMEOUT) String timeout,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = FETCH_SIZE) String fetchSize) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -144,10 +148,11 @@ public class SQLQueryTabular {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        fetchSize = defaultIfEmpty(fetchSize, DEFAULT_FETCH_SIZE);
 
         final List<String> preInputsValidation = validateSqlQueryTabularInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
-                timeout, resultSetType, resultSetConcurrency, authLibraryPath);
+                timeout, resultSetType, resultSetConcurrency, authLibraryPath, fetchSize);
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
         }
@@ -174,6 +179,7 @@ public class SQLQueryTabular {
                 .resultSetType(getResultSetTypeForDbType(resultSetType, dbType))
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .isNetcool(checkIsNetcool(dbType))
+                .fetchSize(toInteger(fetchSize))
                 .build();
         try {
             final String queryResult = SQLQueryTabularService.execSqlQueryTabular(sqlInputs);
@@ -27,29 +27,39 @@ import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.services.SQLScriptService;
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLScriptReader;
 import io.cloudslang.content.utils.BooleanUtilities;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
+import static io.cloudslang.content.constants.OtherValues.COMMA_DELIMITER;
 import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.AUTH_SQL;
+import static io.cloudslang.content.database.constants.DBDefaultValues.DEFAULT_BATCH_SIZE;
 import static io.cloudslang.content.database.constants.DBDefaultValues.NEW_LINE;
 import static io.cloudslang.content.database.constants.DBExceptionValues.NO_SQL_COMMAND;
 import static io.cloudslang.content.database.constants.DBInputNames.*;
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
+import static io.cloudslang.content.database.constants.DBOutputNames.BATCH_COUNT;
+import static io.cloudslang.content.database.constants.DBOutputNames.BATCH_UPDATE_COUNTS;
 import static io.cloudslang.content.database.constants.DBOutputNames.UPDATE_COUNT;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlScriptInputs;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
+import static io.cloudslang.content.utils.NumberUtilities.toInteger;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isNoneEmpty;
 
 /**
  * Created by pinteae on 1/11/2017.
@@ -92,12 +102,26 @@ public class SQLScript {
      * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
      *                                  Default: db.pooling.enable=false
      *                                  Example: db.pooling.enable=true
+     *                                  The pool provider is c3p0 by default, db.pooling.provider=hikari uses HikariCP.
      * @param resultSetType             The result set type. See JDBC folder description for more details.
      *                                  Valid values: TYPE_FORWARD_ONLY, TYPE_SCROLL_INSENSITIVE,TYPE_SCROLL_SENSITIVE.
      *                                  Default value: TYPE_FORWARD_ONLY
      * @param resultSetConcurrency      The result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param batchSize                 The number of commands sent to the database in one batch. When greater than 0 the script
+     *                                  file is read one command at a time, split by <delimiter>, instead of being loaded in memory.
+     *                                  The script file is then read as UTF-8.
+     *                                  Default value: 0 (all the commands are sent in one batch)
+     * @param commitPerBatch            Whether to commit after every batch instead of once at the end of the script.
+     *                                  Applies only when batchSize is greater than 0.
+     *                                  Default value: false
+     *                                  Valid values: true, false
+     * @param prepareInserts            Whether consecutive INSERT commands into the same table, with only string and number
+     *                                  values, are sent as one prepared statement with bound values.
+     *                                  Applies only when batchSize is greater than 0.
+     *                                  Default value: false
+     *                                  Valid values: true, false
      * @return Returns a success or failure message.
      */
     @Action(name = "SQL Script",
@@ -106,6 +130,8 @@ public class SQLScript {
                     @Output(RETURN_RESULT),
                     @Output(EXCEPTION),
                     @Output(UPDATE_COUNT),
+                    @Output(BATCH_COUNT),
+                    @Output(BATCH_UPDATE_COUNTS),
             },
             responses = {
                     @Response(text = ResponseNames.SUCCESS, field = RETURN_CODE, value = SUCCESS,
@@ -132,7 +158,10 @@ public class SQLScript {
                                        @Param(value = AUTH_LIBRARY_PATH) String authLibraryPath,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = BATCH_SIZE) String batchSize,
+                                       @Param(value = COMMIT_PER_BATCH) String commitPerBatch,
+                                       @Param(value = PREPARE_INSERTS) String prepareInserts) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -145,16 +174,20 @@ public class SQLScript {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        batchSize = defaultIfEmpty(batchSize, DEFAULT_BATCH_SIZE);
+        commitPerBatch = defaultIfEmpty(commitPerBatch, FALSE);
+        prepareInserts = defaultIfEmpty(prepareInserts, FALSE);
 
         final List<String> preInputsValidation = validateSqlScriptInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, sqlCommands, scriptFileName, trustAllRoots, trustStore, trustStorePassword,
-                resultSetType, resultSetConcurrency, authLibraryPath);
+                resultSetType, resultSetConcurrency, authLibraryPath, batchSize, commitPerBatch, prepareInserts);
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
         }
 
         dbType = getDbType(dbType);
         delimiter = defaultIfEmpty(delimiter, SEMI_COLON);
+        final boolean streamScript = toInteger(batchSize) > 0 && isNoneEmpty(scriptFileName);
         final SQLInputs sqlInputs = SQLInputs.builder()
                 .dbServer(dbServerName)
                 .dbType(dbType)
@@ -167,7 +200,8 @@ public class SQLScript {
                 .dbClass(getOrDefaultDBClass(dbClass, dbType))
                 .dbUrl(defaultIfEmpty(dbURL, EMPTY))
                 .strDelim(delimiter)
-                .sqlCommands(getSqlCommands(sqlCommands, scriptFileName, delimiter))
+                .sqlCommands(streamScript ? null : getSqlCommands(sqlCommands, scriptFileName, delimiter))
+                .scriptFileName(scriptFileName)
                 .trustAllRoots(toBoolean(trustAllRoots))
                 .trustStore(trustStore)
                 .trustStorePassword(trustStorePassword)
@@ -176,9 +210,28 @@ public class SQLScript {
                 .resultSetType(getResultSetType(resultSetType))
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .isNetcool(checkIsNetcool(dbType))
+                .batchSize(toInteger(batchSize))
+                .commitPerBatch(toBoolean(commitPerBatch))
+                .prepareInserts(toBoolean(prepareInserts))
                 .build();
 
         try {
+            if (sqlInputs.getBatchSize() > 0) {
+                final String res;
+                if (streamScript) {
+                    try (final SQLScriptReader reader = new SQLScriptReader(
+                            new InputStreamReader(new FileInputStream(scriptFileName), StandardCharsets.UTF_8), delimiter)) {
+                        res = SQLScriptService.executeSqlScriptInBatches(reader, sqlInputs);
+                    }
+                } else {
+                    res = SQLScriptService.executeSqlScriptInBatches(sqlInputs.getSqlCommands().iterator(), sqlInputs);
+                }
+                final Map<String, String> result = getSuccessResultsMap(res);
+                result.put(UPDATE_COUNT, String.valueOf(sqlInputs.getIUpdateCount()));
+                result.put(BATCH_COUNT, String.valueOf(sqlInputs.getBatchUpdateCounts().size()));
+                result.put(BATCH_UPDATE_COUNTS, StringUtils.join(sqlInputs.getBatchUpdateCounts(), COMMA_DELIMITER));
+                return result;
+            }
             final List<String> commands = sqlInputs.getSqlCommands();
             if (!commands.isEmpty()) {
                 final String res = SQLScriptService.executeSqlScript(commands, sqlInputs);
@@ -24,4 +24,7 @@ public class DBDefaultValues {
     public static final String AUTH_SQL = "Sql";
     public static final String DEFAULT_TIMEOUT = "120";
     public static final String NEW_LINE = "\n";
+    public static final String DEFAULT_FETCH_SIZE = "0";
+    public static final String DEFAULT_BATCH_SIZE = "0";
+    public static final String DEFAULT_QUERY_PARAMETERS_DELIMITER = ",";
 }
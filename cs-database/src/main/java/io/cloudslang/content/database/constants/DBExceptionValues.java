@@ -45,4 +45,10 @@ public class DBExceptionValues extends ExceptionValues {
     public static final String INVALID_COMMANDS_EXCLUSIVITY = "Only one of the sqlCommands and scriptFileName can be specified";
     public static final String INVALID_AUTHENTICATION_TYPE_FOR_MS_SQL = "Invalid authentication type for MS SQL : ";
     public static final String NO_SQL_COMMAND = "No SQL command to be executed.";
+    public static final String INVALID_FETCH_SIZE = "fetchSize must be a positive integer or 0.";
+    public static final String INVALID_OUTPUT_FORMAT = "outputFormat must be 'csv' or 'jsonl'.";
+    public static final String INVALID_BATCH_SIZE = "batchSize must be a positive integer or 0.";
+    public static final String INVALID_COMMIT_PER_BATCH = "commitPerBatch must be 'true' or 'false'";
+    public static final String INVALID_PREPARE_INSERTS = "prepareInserts must be 'true' or 'false'";
+    public static final String INVALID_LOB_SPOOL = "lobSpool must be 'true' or 'false'";
 }
@@ -50,6 +50,15 @@ public class DBInputNames extends InputNames {
     public static final String SCRIPT_FILE_NAME = "scriptFileName";
     public static final String GLOBAL_SESSION_OBJECT = "globalSessionObject";
     public static final String SQL_COMMANDS = "sqlCommands";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String OUTPUT_FILE = "outputFile";
+    public static final String OUTPUT_FORMAT = "outputFormat";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String COMMIT_PER_BATCH = "commitPerBatch";
+    public static final String PREPARE_INSERTS = "prepareInserts";
+    public static final String QUERY_PARAMETERS = "queryParameters";
+    public static final String QUERY_PARAMETERS_DELIMITER = "queryParametersDelimiter";
+    public static final String LOB_SPOOL = "lobSpool";
 
 
     public static final String MS_DELIMITER = "Delimiter";
@@ -67,5 +67,10 @@ public class DBOtherValues {
     public static final String KEY_FILES = "%s - Files";
     public static final String KEY_CLOB_NAMES = "%s - CLOBNames";
     public static final String KEY_SKIP = "%s - Skip";
+    public static final String KEY_LOB_SPOOL = "%s - LobSpool";
+
+    public static final String CSV_FORMAT = "csv";
+    public static final String JSONL_FORMAT = "jsonl";
+    public static final int DEFAULT_FLUSH_ROWS = 1000;
 
 }
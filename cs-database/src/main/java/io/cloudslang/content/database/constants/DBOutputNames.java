@@ -28,4 +28,8 @@ public class DBOutputNames extends OutputNames {
     public static final String OUTPUT_TEXT = "outputText";
     public static final String COLUMN_NAMES = "columnNames";
     public static final String SQL_QUERY = "sqlQuery";
+    public static final String ROW_COUNT = "rowCount";
+    public static final String ELAPSED_TIME = "elapsedTime";
+    public static final String BATCH_COUNT = "batchCount";
+    public static final String BATCH_UPDATE_COUNTS = "batchUpdateCounts";
 }
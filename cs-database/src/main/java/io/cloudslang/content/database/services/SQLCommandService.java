@@ -19,6 +19,7 @@ package io.cloudslang.content.database.services;
 
 import io.cloudslang.content.database.utils.OracleDbmsOutput;
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLParameters;
 import io.cloudslang.content.database.utils.SQLUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -42,7 +43,9 @@ public class SQLCommandService {
             final String dbType = sqlInputs.getDbType();
             if (ORACLE_DB_TYPE.equalsIgnoreCase(dbType) && sqlInputs.getSqlCommand().toLowerCase().contains(DBMS_OUTPUT)) {
 
-                final PreparedStatement preparedStatement = connection.prepareStatement(sqlInputs.getSqlCommand());
+                final PreparedStatement preparedStatement = SQLParameters.hasParameters(sqlInputs) ?
+                        SQLParameters.prepareStatement(connection, sqlInputs, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY) :
+                        connection.prepareStatement(sqlInputs.getSqlCommand());
                 preparedStatement.setQueryTimeout(sqlInputs.getTimeout());
                 OracleDbmsOutput oracleDbmsOutput = new OracleDbmsOutput(connection);
                 preparedStatement.executeQuery();
@@ -52,10 +55,17 @@ public class SQLCommandService {
                 oracleDbmsOutput.close();
                 return output;
             } else {
-                final Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                final boolean hasParameters = SQLParameters.hasParameters(sqlInputs);
+                final Statement statement = hasParameters ?
+                        SQLParameters.prepareStatement(connection, sqlInputs, sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency()) :
+                        connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
                 statement.setQueryTimeout(sqlInputs.getTimeout());
                 try {
-                    statement.execute(sqlInputs.getSqlCommand());
+                    if (hasParameters) {
+                        ((PreparedStatement) statement).execute();
+                    } else {
+                        statement.execute(sqlInputs.getSqlCommand());
+                    }
                 } catch (SQLException e) {
                     if (SYBASE_DB_TYPE.equalsIgnoreCase(dbType)) {
                         //during a dump sybase sends back status as exceptions.
@@ -20,12 +20,22 @@ package io.cloudslang.content.database.services;
 
 import io.cloudslang.content.database.utils.Format;
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLParameters;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import static io.cloudslang.content.database.constants.DBOtherValues.DEFAULT_FLUSH_ROWS;
+import static io.cloudslang.content.database.constants.DBOtherValues.JSONL_FORMAT;
+
 /**
  * Created by victor on 13.01.2017.
  */
@@ -42,10 +52,17 @@ public class SQLQueryAllRowsService {
         try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
             connection.setReadOnly(true);
 
-            Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+            final boolean hasParameters = SQLParameters.hasParameters(sqlInputs);
+            Statement statement = hasParameters ?
+                    SQLParameters.prepareStatement(connection, sqlInputs, sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency()) :
+                    connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
 
             statement.setQueryTimeout(sqlInputs.getTimeout());
-            final ResultSet resultSet = statement.executeQuery(sqlInputs.getSqlCommand());
+            if (sqlInputs.getFetchSize() > 0) {
+                statement.setFetchSize(sqlInputs.getFetchSize());
+            }
+            final ResultSet resultSet = hasParameters ? ((PreparedStatement) statement).executeQuery() :
+                    statement.executeQuery(sqlInputs.getSqlCommand());
 
             final String resultSetToDelimitedColsAndRows = Format.resultSetToDelimitedColsAndRows(resultSet, sqlInputs.isNetcool(), sqlInputs.getColDelimiter(), sqlInputs.getRowDelimiter());
             if (resultSet != null) {
@@ -54,4 +71,55 @@ public class SQLQueryAllRowsService {
             return resultSetToDelimitedColsAndRows;
         }
     }
+
+    /**
+     * Run a SQL query on a forward only cursor and write the rows to the output file, or pipe, as they are fetched.
+     * The rows are fetched from the database fetchSize at a time and the output is flushed after every fetch.
+     *
+     * @return the number of rows written
+     * @throws Exception
+     */
+    public static long execQueryAllRowsToFile(@NotNull final SQLInputs sqlInputs) throws Exception {
+        ConnectionService connectionService = new ConnectionService();
+        try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
+            //a pooled connection goes back to the pool with the settings it was checked out with
+            final boolean readOnly = connection.isReadOnly();
+            final boolean autoCommit = connection.getAutoCommit();
+            try {
+                connection.setReadOnly(true);
+                //some drivers (PostgreSQL) only stream the rows through a cursor opened outside of auto-commit
+                if (autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+                final boolean hasParameters = SQLParameters.hasParameters(sqlInputs);
+                try (final Statement statement = hasParameters ?
+                        SQLParameters.prepareStatement(connection, sqlInputs, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY) :
+                        connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                     final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(sqlInputs.getOutputFile()), StandardCharsets.UTF_8))) {
+                    statement.setQueryTimeout(sqlInputs.getTimeout());
+                    if (sqlInputs.getFetchSize() > 0) {
+                        statement.setFetchSize(sqlInputs.getFetchSize());
+                    }
+                    final int flushRows = sqlInputs.getFetchSize() > 0 ? sqlInputs.getFetchSize() : DEFAULT_FLUSH_ROWS;
+                    try (final ResultSet resultSet = hasParameters ? ((PreparedStatement) statement).executeQuery() :
+                            statement.executeQuery(sqlInputs.getSqlCommand())) {
+                        if (JSONL_FORMAT.equalsIgnoreCase(sqlInputs.getOutputFormat())) {
+                            return Format.resultSetToJsonLines(resultSet, sqlInputs.isNetcool(), writer, flushRows);
+                        }
+                        return Format.resultSetToCsv(resultSet, sqlInputs.isNetcool(), sqlInputs.getColDelimiter(),
+                                sqlInputs.getRowDelimiter(), writer, flushRows);
+                    }
+                }
+            } finally {
+                //the transaction ends before the read only flag changes, some drivers refuse it inside a transaction
+                try {
+                    if (autoCommit) {
+                        connection.setAutoCommit(true);
+                    }
+                } finally {
+                    connection.setReadOnly(readOnly);
+                }
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package io.cloudslang.content.database.services;
 
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLLobSpool;
 import io.cloudslang.content.database.utils.SQLUtils;
 import org.apache.commons.io.input.ReaderInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +39,14 @@ import static org.apache.commons.io.FileUtils.*;
 public class SQLQueryLobService {
 
     public static boolean executeSqlQueryLob(SQLInputs sqlInputs) throws Exception {
+        return executeSqlQueryLob(sqlInputs, null);
+    }
+
+    /**
+     * Runs the query and writes all its CLOB and BLOB values to the spool instead of one temporary file per value.
+     * The spool is finished when the query is done, ready to be read.
+     */
+    public static boolean executeSqlQueryLob(SQLInputs sqlInputs, SQLLobSpool lobSpool) throws Exception {
         if (StringUtils.isEmpty(sqlInputs.getSqlCommand())) {
             throw new Exception("command input is empty.");
         }
@@ -68,7 +77,15 @@ public class SQLQueryLobService {
                     Object columnObject = results.getObject(i);
                     if (columnObject != null) {
                         String value;
-                        if (columnObject instanceof java.sql.Clob) {
+                        if (lobSpool != null && columnObject instanceof java.sql.Clob) {
+                            isLOB = true;
+                            lobSpool.writeClob(nr, mtd.getColumnLabel(i), results.getCharacterStream(i));
+                            value = "(CLOB)...";
+                        } else if (lobSpool != null && columnObject instanceof java.sql.Blob) {
+                            isLOB = true;
+                            lobSpool.writeBlob(nr, mtd.getColumnLabel(i), results.getBinaryStream(i));
+                            value = "(BLOB)...";
+                        } else if (columnObject instanceof java.sql.Clob) {
                             isLOB = true;
                             final File tmpFile = File.createTempFile("CLOB_" + mtd.getColumnLabel(i), ".txt");
 
@@ -94,6 +111,9 @@ public class SQLQueryLobService {
                 sqlInputs.getLRows().add(strRowHolder.toString());
             }
         }
+        if (lobSpool != null) {
+            lobSpool.finish();
+        }
 
         return isLOB;
     }
@@ -18,11 +18,13 @@
 package io.cloudslang.content.database.services;
 
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLParameters;
 import io.cloudslang.content.database.utils.SQLUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
@@ -40,9 +42,17 @@ public class SQLQueryService {
         try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
 
             connection.setReadOnly(true);
-            Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
-            statement.setQueryTimeout(sqlInputs.getTimeout());
-            final ResultSet results = statement.executeQuery(sqlInputs.getSqlCommand());
+            final ResultSet results;
+            if (SQLParameters.hasParameters(sqlInputs)) {
+                final PreparedStatement statement = SQLParameters.prepareStatement(connection, sqlInputs,
+                        sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                results = statement.executeQuery();
+            } else {
+                Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                results = statement.executeQuery(sqlInputs.getSqlCommand());
+            }
 
             final ResultSetMetaData mtd = results.getMetaData();
 
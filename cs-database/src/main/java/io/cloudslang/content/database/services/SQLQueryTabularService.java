@@ -44,6 +44,9 @@ public class SQLQueryTabularService {
 
             final Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
             statement.setQueryTimeout(sqlInputs.getTimeout());
+            if (sqlInputs.getFetchSize() > 0) {
+                statement.setFetchSize(sqlInputs.getFetchSize());
+            }
 
             final ResultSet resultSet = statement.executeQuery(sqlInputs.getSqlCommand());
 
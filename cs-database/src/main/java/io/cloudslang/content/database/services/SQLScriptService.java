@@ -19,13 +19,18 @@ package io.cloudslang.content.database.services;
 
 
 import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLInsertTemplate;
 import io.cloudslang.content.database.utils.SQLUtils;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static io.cloudslang.content.database.constants.DBExceptionValues.NO_SQL_COMMAND;
 import static io.cloudslang.content.database.constants.DBOtherValues.SYBASE_DB_TYPE;
 
 /**
@@ -83,4 +88,164 @@ public class SQLScriptService {
         }
         return "Command completed successfully";
     }
+
+    /**
+     * Executes the commands in batches of 'batchSize' commands, taking them from the iterator only when they are needed.
+     * <p>
+     * The whole script is committed at the end, or after every batch when 'commitPerBatch' is set. When a batch fails
+     * the work that wasn't committed yet is rolled back. The update count of every batch is kept in 'batchUpdateCounts'.
+     */
+    public static String executeSqlScriptInBatches(Iterator<String> commands, SQLInputs sqlInputs) throws Exception {
+        if (commands == null || !commands.hasNext()) {
+            throw new Exception(NO_SQL_COMMAND);
+        }
+        final List<Integer> batchUpdateCounts = new ArrayList<>();
+        int updateCount = 0;
+        ConnectionService connectionService = new ConnectionService();
+        try (final Connection connection = connectionService.setUpConnection(sqlInputs);
+             final ScriptBatch batch = new ScriptBatch(connection, sqlInputs)) {
+
+            try {
+                connection.setReadOnly(false);
+            } catch (Exception e) {
+            } // not all drivers support this
+
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                while (commands.hasNext()) {
+                    batch.add(commands.next());
+                    if (batch.size() >= sqlInputs.getBatchSize()) {
+                        updateCount += executeBatch(connection, batch, batchUpdateCounts, sqlInputs.isCommitPerBatch());
+                    }
+                }
+                if (batch.size() > 0) {
+                    updateCount += executeBatch(connection, batch, batchUpdateCounts, false);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new SQLException("Batch " + (batchUpdateCounts.size() + 1) + " failed: " + e.getMessage(),
+                        e.getSQLState(), e.getErrorCode(), e);
+            } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        sqlInputs.setIUpdateCount(updateCount);
+        sqlInputs.setBatchUpdateCounts(batchUpdateCounts);
+        return "Command completed successfully";
+    }
+
+    private static int executeBatch(final Connection connection, final ScriptBatch batch, final List<Integer> batchUpdateCounts,
+                                    final boolean commit) throws SQLException {
+        final int updateCount = batch.execute();
+        if (commit) {
+            connection.commit();
+        }
+        batchUpdateCounts.add(updateCount);
+        return updateCount;
+    }
+
+    /**
+     * The commands of the current batch. Consecutive INSERT commands with the same template go to one prepared
+     * statement, all the others to a plain statement, and the pending commands are sent to the database every time
+     * the statement changes, so they are executed in the order of the script.
+     */
+    private static class ScriptBatch implements AutoCloseable {
+        private final Connection connection;
+        private final SQLInputs sqlInputs;
+        private Statement statement;
+        private PreparedStatement preparedStatement;
+        private String preparedSql;
+        private Statement pendingStatement;
+        private int size;
+        private int updateCount;
+
+        ScriptBatch(final Connection connection, final SQLInputs sqlInputs) {
+            this.connection = connection;
+            this.sqlInputs = sqlInputs;
+        }
+
+        void add(final String command) throws SQLException {
+            final SQLInsertTemplate template = sqlInputs.isPrepareInserts() ? SQLInsertTemplate.parse(command) : null;
+            if (template != null) {
+                if (!template.getSql().equals(preparedSql)) {
+                    flush();
+                    closePreparedStatement();
+                    preparedStatement = connection.prepareStatement(template.getSql());
+                    preparedStatement.setQueryTimeout(sqlInputs.getTimeout());
+                    preparedSql = template.getSql();
+                }
+                template.bind(preparedStatement);
+                addToBatch(preparedStatement, null);
+            } else {
+                if (statement == null) {
+                    statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                    statement.setQueryTimeout(sqlInputs.getTimeout());
+                }
+                addToBatch(statement, command);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * @return the update count of the batch.
+         */
+        int execute() throws SQLException {
+            flush();
+            final int batchUpdateCount = updateCount;
+            size = 0;
+            updateCount = 0;
+            return batchUpdateCount;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                closePreparedStatement();
+            } finally {
+                if (statement != null) {
+                    statement.close();
+                }
+            }
+        }
+
+        private void addToBatch(final Statement target, final String command) throws SQLException {
+            if (pendingStatement != target) {
+                flush();
+            }
+            if (command == null) {
+                ((PreparedStatement) target).addBatch();
+            } else {
+                target.addBatch(command);
+            }
+            pendingStatement = target;
+            size++;
+        }
+
+        private void flush() throws SQLException {
+            if (pendingStatement != null) {
+                for (int count : pendingStatement.executeBatch()) {
+                    if (count > 0) {
+                        updateCount += count;
+                    }
+                }
+                pendingStatement = null;
+            }
+        }
+
+        private void closePreparedStatement() throws SQLException {
+            if (preparedStatement != null) {
+                preparedStatement.close();
+                preparedStatement = null;
+                preparedSql = null;
+            }
+        }
+    }
 }
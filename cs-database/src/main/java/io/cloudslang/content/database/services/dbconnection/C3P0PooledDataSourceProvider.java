@@ -68,6 +68,10 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
     //trying to getConneciton on its own if the connection fails. set this to
     //be true to clean the pool, so it won't keep trying
     private final static String C3P0_BREAK_AFTERACQUIREFAILURE_NAME = "breakAfterAcquireFailure";
+    //deal with parsing the same statements again, c3p0 keeps a LRU cache of
+    //prepared statements for every pooled connection
+    //set default 20
+    private final static String C3P0_MAX_STATEMENTS_PER_CONNECTION_NAME = "maxStatementsPerConnection";
 
     /**
      * constructor
@@ -193,6 +197,11 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
                 CONNECTION_BREAKAFTERACQUIREFAILURE_DEFAULT_VALUE);
         retMap.put(C3P0_BREAK_AFTERACQUIREFAILURE_NAME, breakAfterFailure);
 
+        //prepared statement cache
+        String statementCacheSize = this.getPropStringValue(CONNECTION_STATEMENT_CACHE_SIZE_NAME,
+                CONNECTION_STATEMENT_CACHE_SIZE_DEFAULT_VALUE);
+        retMap.put(C3P0_MAX_STATEMENTS_PER_CONNECTION_NAME, statementCacheSize);
+
         //db specific properties
         //connection life time
         String conLifeTimeName;
@@ -247,6 +256,12 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
         return pDs.getNumBusyConnectionsAllUsers();
     }
 
+    public int getThreadsAwaitingCheckoutNumber(DataSource aPooledDataSource)
+            throws SQLException {
+        PooledDataSource pDs = (PooledDataSource) aPooledDataSource;
+        return pDs.getNumThreadsAwaitingCheckoutDefaultUser();
+    }
+
 }//end of C3P0PooledDataSourceProvider
 
 	
@@ -0,0 +1,64 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import org.apache.commons.codec.binary.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+
+/**
+ * Salted fingerprints of the credentials a pooled datasource is opened with, used in the keys of the datasource table
+ * instead of the password.
+ * <p>
+ * The fingerprint is computed on every check out rather than cached: a cache would have to be keyed by the credentials
+ * themselves to save the digest, and one SHA-256 over the url, username and password is cheap next to the check out.
+ * The salt is random for every instance, a fingerprint is only meaningful inside the manager that computed it.
+ */
+public class CredentialFingerprint {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final int SALT_LENGTH = 16;
+    private static final char SEPARATOR = '\u0000';
+
+    private final byte[] salt = new byte[SALT_LENGTH];
+
+    public CredentialFingerprint() {
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * @param aDbUrl    connection url
+     * @param aUsername username to connect to db
+     * @param aPassword password to connect to db
+     * @return the hex encoded fingerprint of the credentials
+     * @throws SQLException if the fingerprint algorithm is not available
+     */
+    public String getFingerprint(String aDbUrl, String aUsername, String aPassword) throws SQLException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            digest.update(salt);
+            String credentials = aDbUrl + SEPARATOR + aUsername + SEPARATOR + aPassword;
+            return Hex.encodeHexString(digest.digest(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new SQLException("Failed to fingerprint the credentials, " + FINGERPRINT_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -19,13 +19,17 @@ package io.cloudslang.content.database.services.dbconnection;
 
 import com.mchange.v2.c3p0.PooledDataSource;
 import io.cloudslang.content.database.services.dbconnection.PooledDataSourceCleaner.STATE_CLEANER;
-import io.cloudslang.content.database.utils.TripleDES;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.cloudslang.content.database.constants.DBOtherValues.MSSQL_DB_TYPE;
 import static io.cloudslang.content.database.utils.Constants.AUTH_WINDOWS;
@@ -48,6 +52,11 @@ public class DBConnectionManager {
     //default is false, meaning if the databasePooling.properties is not
     //there or the property is not there, then we don't want to have pooling
     private static final String DB_POOL_ENABLE_DEFAULT_VALUE = "false";
+    //property that selects the pooled datasource provider
+    private static final String DB_POOL_PROVIDER_NAME = "db.pooling.provider";
+    //c3p0 is the default provider
+    public static final String C3P0_PROVIDER = "c3p0";
+    public static final String HIKARI_PROVIDER = "hikari";
     //max number of connections for db server, this will control all the pooled
     //datasources for same db server.
     private final static String MAX_TOTAL_POOL_SIZE_DEFAULT_VALUE = "100";
@@ -74,27 +83,43 @@ public class DBConnectionManager {
     //custom
     private final static String CUSTOM_MAX_POOL_SIZE_NAME =
             "custom.connection.total.maxpoolsize";
+    //check outs that found their datasource closed by the cleaner are retried once on a new datasource
+    private final static int MAX_CHECKOUT_ATTEMPTS = 2;
     //singleton instance, make it protected so it can be mocked
     protected static volatile DBConnectionManager instance = null;
     //table to hole the providers, for now it only has c3p0 provider
-    protected Hashtable<String, PooledDataSourceProvider> providerTable = null;
+    protected volatile ConcurrentMap<String, PooledDataSourceProvider> providerTable = null;
     //dbms pool table, key = dbType + "." + dbUrl
     //the reason that keep the dbType is we might use this dbType to find what
     //datasource provider later if we have different kinds of datasource provider
     //right now we only have one provider c3p0. Other provider might be implemented
     //if it is necessary.
-    //the dbms pool table will have Hashtable dsTable which contians DataSources
-    //the key for the dsTable is dbUrl + "." + username + "." + encryptedpassword
-    //hashtable is synchronized already
-    protected Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = null;
+    //the dbms pool table will have a dsTable which contians DataSources
+    //the key for the dsTable is dbUrl + "." + username + "." + credential fingerprint
+    //both tables are read without locking, datasources are only created under
+    //the creation lock of their dbms pool key
+    protected volatile ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = null;
+    //one lock per dbms pool key, held while a datasource of that dbms is created
+    //or removed, never while a connection is checked out
+    private final ConcurrentMap<String, Object> creationLocks = new ConcurrentHashMap<>();
+    //salted fingerprints of the credentials, used in the dsTable keys instead of the password
+    protected final CredentialFingerprint credentialFingerprint = new CredentialFingerprint();
+    //name of the provider of each dbms pool, key = dbType + "." + dbUrl
+    //all the datasources of a dbms pool come from the same provider
+    protected final ConcurrentMap<String, String> poolProviderNames = new ConcurrentHashMap<>();
+    //check out statistics of each dbms pool, key = dbType + "." + dbUrl
+    protected final ConcurrentMap<String, PooledDataSourceMetrics> poolMetrics = new ConcurrentHashMap<>();
     //properties that contain configurable connection pooling params
-    protected Properties dbPoolingProperties = null;
+    protected volatile Properties dbPoolingProperties = null;
+    //the properties that were fully applied, published only after the pool table and the cleaner exist
+    //so the callers that skip the lock never see a half initialized manager
+    private volatile Properties appliedDbPoolingProperties = null;
     /**
      * if the pooling is enabled or not, default is false
      */
-    protected boolean isPoolingEnabled = false;
+    protected volatile boolean isPoolingEnabled = false;
     //datasource cleaner to clean the datasource with 0 connections.
-    private PooledDataSourceCleaner datasourceCleaner = null;
+    private volatile PooledDataSourceCleaner datasourceCleaner = null;
     //the thread that will run the cleaner runnable
     private Thread cleanerThread = null;
 
@@ -129,23 +154,28 @@ public class DBConnectionManager {
     }
 
     private void customizeDBConnectionManager(Properties dbPoolingProperties) {
-        customizeDbPoolingProperties(dbPoolingProperties);
-        if (isPoolingEnabled) {
-            createPoolTable();
-            createCleaner();
+        //most of the calls come with the properties already applied
+        if (dbPoolingProperties == null || dbPoolingProperties.size() == 0 || dbPoolingProperties.equals(appliedDbPoolingProperties)) {
+            return;
         }
-    }
-
-    private void customizeDbPoolingProperties(Properties dbPoolingProperties) {
-        if (dbPoolingProperties != null && dbPoolingProperties.size() > 0) {
-            this.dbPoolingProperties = dbPoolingProperties;
-            this.isPoolingEnabled = this.getPropBooleanValue(DB_POOL_ENABLE_NAME, DB_POOL_ENABLE_DEFAULT_VALUE);
+        synchronized (this) {
+            if (dbPoolingProperties.equals(appliedDbPoolingProperties)) {
+                return;
+            }
+            this.dbPoolingProperties = (Properties) dbPoolingProperties.clone();
+            boolean poolingEnabled = this.getPropBooleanValue(DB_POOL_ENABLE_NAME, DB_POOL_ENABLE_DEFAULT_VALUE);
+            if (poolingEnabled) {
+                createPoolTable();
+                createCleaner();
+            }
+            this.isPoolingEnabled = poolingEnabled;
+            appliedDbPoolingProperties = this.dbPoolingProperties;
         }
     }
 
     private void createPoolTable() {
         if (dbmsPoolTable == null) {
-            dbmsPoolTable = new Hashtable<>();
+            dbmsPoolTable = new ConcurrentHashMap<>();
         }
     }
 
@@ -168,7 +198,7 @@ public class DBConnectionManager {
      * @return a Connection to db
      * @throws SQLException
      */
-    public synchronized Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
+    public Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
             throws SQLException {
         if (isEmpty(aDbUrl)) {
             throw new SQLException("Failed to check out connection dbUrl is empty");
@@ -197,11 +227,9 @@ public class DBConnectionManager {
 
             //if the runnable has been shutdown when dbmspoolsize is 0
             //then need to resumbit to the thread and start it again
-            if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN) {
-                //submit it to the thread to run
-                cleanerThread = new Thread(datasourceCleaner);
-                cleanerThread.setPriority(Thread.MIN_PRIORITY);
-                cleanerThread.start();
+            PooledDataSourceCleaner cleaner = datasourceCleaner;
+            if (cleaner == null || cleaner.getState() == STATE_CLEANER.SHUTDOWN) {
+                restartCleaner();
             }
             //will use pooled datasource provider
             return getPooledConnection(aDbType, aDbUrl, aUsername, aPassword);
@@ -213,84 +241,51 @@ public class DBConnectionManager {
      * clean any empty datasource and pool in the dbmsPool table.
      */
     public void cleanDataSources() {
+        final ConcurrentMap<String, ConcurrentMap<String, DataSource>> poolTable = dbmsPoolTable;
+        if (poolTable == null) {
+            return;
+        }
+
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : poolTable.entrySet()) {
+            String dbPoolKey = pool.getKey();
+            ConcurrentMap<String, DataSource> dsTable = pool.getValue();
+
+            PooledDataSourceProvider provider = this.getProvider(dbPoolKey);
+
+            //the connections are counted under the lock the check outs verify their datasource with,
+            //so a datasource is never closed under a connection that was just checked out
+            synchronized (getCreationLock(dbPoolKey)) {
+                for (Map.Entry<String, DataSource> dsEntry : dsTable.entrySet()) {
+                    DataSource ds = dsEntry.getValue();
 
-        Hashtable<String, List<String>> removedDsKeyTable = null;
-
-        //gather all the empty ds's key, can't remove item while iterate
-        Enumeration<String> allPoolKeys = dbmsPoolTable.keys();
-        while (allPoolKeys.hasMoreElements()) {
-            String dbPoolKey = allPoolKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbPoolKey);
-            Enumeration<String> allDsKeys = dsTable.keys();
-            while (allDsKeys.hasMoreElements()) {
-                String dsKey = allDsKeys.nextElement();
-                DataSource ds = dsTable.get(dsKey);
-
-                //c3p0 impl
-                if (ds != null && ds instanceof PooledDataSource) {
-                    PooledDataSource pDs = (PooledDataSource) ds;
                     int conCount;
                     try {
-                        conCount = pDs.getNumConnectionsAllUsers();
+                        //c3p0 impl
+                        conCount = ds instanceof PooledDataSource ?
+                                ((PooledDataSource) ds).getNumConnectionsAllUsers() : provider.getAllConnectionNumber(ds);
                     } catch (SQLException e) {
-//                  todo      logger.error
-//                                ("Failed to get total number of connections for datasource. dbmsPoolKey = "
-//                                        + dbPoolKey, e);
+//                      todo      logger.error
+//                                    ("Failed to get total number of connections for datasource. dbmsPoolKey = "
+//                                            + dbPoolKey, e);
                         continue;
                     }
                     //no connections
                     if (conCount == 0) {
-                        List<String> removedList = null;
-                        if (removedDsKeyTable == null) {
-                            removedDsKeyTable = new Hashtable<>();
-                        } else {
-                            removedList = removedDsKeyTable.get(dbPoolKey);
+                        dsTable.remove(dsEntry.getKey(), ds);
+                        try {
+                            provider.closePooledDataSource(ds);
+                        } catch (SQLException e) {
+                            //can't show the dsKey since it has encrypted password there
+//                      todo      logger.error("Failed to close datadsource in dmbs poolKey = "
+//                                    + dbPoolKey, e);
                         }
-
-                        if (removedList == null) {
-                            removedList = new ArrayList<>();
-                            removedList.add(dsKey);
-                            removedDsKeyTable.put(dbPoolKey, removedList);
-                        } else {
-                            removedList.add(dsKey);
-                        }
-                    }
-                }
-            }
-        }
-
-        //have empty ds
-        if (removedDsKeyTable != null && !removedDsKeyTable.isEmpty()) {
-            Enumeration<String> removedPoolKeys = removedDsKeyTable.keys();
-            while (removedPoolKeys.hasMoreElements()) {
-                String removedPoolKey = removedPoolKeys.nextElement();
-                PooledDataSourceProvider provider = this.getProvider(removedPoolKey);
-                List<String> removedDsList = removedDsKeyTable.get(removedPoolKey);
-                Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(removedPoolKey);
-                for (String dsKey : removedDsList) {
-                    DataSource removedDs = dsTable.remove(dsKey);
-                    try {
-                        provider.closePooledDataSource(removedDs);
-                    } catch (SQLException e) {
-                        //can't show the dsKey since it has encrypted password there
-//                  todo      logger.error("Failed to close datadsource in dmbs poolKey = "
-//                                + removedPoolKey, e);
-                        continue;
                     }
-
-                    //tracing
-//                todo    if (logger.isDebugEnabled()) {
-//                        logger.debug("Removed one datasource in dbms poolKey = "
-//                                + removedPoolKey);
-//                    }
                 }
                 //don't have any ds for the pool key
                 if (dsTable.isEmpty()) {
-                    dbmsPoolTable.remove(removedPoolKey);
-                    //tracing
-//              todo      if (logger.isDebugEnabled()) {
-//                        logger.debug("Removed dbms poolKey = " + removedPoolKey);
-//                    }
+                    poolTable.remove(dbPoolKey, dsTable);
+                    poolMetrics.remove(dbPoolKey);
+                    poolProviderNames.remove(dbPoolKey);
                 }
             }
         }
@@ -302,20 +297,23 @@ public class DBConnectionManager {
     public synchronized void shutdownDbmsPools() {
         //force shutdown
         //runnable
-        datasourceCleaner.shutdown();
-        datasourceCleaner = null;
+        if (datasourceCleaner != null) {
+            datasourceCleaner.shutdown();
+            datasourceCleaner = null;
+        }
         //shell for the runnable
-        cleanerThread.interrupt();//stop the thread
-        cleanerThread = null;
+        if (cleanerThread != null) {
+            cleanerThread.interrupt();//stop the thread
+            cleanerThread = null;
+        }
 
         if (dbmsPoolTable == null) {
             return;
         }
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsKey = allDbmsKeys.nextElement();
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : dbmsPoolTable.entrySet()) {
+            String dbmsKey = pool.getKey();
             PooledDataSourceProvider provider = this.getProvider(dbmsKey);
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
+            ConcurrentMap<String, DataSource> dsTable = pool.getValue();
             for (DataSource ds : dsTable.values()) {
                 try {
                     provider.closePooledDataSource(ds);
@@ -326,8 +324,10 @@ public class DBConnectionManager {
             }
             dsTable.clear();
         }
+        //the table stays in place, the check outs read it without locking
         dbmsPoolTable.clear();
-        dbmsPoolTable = null;
+        poolMetrics.clear();
+        poolProviderNames.clear();
     }
 
     /**
@@ -383,19 +383,93 @@ public class DBConnectionManager {
         }
     }
 
+    /**
+     * start the cleaner again after it stopped itself on empty pools or after the pools were shut down.
+     */
+    private synchronized void restartCleaner() {
+        if (datasourceCleaner == null) {
+            createCleaner();
+        } else if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN
+                && (cleanerThread == null || !cleanerThread.isAlive())) {
+            //submit it to the thread to run
+            cleanerThread = new Thread(datasourceCleaner);
+            cleanerThread.setPriority(Thread.MIN_PRIORITY);
+            cleanerThread.start();
+        }
+    }
+
+    /**
+     * @param aDbmsPoolKey a dbms pool key
+     * @return the lock guarding the creation and removal of the datasources of that dbms
+     */
+    private Object getCreationLock(String aDbmsPoolKey) {
+        Object lock = creationLocks.get(aDbmsPoolKey);
+        if (lock == null) {
+            Object newLock = new Object();
+            lock = creationLocks.putIfAbsent(aDbmsPoolKey, newLock);
+            if (lock == null) {
+                lock = newLock;
+            }
+        }
+        return lock;
+    }
+
     /**
      * @param aDbmsPoolKey a key to find the datasource table
      * @return a PooledDataSourceProvider
      */
     private PooledDataSourceProvider getProvider(String aDbmsPoolKey) {
-        PooledDataSourceProvider retProvider;
-        //now we only has one provider, later should use that key to find
-        //what type of db and find provider since first part of that key is dbType
-        String providerName = C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME;
+        String providerName = poolProviderNames.get(aDbmsPoolKey);
+        if (providerName == null) {
+            providerName = C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME;
+        }
+        return providerTable.get(providerName);
+    }
 
-        retProvider = providerTable.get(providerName);
+    /**
+     * @return the name of the provider selected by the db.pooling.provider property
+     * @throws SQLException if the property has an unsupported value
+     */
+    private String getConfiguredProviderName() throws SQLException {
+        String provider = dbPoolingProperties.getProperty(DB_POOL_PROVIDER_NAME, C3P0_PROVIDER).trim();
+        if (C3P0_PROVIDER.equalsIgnoreCase(provider)) {
+            return C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME;
+        }
+        if (HIKARI_PROVIDER.equalsIgnoreCase(provider)) {
+            return HikariPooledDataSourceProvider.HIKARI_DATASOURCE_PROVIDER_NAME;
+        }
+        throw new SQLException("Unsupported " + DB_POOL_PROVIDER_NAME + " = " + provider
+                + ". Valid values: " + C3P0_PROVIDER + ", " + HIKARI_PROVIDER);
+    }
 
-        return retProvider;
+    /**
+     * @param aProviderName the name of a provider
+     * @return the provider, created the first time it is used
+     */
+    private PooledDataSourceProvider getOrCreateProvider(String aProviderName) {
+        ConcurrentMap<String, PooledDataSourceProvider> providers = providerTable;
+        if (providers == null) {
+            synchronized (this) {
+                if (providerTable == null) {
+                    providerTable = new ConcurrentHashMap<>();
+                }
+                providers = providerTable;
+            }
+        }
+        PooledDataSourceProvider provider = providers.get(aProviderName);
+        if (provider == null) {
+            PooledDataSourceProvider newProvider;
+            if (HikariPooledDataSourceProvider.HIKARI_DATASOURCE_PROVIDER_NAME.equals(aProviderName)) {
+                newProvider = new HikariPooledDataSourceProvider(dbPoolingProperties);
+            } else {
+                newProvider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
+            }
+            provider = providers.putIfAbsent(aProviderName, newProvider);
+            if (provider == null) {
+                provider = newProvider;
+            }
+        }
+        return provider;
     }
 
     /**
@@ -419,60 +493,111 @@ public class DBConnectionManager {
      * @throws SQLException
      */
     protected Connection getPooledConnection(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
-        Connection retCon;
-
-        //key to hashtable of datasources for that dbms
+        //key to the table of datasources for that dbms
         String dbmsKey = aDbType + "." + aDbUrl;
 
+        String dsTableKey = aDbUrl + "." + aUsername + "." + credentialFingerprint.getFingerprint(aDbUrl, aUsername, aPassword);
 
-        if (dbmsPoolTable.containsKey(dbmsKey)) {
-
-            //each pool has pooled datasources, pool is based on dbUrl
-            //so we can control the total size of connection to dbms
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
-
-            String encryptedPass;
+        //the cleaner may close a datasource between its lookup and the check out, the check out is then retried
+        //on the datasource that replaces it
+        for (int attempt = 1; ; attempt++) {
+            DataSource ds = getDataSource(aDbType, aDbUrl, aUsername, aPassword, dbmsKey, dsTableKey);
+            Connection retCon;
             try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException
-                        ("Failed to encrypt password for key = " + dbmsKey, e);
+                retCon = checkout(dbmsKey, ds, aUsername, aPassword);
+            } catch (SQLException e) {
+                if (attempt < MAX_CHECKOUT_ATTEMPTS && !isPooled(dbmsKey, dsTableKey, ds)) {
+                    continue;
+                }
+                throw e;
             }
+            //checked under the lock the cleaner removes datasources with, a datasource that is still there now
+            //has a connection checked out and will not be closed
+            if (isPooled(dbmsKey, dsTableKey, ds) || attempt >= MAX_CHECKOUT_ATTEMPTS) {
+                return retCon;
+            }
+            closeQuietly(retCon);
+        }
+    }
 
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-
-            DataSource ds;
-            if (dsTable.containsKey(dsTableKey)) {
-
-                ds = dsTable.get(dsTableKey);
-                retCon = ds.getConnection();
-            } else {
+    /**
+     * @return the datasource of the credentials, created if the dbms pool doesn't have it yet
+     */
+    private DataSource getDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword,
+                                     String dbmsKey, String dsTableKey) throws SQLException {
+        //each pool has pooled datasources, pool is based on dbUrl
+        //so we can control the total size of connection to dbms
+        ConcurrentMap<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
+        DataSource ds = dsTable == null ? null : dsTable.get(dsTableKey);
+        if (ds == null) {
+            synchronized (getCreationLock(dbmsKey)) {
+                dsTable = dbmsPoolTable.get(dbmsKey);
+                if (dsTable == null) {
+                    //just create, don't need to check, since we don't have this dbmsKey
+                    ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
+                    dsTable = new ConcurrentHashMap<>();
+                    dsTable.put(dsTableKey, ds);
+                    dbmsPoolTable.put(dbmsKey, dsTable);
+                } else {
+                    ds = dsTable.get(dsTableKey);
+                    if (ds == null) {
+                        //need to check if it is ok to create another ds
+                        ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dsTable);
+                        dsTable.put(dsTableKey, ds);
+                    }
+                }
+            }
+        }
+        return ds;
+    }
 
-                //need to check if it is ok to create another ds
-                ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dsTable);
-                retCon = ds.getConnection();
+    private Connection checkout(String dbmsKey, DataSource ds, String aUsername, String aPassword) throws SQLException {
+        //the check out may block on an exhausted pool, so it is never done under a lock
+        PooledDataSourceMetrics metrics = getPoolMetrics(dbmsKey);
+        long checkoutStart = System.nanoTime();
+        boolean checkedOut = false;
+        try {
+            Connection retCon = ds instanceof PooledDataSource ?
+                    getPooledConnection((PooledDataSource) ds, aUsername, aPassword) : ds.getConnection();
+            checkedOut = true;
+            return retCon;
+        } finally {
+            metrics.recordCheckout(System.nanoTime() - checkoutStart, checkedOut);
+        }
+    }
 
-                dsTable.put(dsTableKey, ds);
-            }
-        } else//don't have dbmsKey, will create one for that dbtype.dburl
-        {
+    /**
+     * @return whether the datasource is still the one of the credentials in the dbms pool
+     */
+    private boolean isPooled(String dbmsKey, String dsTableKey, DataSource ds) {
+        synchronized (getCreationLock(dbmsKey)) {
+            ConcurrentMap<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
+            return dsTable != null && dsTable.get(dsTableKey) == ds;
+        }
+    }
 
-            //just create, don't need to check, since we don't have this dbmsKey
-            PooledDataSource ds = (PooledDataSource) this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
-            retCon = getPooledConnection(ds, aUsername, aPassword);
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignore) {
+            //the connection belongs to a datasource that is being closed
+        }
+    }
 
-            Hashtable<String, DataSource> dsTable = new Hashtable<>();
-            String encryptedPass;
-            try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException("Failed to encrypt password for key = " + dbmsKey, e);
+    /**
+     * @param aDbmsPoolKey a dbms pool key
+     * @return the check out statistics of that dbms pool
+     */
+    private PooledDataSourceMetrics getPoolMetrics(String aDbmsPoolKey) {
+        PooledDataSourceMetrics metrics = poolMetrics.get(aDbmsPoolKey);
+        if (metrics == null) {
+            PooledDataSourceMetrics newMetrics = new PooledDataSourceMetrics();
+            metrics = poolMetrics.putIfAbsent(aDbmsPoolKey, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
             }
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-            dsTable.put(dsTableKey, ds);
-            dbmsPoolTable.put(dbmsKey, dsTable);
         }
-        return retCon;
+        return metrics;
     }
 
     private Connection getPooledConnection(PooledDataSource ds, String aUsername, String aPassword) throws SQLException {
@@ -516,7 +641,7 @@ public class DBConnectionManager {
                                           String aDbUrl,
                                           String aUsername,
                                           String aPassword,
-                                          Hashtable<String, DataSource> aDsTable)
+                                          Map<String, DataSource> aDsTable)
             throws SQLException {
         DataSource retDatasource;
 
@@ -576,40 +701,21 @@ public class DBConnectionManager {
      * @return a pooled datasource
      * @throws SQLException
      */
-    private DataSource createDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
-        DataSource retDatasource;
-        PooledDataSourceProvider provider;
-
-        if (providerTable == null) {
-
-            switch (aDbType) {
-                //only has one at the moment
-                default:
-                    provider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
-            }
-            String name = provider.getProviderName();
-            providerTable = new Hashtable<>();
-            providerTable.put(name, provider);
-
-
-        }
-
-        String providerName;
-        switch (aDbType) {
-            default:
-                providerName = C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME;
+    protected DataSource createDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
+        //the datasources of a dbms pool keep the provider of the pool
+        String dbmsKey = aDbType + "." + aDbUrl;
+        String providerName = poolProviderNames.get(dbmsKey);
+        if (providerName == null) {
+            providerName = getConfiguredProviderName();
+            poolProviderNames.put(dbmsKey, providerName);
         }
 
-        provider = providerTable.get(providerName);
-
+        PooledDataSourceProvider provider = getOrCreateProvider(providerName);
 
-        retDatasource = provider.openPooledDataSource(aDbType,
+        return provider.openPooledDataSource(aDbType,
                 aDbUrl,
                 aUsername,
                 aPassword);
-
-
-        return retDatasource;
     }
 
     /**
@@ -631,7 +737,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -654,7 +760,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -676,7 +782,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -695,10 +801,9 @@ public class DBConnectionManager {
     public int getTotalConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : dbmsPoolTable.entrySet()) {
+            String dbmsPoolKey = pool.getKey();
+            Map<String, DataSource> dsTable = pool.getValue();
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
             if (dsTable != null) {
@@ -717,10 +822,9 @@ public class DBConnectionManager {
     public int getTotalCheckedOutConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : dbmsPoolTable.entrySet()) {
+            String dbmsPoolKey = pool.getKey();
+            Map<String, DataSource> dsTable = pool.getValue();
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
             if (dsTable != null) {
@@ -739,10 +843,9 @@ public class DBConnectionManager {
     public int getTotalCheckedInConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : dbmsPoolTable.entrySet()) {
+            String dbmsPoolKey = pool.getKey();
+            Map<String, DataSource> dsTable = pool.getValue();
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
             if (dsTable != null) {
                 for (DataSource ds : dsTable.values()) {
@@ -754,6 +857,37 @@ public class DBConnectionManager {
         return retTotal;
     }
 
+    /**
+     * @return a snapshot of every dbms pool, keyed by the dbms pool key, with the number of datasources, the active,
+     * idle and waiting connections and the check out statistics of the pool, see {@link PooledDataSourceMetrics}
+     */
+    public Map<String, Map<String, Long>> getPoolStatistics() throws SQLException {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        if (dbmsPoolTable == null) {
+            return statistics;
+        }
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> pool : dbmsPoolTable.entrySet()) {
+            String dbmsPoolKey = pool.getKey();
+            PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
+            int active = 0;
+            int idle = 0;
+            int waiters = 0;
+            int dataSources = 0;
+            for (DataSource ds : pool.getValue().values()) {
+                active = active + provider.getCheckedOutConnectionNumber(ds);
+                idle = idle + provider.getCheckedInConnectionNumber(ds);
+                waiters = waiters + provider.getThreadsAwaitingCheckoutNumber(ds);
+                dataSources++;
+            }
+            PooledDataSourceMetrics metrics = poolMetrics.get(dbmsPoolKey);
+            if (metrics == null) {
+                metrics = new PooledDataSourceMetrics();
+            }
+            statistics.put(dbmsPoolKey, metrics.snapshot(dataSources, active, idle, waiters));
+        }
+        return statistics;
+    }
+
     public enum DBType {
         ORACLE, MSSQL, SYBASE, NETCOOL, DB2, MYSQL, POSTGRESQL, CUSTOM
     }
@@ -0,0 +1,222 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.cloudslang.content.database.services.dbconnection.DBConnectionManager.DBType;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pooled datasource provider backed by HikariCP, selected with db.pooling.provider=hikari.
+ * <p>
+ * It reads the same properties as {@link C3P0PooledDataSourceProvider}: pool sizes, idle time, connection lifetime
+ * and check out timeout. The retry, increment and validation properties of c3p0 have no HikariCP counterpart, HikariCP
+ * validates a connection on check out when it has been idle for a while.
+ * <p>
+ * HikariCP doesn't cache prepared statements itself, the statement cache size is handed to the drivers that have a
+ * per connection cache (Oracle, MySQL and PostgreSQL).
+ */
+public class HikariPooledDataSourceProvider extends PooledDataSourceProvider {
+    //name of this provider
+    public final static String HIKARI_DATASOURCE_PROVIDER_NAME = "HikariPooledDataSourceProvider";
+    //prefix of the pool names, the pool names only show up in the HikariCP logs
+    private final static String HIKARI_POOL_NAME_PREFIX = "cs-database-";
+    //don't try to connect when the datasource is opened, connect on the first check out like c3p0
+    private final static long HIKARI_SKIP_INITIALIZATION_CHECK = -1;
+    //drivers that don't implement Connection.isValid need a test query
+    private final static String SELECT_ONE_QUERY = "SELECT 1";
+    private final static String DB2_TEST_QUERY = "SELECT 1 FROM SYSIBM.SYSDUMMY1";
+    //driver properties of the prepared statement caches
+    private final static String ORACLE_STATEMENT_CACHE_SIZE = "oracle.jdbc.implicitStatementCacheSize";
+    private final static String MYSQL_CACHE_STATEMENTS = "cachePrepStmts";
+    private final static String MYSQL_STATEMENT_CACHE_SIZE = "prepStmtCacheSize";
+    private final static String POSTGRESQL_STATEMENT_CACHE_SIZE = "preparedStatementCacheQueries";
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    /**
+     * constructor
+     *
+     * @param aDBPoolingProperties the Properties from databasePooling.properties
+     */
+    public HikariPooledDataSourceProvider(Properties aDBPoolingProperties) {
+        super(aDBPoolingProperties);
+    }
+
+    /**
+     * return the name of this provider
+     */
+    public String getProviderName() {
+        return HIKARI_DATASOURCE_PROVIDER_NAME;
+    }
+
+    /**
+     * close the pooled data source
+     *
+     * @param aPooledDataSource a pooled datasource
+     * @throws SQLException
+     */
+    public void closePooledDataSource(DataSource aPooledDataSource) throws SQLException {
+        if (aPooledDataSource == null) {
+            return;
+        }
+        ((HikariDataSource) aPooledDataSource).close();
+    }
+
+    /**
+     * open a HikariCP pool for the url and the credentials
+     *
+     * @param aDbType   a supported database type.
+     * @param aDbUrl    a connection url
+     * @param aUsername a username for the database
+     * @param aPassword a password for the database connection
+     * @return a DataSource  a pooled data source
+     * @throws SQLException
+     */
+    public DataSource openPooledDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
+        final HikariConfig config = this.getPoolingConfig(aDbType);
+        config.setJdbcUrl(aDbUrl);
+        config.setUsername(aUsername);
+        config.setPassword(aPassword);
+        try {
+            return new HikariDataSource(config);
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to open the HikariCP pool for dbType = " + aDbType, e);
+        }
+    }
+
+    /**
+     * set up the HikariCP configuration based on the properties values in
+     * databasePooling.properties.
+     *
+     * @param aDbType a supported db type.
+     * @return the HikariCP configuration of a pool, without the url and the credentials
+     */
+    HikariConfig getPoolingConfig(DBType aDbType) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(HIKARI_POOL_NAME_PREFIX + aDbType.toString().toLowerCase() + "-" + POOL_COUNT.incrementAndGet());
+        config.setInitializationFailTimeout(HIKARI_SKIP_INITIALIZATION_CHECK);
+
+        //max pool size
+        config.setMaximumPoolSize(this.getPropIntValue(MAX_POOL_SIZE_NAME, MAX_POOL_SIZE_DEFAULT_VALUE));
+        //min pool size, HikariCP keeps that many idle connections
+        config.setMinimumIdle(this.getPropIntValue(MIN_POOL_SIZE_NAME, MIN_POOL_SIZE_DEFAULT_VALUE));
+        //max idle time, in seconds in the properties
+        config.setIdleTimeout(TimeUnit.SECONDS.toMillis(
+                this.getPropIntValue(CONNECTION_MAX_IDLETIME_NAME, CONNECTION_MAX_IDLETIME_DEFAULT_VALUE)));
+        //connection timeout, already in milliseconds in the properties
+        config.setConnectionTimeout(
+                this.getPropIntValue(CONNECTION_CHECKOUT_TIMEOUT_NAME, CONNECTION_CHECKOUT_TIMEOUT_DEFAULT_VALUE));
+
+        //db specific properties
+        //connection life time
+        String conLifeTimeName;
+        String testQuery = null;
+        final int statementCacheSize = this.getPropIntValue(CONNECTION_STATEMENT_CACHE_SIZE_NAME,
+                CONNECTION_STATEMENT_CACHE_SIZE_DEFAULT_VALUE);
+
+        switch (aDbType) {
+            case ORACLE:
+                conLifeTimeName = ORACLE_CONNECTION_LIFETIME_NAME;
+                if (statementCacheSize > 0) {
+                    config.addDataSourceProperty(ORACLE_STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize));
+                }
+                break;
+            case MSSQL:
+                conLifeTimeName = MSSQL_CONNECTION_LIFETIME_NAME;
+                testQuery = SELECT_ONE_QUERY;
+                break;
+            case MYSQL:
+                conLifeTimeName = MYSQL_CONNECTION_LIFETIME_NAME;
+                if (statementCacheSize > 0) {
+                    config.addDataSourceProperty(MYSQL_CACHE_STATEMENTS, String.valueOf(true));
+                    config.addDataSourceProperty(MYSQL_STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize));
+                }
+                break;
+            case POSTGRESQL:
+                conLifeTimeName = CUSTOM_CONNECTION_LIFETIME_NAME;
+                //without the cache the driver keeps its own default
+                if (statementCacheSize > 0) {
+                    config.addDataSourceProperty(POSTGRESQL_STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize));
+                }
+                break;
+            case SYBASE:
+                conLifeTimeName = SYBASE_CONNECTION_LIFETIME_NAME;
+                testQuery = SELECT_ONE_QUERY;
+                break;
+            case DB2:
+                conLifeTimeName = DB2_CONNECTION_LIFETIME_NAME;
+                testQuery = DB2_TEST_QUERY;
+                break;
+            case NETCOOL:
+                conLifeTimeName = NETCOOL_CONNECTION_LIFETIME_NAME;
+                break;
+            default:
+                conLifeTimeName = CUSTOM_CONNECTION_LIFETIME_NAME;
+                break;
+        }
+
+        config.setMaxLifetime(TimeUnit.SECONDS.toMillis(
+                this.getPropIntValue(conLifeTimeName, CONNECTION_LIFETIME_DEFAULT_VALUE)));
+        if (testQuery != null) {
+            config.setConnectionTestQuery(testQuery);
+        }
+
+        return config;
+    }
+
+    private int getPropIntValue(String aPropName, String aDefaultValue) {
+        return Integer.valueOf(this.getPropStringValue(aPropName, aDefaultValue));
+    }
+
+    //The followings are only for testing purpose
+    public int getAllConnectionNumber(DataSource aPooledDataSource) throws SQLException {
+        HikariPoolMXBean pool = getPool(aPooledDataSource);
+        return pool == null ? 0 : pool.getTotalConnections();
+    }
+
+    public int getCheckedInConnectionNumber(DataSource aPooledDataSource) throws SQLException {
+        HikariPoolMXBean pool = getPool(aPooledDataSource);
+        return pool == null ? 0 : pool.getIdleConnections();
+    }
+
+    public int getCheckedOutConnectionNumber(DataSource aPooledDataSource)
+            throws SQLException {
+        HikariPoolMXBean pool = getPool(aPooledDataSource);
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    public int getThreadsAwaitingCheckoutNumber(DataSource aPooledDataSource)
+            throws SQLException {
+        HikariPoolMXBean pool = getPool(aPooledDataSource);
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    private HikariPoolMXBean getPool(DataSource aPooledDataSource) {
+        //null when the pool is already closed
+        return ((HikariDataSource) aPooledDataSource).getHikariPoolMXBean();
+    }
+
+}//end of HikariPooledDataSourceProvider
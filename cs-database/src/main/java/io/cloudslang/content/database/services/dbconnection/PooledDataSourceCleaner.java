@@ -30,7 +30,7 @@ public class PooledDataSourceCleaner implements Runnable {
 
     //DBConnectionPoolManager handle
     private DBConnectionManager manager = null;
-    private STATE_CLEANER state = STATE_CLEANER.SHUTDOWN;
+    private volatile STATE_CLEANER state = STATE_CLEANER.SHUTDOWN;
 
     /**
      * constructor
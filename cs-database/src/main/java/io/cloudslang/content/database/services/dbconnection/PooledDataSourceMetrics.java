@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Check out statistics of one dbms pool, updated by every check out from any of its datasources.
+ * <p>
+ * The number of active, idle and waiting connections is not tracked here, it is read from the datasources when the
+ * snapshot of the pool is taken.
+ */
+public class PooledDataSourceMetrics {
+    public static final String DATASOURCES = "datasources";
+    public static final String ACTIVE_CONNECTIONS = "activeConnections";
+    public static final String IDLE_CONNECTIONS = "idleConnections";
+    public static final String THREADS_AWAITING_CHECKOUT = "threadsAwaitingCheckout";
+    public static final String CHECKOUTS = "checkouts";
+    public static final String FAILED_CHECKOUTS = "failedCheckouts";
+    public static final String AVERAGE_CHECKOUT_TIME = "averageCheckoutTimeMicros";
+    public static final String MAX_CHECKOUT_TIME = "maxCheckoutTimeMicros";
+
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong failedCheckouts = new AtomicLong();
+    private final AtomicLong totalCheckoutNanos = new AtomicLong();
+    private final AtomicLong maxCheckoutNanos = new AtomicLong();
+
+    /**
+     * @param aCheckoutNanos how long the check out took, including the time spent waiting on an exhausted pool
+     * @param aSucceeded     whether a connection was checked out
+     */
+    public void recordCheckout(long aCheckoutNanos, boolean aSucceeded) {
+        if (!aSucceeded) {
+            failedCheckouts.incrementAndGet();
+            return;
+        }
+        checkouts.incrementAndGet();
+        totalCheckoutNanos.addAndGet(aCheckoutNanos);
+        long max = maxCheckoutNanos.get();
+        while (aCheckoutNanos > max && !maxCheckoutNanos.compareAndSet(max, aCheckoutNanos)) {
+            max = maxCheckoutNanos.get();
+        }
+    }
+
+    public long getCheckouts() {
+        return checkouts.get();
+    }
+
+    public long getFailedCheckouts() {
+        return failedCheckouts.get();
+    }
+
+    public long getAverageCheckoutMicros() {
+        long count = checkouts.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalCheckoutNanos.get() / count);
+    }
+
+    public long getMaxCheckoutMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxCheckoutNanos.get());
+    }
+
+    /**
+     * @return the given connection numbers of the pool followed by its check out statistics
+     */
+    public Map<String, Long> snapshot(int aDataSources, int aActive, int aIdle, int aWaiters) {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put(DATASOURCES, (long) aDataSources);
+        snapshot.put(ACTIVE_CONNECTIONS, (long) aActive);
+        snapshot.put(IDLE_CONNECTIONS, (long) aIdle);
+        snapshot.put(THREADS_AWAITING_CHECKOUT, (long) aWaiters);
+        snapshot.put(CHECKOUTS, getCheckouts());
+        snapshot.put(FAILED_CHECKOUTS, getFailedCheckouts());
+        snapshot.put(AVERAGE_CHECKOUT_TIME, getAverageCheckoutMicros());
+        snapshot.put(MAX_CHECKOUT_TIME, getMaxCheckoutMicros());
+        return snapshot;
+    }
+}
@@ -92,6 +92,13 @@ public abstract class PooledDataSourceProvider {
     public static String CONNECTION_BREAKAFTERACQUIREFAILURE_NAME =
             "connection.break_afteracquirefailure";
     public static String CONNECTION_BREAKAFTERACQUIREFAILURE_DEFAULT_VALUE = "true";
+    //Number of prepared statements kept open by every pooled connection, the least
+    //recently used one is closed when the cache is full. Zero disables the cache.
+    //The cache is opt-in: c3p0 can report an APPARENT DEADLOCK on Oracle while it
+    //closes cached statements of a connection that is in use.
+    public static String CONNECTION_STATEMENT_CACHE_SIZE_NAME =
+            "connection.statement_cache_size";
+    public static String CONNECTION_STATEMENT_CACHE_SIZE_DEFAULT_VALUE = "0";
     //properties in databasePooling.properties which are specific for
     //dbtype
     //oracle
@@ -182,4 +189,7 @@ public abstract class PooledDataSourceProvider {
 
     public abstract int getCheckedOutConnectionNumber(DataSource aPooledDataSource)
             throws SQLException;
+
+    public abstract int getThreadsAwaitingCheckoutNumber(DataSource aPooledDataSource)
+            throws SQLException;
 }//end PooledDataSoruceProvider class
@@ -17,6 +17,8 @@
 
 package io.cloudslang.content.database.utils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -196,4 +198,136 @@ public class Format {
         return EMPTY;
     }
 
+    /**
+     * Writes the result set to the writer as CSV while the rows are fetched, so the result is never held in memory.
+     * The first line holds the column labels. Values containing a delimiter or a quote are quoted and null values are
+     * written as empty fields.
+     *
+     * @param resultSet            the result set positioned before the first row
+     * @param checkNullTermination perform the null termination check on the values (eg. netcool)
+     * @param flushRows            the writer is flushed every flushRows rows
+     * @return the number of rows written
+     * @throws SQLException
+     * @throws IOException
+     */
+    public static long resultSetToCsv(ResultSet resultSet, boolean checkNullTermination, String colDelimiter, String rowDelimiter,
+                                      Writer writer, int flushRows) throws SQLException, IOException {
+        final ResultSetMetaData md = resultSet.getMetaData();
+        final int nCols = md.getColumnCount();
+        for (int colN = 0; colN < nCols; colN++) {
+            if (colN != 0) {
+                writer.write(colDelimiter);
+            }
+            writer.write(toCsvValue(md.getColumnLabel(colN + 1), colDelimiter, rowDelimiter));
+        }
+        writer.write(rowDelimiter);
+
+        long rowCount = 0;
+        while (resultSet.next()) {
+            for (int colN = 0; colN < nCols; colN++) {
+                if (colN != 0) {
+                    writer.write(colDelimiter);
+                }
+                final String value = getNullableColumn(resultSet, colN + 1, checkNullTermination);
+                if (value != null) {
+                    writer.write(toCsvValue(value, colDelimiter, rowDelimiter));
+                }
+            }
+            writer.write(rowDelimiter);
+            if (++rowCount % flushRows == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rowCount;
+    }
+
+    /**
+     * Writes the result set to the writer as JSON lines while the rows are fetched: one JSON object per row, keyed by
+     * the column labels.
+     *
+     * @param resultSet            the result set positioned before the first row
+     * @param checkNullTermination perform the null termination check on the values (eg. netcool)
+     * @param flushRows            the writer is flushed every flushRows rows
+     * @return the number of rows written
+     * @throws SQLException
+     * @throws IOException
+     */
+    public static long resultSetToJsonLines(ResultSet resultSet, boolean checkNullTermination, Writer writer, int flushRows)
+            throws SQLException, IOException {
+        final ResultSetMetaData md = resultSet.getMetaData();
+        final int nCols = md.getColumnCount();
+        final String[] keys = new String[nCols];
+        for (int colN = 0; colN < nCols; colN++) {
+            keys[colN] = toJsonString(md.getColumnLabel(colN + 1)) + ":";
+        }
+
+        long rowCount = 0;
+        while (resultSet.next()) {
+            writer.write('{');
+            for (int colN = 0; colN < nCols; colN++) {
+                if (colN != 0) {
+                    writer.write(',');
+                }
+                writer.write(keys[colN]);
+                final String value = getNullableColumn(resultSet, colN + 1, checkNullTermination);
+                writer.write(value == null ? "null" : toJsonString(value));
+            }
+            writer.write('}');
+            writer.write(NEW_LINE);
+            if (++rowCount % flushRows == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rowCount;
+    }
+
+    private static String getNullableColumn(ResultSet rs, int col, boolean checkNullTermination) throws SQLException {
+        final String value = rs.getString(col);
+        if (value != null && checkNullTermination && !value.isEmpty()) {
+            return processNullTerminatedString(value);
+        }
+        return value;
+    }
+
+    private static String toCsvValue(String value, String colDelimiter, String rowDelimiter) {
+        if (value.contains(colDelimiter) || value.contains(rowDelimiter) || value.indexOf('"') != -1
+                || value.indexOf('\n') != -1 || value.indexOf('\r') != -1) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String toJsonString(String value) {
+        final StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"').toString();
+    }
+
 }
@@ -61,9 +61,19 @@ public class SQLInputs {
     private Integer resultSetType;
     private Integer resultSetConcurrency;
     private List<String> sqlCommands = new ArrayList<>();
-
-    @java.beans.ConstructorProperties({"sqlCommand", "dbServer", "dbName", "dbPort", "dbType", "key", "username", "password", "authenticationType", "instance", "ignoreCase", "timeout", "dbUrl", "dbClass", "isNetcool", "lRowsFiles", "lRowsNames", "skip", "strDelim", "strColumns", "lRows", "iUpdateCount", "databasePoolingProperties", "trustStore", "trustStorePassword", "trustAllRoots", "authLibraryPath", "colDelimiter", "rowDelimiter", "resultSetType", "resultSetConcurrency", "sqlCommands"})
-    SQLInputs(String sqlCommand, String dbServer, String dbName, int dbPort, String dbType, String key, String username, String password, String authenticationType, String instance, boolean ignoreCase, int timeout, String dbUrl, String dbClass, boolean isNetcool, List<List<String>> lRowsFiles, List<List<String>> lRowsNames, long skip, String strDelim, String strColumns, List<String> lRows, int iUpdateCount, Properties databasePoolingProperties, String trustStore, String trustStorePassword, boolean trustAllRoots, String authLibraryPath, String colDelimiter, String rowDelimiter, Integer resultSetType, Integer resultSetConcurrency, List<String> sqlCommands) {
+    private int fetchSize;
+    private String outputFile;
+    private String outputFormat;
+    private int batchSize;
+    private boolean commitPerBatch;
+    private boolean prepareInserts;
+    private String scriptFileName;
+    private List<Integer> batchUpdateCounts;
+    private String queryParameters;
+    private String queryParametersDelimiter;
+
+    @java.beans.ConstructorProperties({"sqlCommand", "dbServer", "dbName", "dbPort", "dbType", "key", "username", "password", "authenticationType", "instance", "ignoreCase", "timeout", "dbUrl", "dbClass", "isNetcool", "lRowsFiles", "lRowsNames", "skip", "strDelim", "strColumns", "lRows", "iUpdateCount", "databasePoolingProperties", "trustStore", "trustStorePassword", "trustAllRoots", "authLibraryPath", "colDelimiter", "rowDelimiter", "resultSetType", "resultSetConcurrency", "sqlCommands", "fetchSize", "outputFile", "outputFormat", "batchSize", "commitPerBatch", "prepareInserts", "scriptFileName", "batchUpdateCounts", "queryParameters", "queryParametersDelimiter"})
+    SQLInputs(String sqlCommand, String dbServer, String dbName, int dbPort, String dbType, String key, String username, String password, String authenticationType, String instance, boolean ignoreCase, int timeout, String dbUrl, String dbClass, boolean isNetcool, List<List<String>> lRowsFiles, List<List<String>> lRowsNames, long skip, String strDelim, String strColumns, List<String> lRows, int iUpdateCount, Properties databasePoolingProperties, String trustStore, String trustStorePassword, boolean trustAllRoots, String authLibraryPath, String colDelimiter, String rowDelimiter, Integer resultSetType, Integer resultSetConcurrency, List<String> sqlCommands, int fetchSize, String outputFile, String outputFormat, int batchSize, boolean commitPerBatch, boolean prepareInserts, String scriptFileName, List<Integer> batchUpdateCounts, String queryParameters, String queryParametersDelimiter) {
         this.sqlCommand = sqlCommand;
         this.dbServer = dbServer;
         this.dbName = dbName;
@@ -96,6 +106,16 @@ public class SQLInputs {
         this.resultSetType = resultSetType;
         this.resultSetConcurrency = resultSetConcurrency;
         this.sqlCommands = sqlCommands == null ? new ArrayList<String>() : sqlCommands;
+        this.fetchSize = fetchSize;
+        this.outputFile = outputFile;
+        this.outputFormat = outputFormat;
+        this.batchSize = batchSize;
+        this.commitPerBatch = commitPerBatch;
+        this.prepareInserts = prepareInserts;
+        this.scriptFileName = scriptFileName;
+        this.batchUpdateCounts = batchUpdateCounts;
+        this.queryParameters = queryParameters;
+        this.queryParametersDelimiter = queryParametersDelimiter;
     }
 
     public static SQLInputsBuilder builder() {
@@ -354,6 +374,86 @@ public class SQLInputs {
         return this.sqlCommands;
     }
 
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public String getOutputFile() {
+        return this.outputFile;
+    }
+
+    public void setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    public String getOutputFormat() {
+        return this.outputFormat;
+    }
+
+    public void setOutputFormat(String outputFormat) {
+        this.outputFormat = outputFormat;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isCommitPerBatch() {
+        return this.commitPerBatch;
+    }
+
+    public void setCommitPerBatch(boolean commitPerBatch) {
+        this.commitPerBatch = commitPerBatch;
+    }
+
+    public boolean isPrepareInserts() {
+        return this.prepareInserts;
+    }
+
+    public void setPrepareInserts(boolean prepareInserts) {
+        this.prepareInserts = prepareInserts;
+    }
+
+    public String getScriptFileName() {
+        return this.scriptFileName;
+    }
+
+    public void setScriptFileName(String scriptFileName) {
+        this.scriptFileName = scriptFileName;
+    }
+
+    public List<Integer> getBatchUpdateCounts() {
+        return this.batchUpdateCounts;
+    }
+
+    public void setBatchUpdateCounts(List<Integer> batchUpdateCounts) {
+        this.batchUpdateCounts = batchUpdateCounts;
+    }
+
+    public String getQueryParameters() {
+        return this.queryParameters;
+    }
+
+    public void setQueryParameters(String queryParameters) {
+        this.queryParameters = queryParameters;
+    }
+
+    public String getQueryParametersDelimiter() {
+        return this.queryParametersDelimiter;
+    }
+
+    public void setQueryParametersDelimiter(String queryParametersDelimiter) {
+        this.queryParametersDelimiter = queryParametersDelimiter;
+    }
+
     public boolean equals(Object o) {
         if (o == this) return true;
         if (!(o instanceof SQLInputs)) return false;
@@ -455,6 +555,34 @@ public class SQLInputs {
         final Object other$sqlCommands = other.getSqlCommands();
         if (this$sqlCommands == null ? other$sqlCommands != null : !this$sqlCommands.equals(other$sqlCommands))
             return false;
+        if (this.getFetchSize() != other.getFetchSize()) return false;
+        final Object this$outputFile = this.getOutputFile();
+        final Object other$outputFile = other.getOutputFile();
+        if (this$outputFile == null ? other$outputFile != null : !this$outputFile.equals(other$outputFile))
+            return false;
+        final Object this$outputFormat = this.getOutputFormat();
+        final Object other$outputFormat = other.getOutputFormat();
+        if (this$outputFormat == null ? other$outputFormat != null : !this$outputFormat.equals(other$outputFormat))
+            return false;
+        if (this.getBatchSize() != other.getBatchSize()) return false;
+        if (this.isCommitPerBatch() != other.isCommitPerBatch()) return false;
+        if (this.isPrepareInserts() != other.isPrepareInserts()) return false;
+        final Object this$scriptFileName = this.getScriptFileName();
+        final Object other$scriptFileName = other.getScriptFileName();
+        if (this$scriptFileName == null ? other$scriptFileName != null : !this$scriptFileName.equals(other$scriptFileName))
+            return false;
+        final Object this$batchUpdateCounts = this.getBatchUpdateCounts();
+        final Object other$batchUpdateCounts = other.getBatchUpdateCounts();
+        if (this$batchUpdateCounts == null ? other$batchUpdateCounts != null : !this$batchUpdateCounts.equals(other$batchUpdateCounts))
+            return false;
+        final Object this$queryParameters = this.getQueryParameters();
+        final Object other$queryParameters = other.getQueryParameters();
+        if (this$queryParameters == null ? other$queryParameters != null : !this$queryParameters.equals(other$queryParameters))
+            return false;
+        final Object this$queryParametersDelimiter = this.getQueryParametersDelimiter();
+        final Object other$queryParametersDelimiter = other.getQueryParametersDelimiter();
+        if (this$queryParametersDelimiter == null ? other$queryParametersDelimiter != null : !this$queryParametersDelimiter.equals(other$queryParametersDelimiter))
+            return false;
         return true;
     }
 
@@ -518,6 +646,22 @@ public class SQLInputs {
         result = result * PRIME + ($resultSetConcurrency == null ? 43 : $resultSetConcurrency.hashCode());
         final Object $sqlCommands = this.getSqlCommands();
         result = result * PRIME + ($sqlCommands == null ? 43 : $sqlCommands.hashCode());
+        result = result * PRIME + this.getFetchSize();
+        final Object $outputFile = this.getOutputFile();
+        result = result * PRIME + ($outputFile == null ? 43 : $outputFile.hashCode());
+        final Object $outputFormat = this.getOutputFormat();
+        result = result * PRIME + ($outputFormat == null ? 43 : $outputFormat.hashCode());
+        result = result * PRIME + this.getBatchSize();
+        result = result * PRIME + (this.isCommitPerBatch() ? 79 : 97);
+        result = result * PRIME + (this.isPrepareInserts() ? 79 : 97);
+        final Object $scriptFileName = this.getScriptFileName();
+        result = result * PRIME + ($scriptFileName == null ? 43 : $scriptFileName.hashCode());
+        final Object $batchUpdateCounts = this.getBatchUpdateCounts();
+        result = result * PRIME + ($batchUpdateCounts == null ? 43 : $batchUpdateCounts.hashCode());
+        final Object $queryParameters = this.getQueryParameters();
+        result = result * PRIME + ($queryParameters == null ? 43 : $queryParameters.hashCode());
+        final Object $queryParametersDelimiter = this.getQueryParametersDelimiter();
+        result = result * PRIME + ($queryParametersDelimiter == null ? 43 : $queryParametersDelimiter.hashCode());
         return result;
     }
 
@@ -526,7 +670,7 @@ public class SQLInputs {
     }
 
     public String toString() {
-        return "io.cloudslang.content.database.utils.SQLInputs(sqlCommand=" + this.getSqlCommand() + ", dbServer=" + this.getDbServer() + ", dbName=" + this.getDbName() + ", dbPort=" + this.getDbPort() + ", dbType=" + this.getDbType() + ", key=" + this.getKey() + ", username=" + this.getUsername() + ", password=" + this.getPassword() + ", authenticationType=" + this.getAuthenticationType() + ", instance=" + this.getInstance() + ", ignoreCase=" + this.isIgnoreCase() + ", timeout=" + this.getTimeout() + ", dbUrl=" + this.getDbUrl() + ", dbClass=" + this.getDbClass() + ", isNetcool=" + this.isNetcool() + ", lRowsFiles=" + this.getLRowsFiles() + ", lRowsNames=" + this.getLRowsNames() + ", skip=" + this.getSkip() + ", strDelim=" + this.getStrDelim() + ", strColumns=" + this.getStrColumns() + ", lRows=" + this.getLRows() + ", iUpdateCount=" + this.getIUpdateCount() + ", databasePoolingProperties=" + this.getDatabasePoolingProperties() + ", trustStore=" + this.getTrustStore() + ", trustStorePassword=" + this.getTrustStorePassword() + ", trustAllRoots=" + this.isTrustAllRoots() + ", authLibraryPath=" + this.getAuthLibraryPath() + ", colDelimiter=" + this.getColDelimiter() + ", rowDelimiter=" + this.getRowDelimiter() + ", resultSetType=" + this.getResultSetType() + ", resultSetConcurrency=" + this.getResultSetConcurrency() + ", sqlCommands=" + this.getSqlCommands() + ")";
+        return "io.cloudslang.content.database.utils.SQLInputs(sqlCommand=" + this.getSqlCommand() + ", dbServer=" + this.getDbServer() + ", dbName=" + this.getDbName() + ", dbPort=" + this.getDbPort() + ", dbType=" + this.getDbType() + ", key=" + this.getKey() + ", username=" + this.getUsername() + ", password=" + this.getPassword() + ", authenticationType=" + this.getAuthenticationType() + ", instance=" + this.getInstance() + ", ignoreCase=" + this.isIgnoreCase() + ", timeout=" + this.getTimeout() + ", dbUrl=" + this.getDbUrl() + ", dbClass=" + this.getDbClass() + ", isNetcool=" + this.isNetcool() + ", lRowsFiles=" + this.getLRowsFiles() + ", lRowsNames=" + this.getLRowsNames() + ", skip=" + this.getSkip() + ", strDelim=" + this.getStrDelim() + ", strColumns=" + this.getStrColumns() + ", lRows=" + this.getLRows() + ", iUpdateCount=" + this.getIUpdateCount() + ", databasePoolingProperties=" + this.getDatabasePoolingProperties() + ", trustStore=" + this.getTrustStore() + ", trustStorePassword=" + this.getTrustStorePassword() + ", trustAllRoots=" + this.isTrustAllRoots() + ", authLibraryPath=" + this.getAuthLibraryPath() + ", colDelimiter=" + this.getColDelimiter() + ", rowDelimiter=" + this.getRowDelimiter() + ", resultSetType=" + this.getResultSetType() + ", resultSetConcurrency=" + this.getResultSetConcurrency() + ", sqlCommands=" + this.getSqlCommands() + ", fetchSize=" + this.getFetchSize() + ", outputFile=" + this.getOutputFile() + ", outputFormat=" + this.getOutputFormat() + ", batchSize=" + this.getBatchSize() + ", commitPerBatch=" + this.isCommitPerBatch() + ", prepareInserts=" + this.isPrepareInserts() + ", scriptFileName=" + this.getScriptFileName() + ", batchUpdateCounts=" + this.getBatchUpdateCounts() + ", queryParameters=" + this.getQueryParameters() + ", queryParametersDelimiter=" + this.getQueryParametersDelimiter() + ")";
     }
 
     public static class SQLInputsBuilder {
@@ -562,6 +706,16 @@ public class SQLInputs {
         private Integer resultSetType;
         private Integer resultSetConcurrency;
         private List<String> sqlCommands;
+        private int fetchSize;
+        private String outputFile;
+        private String outputFormat;
+        private int batchSize;
+        private boolean commitPerBatch;
+        private boolean prepareInserts;
+        private String scriptFileName;
+        private List<Integer> batchUpdateCounts;
+        private String queryParameters;
+        private String queryParametersDelimiter;
 
         SQLInputsBuilder() {
         }
@@ -697,12 +851,62 @@ public class SQLInputs {
             return this;
         }
 
+        public SQLInputs.SQLInputsBuilder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder outputFile(String outputFile) {
+            this.outputFile = outputFile;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder outputFormat(String outputFormat) {
+            this.outputFormat = outputFormat;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder commitPerBatch(boolean commitPerBatch) {
+            this.commitPerBatch = commitPerBatch;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder prepareInserts(boolean prepareInserts) {
+            this.prepareInserts = prepareInserts;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder scriptFileName(String scriptFileName) {
+            this.scriptFileName = scriptFileName;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder batchUpdateCounts(List<Integer> batchUpdateCounts) {
+            this.batchUpdateCounts = batchUpdateCounts;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder queryParameters(String queryParameters) {
+            this.queryParameters = queryParameters;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder queryParametersDelimiter(String queryParametersDelimiter) {
+            this.queryParametersDelimiter = queryParametersDelimiter;
+            return this;
+        }
+
         public SQLInputs build() {
-            return new SQLInputs(sqlCommand, dbServer, dbName, dbPort, dbType, key, username, password, authenticationType, instance, ignoreCase, timeout, dbUrl, dbClass, isNetcool, lRowsFiles, lRowsNames, skip, strDelim, strColumns, lRows, iUpdateCount, databasePoolingProperties, trustStore, trustStorePassword, trustAllRoots, authLibraryPath, colDelimiter, rowDelimiter, resultSetType, resultSetConcurrency, sqlCommands);
+            return new SQLInputs(sqlCommand, dbServer, dbName, dbPort, dbType, key, username, password, authenticationType, instance, ignoreCase, timeout, dbUrl, dbClass, isNetcool, lRowsFiles, lRowsNames, skip, strDelim, strColumns, lRows, iUpdateCount, databasePoolingProperties, trustStore, trustStorePassword, trustAllRoots, authLibraryPath, colDelimiter, rowDelimiter, resultSetType, resultSetConcurrency, sqlCommands, fetchSize, outputFile, outputFormat, batchSize, commitPerBatch, prepareInserts, scriptFileName, batchUpdateCounts, queryParameters, queryParametersDelimiter);
         }
 
         public String toString() {
-            return "io.cloudslang.content.database.utils.SQLInputs.SQLInputsBuilder(sqlCommand=" + this.sqlCommand + ", dbServer=" + this.dbServer + ", dbName=" + this.dbName + ", dbPort=" + this.dbPort + ", dbType=" + this.dbType + ", key=" + this.key + ", username=" + this.username + ", password=" + this.password + ", authenticationType=" + this.authenticationType + ", instance=" + this.instance + ", ignoreCase=" + this.ignoreCase + ", timeout=" + this.timeout + ", dbUrl=" + this.dbUrl + ", dbClass=" + this.dbClass + ", isNetcool=" + this.isNetcool + ", lRowsFiles=" + this.lRowsFiles + ", lRowsNames=" + this.lRowsNames + ", skip=" + this.skip + ", strDelim=" + this.strDelim + ", strColumns=" + this.strColumns + ", lRows=" + this.lRows + ", iUpdateCount=" + this.iUpdateCount + ", databasePoolingProperties=" + this.databasePoolingProperties + ", trustStore=" + this.trustStore + ", trustStorePassword=" + this.trustStorePassword + ", trustAllRoots=" + this.trustAllRoots + ", authLibraryPath=" + this.authLibraryPath + ", colDelimiter=" + this.colDelimiter + ", rowDelimiter=" + this.rowDelimiter + ", resultSetType=" + this.resultSetType + ", resultSetConcurrency=" + this.resultSetConcurrency + ", sqlCommands=" + this.sqlCommands + ")";
+            return "io.cloudslang.content.database.utils.SQLInputs.SQLInputsBuilder(sqlCommand=" + this.sqlCommand + ", dbServer=" + this.dbServer + ", dbName=" + this.dbName + ", dbPort=" + this.dbPort + ", dbType=" + this.dbType + ", key=" + this.key + ", username=" + this.username + ", password=" + this.password + ", authenticationType=" + this.authenticationType + ", instance=" + this.instance + ", ignoreCase=" + this.ignoreCase + ", timeout=" + this.timeout + ", dbUrl=" + this.dbUrl + ", dbClass=" + this.dbClass + ", isNetcool=" + this.isNetcool + ", lRowsFiles=" + this.lRowsFiles + ", lRowsNames=" + this.lRowsNames + ", skip=" + this.skip + ", strDelim=" + this.strDelim + ", strColumns=" + this.strColumns + ", lRows=" + this.lRows + ", iUpdateCount=" + this.iUpdateCount + ", databasePoolingProperties=" + this.databasePoolingProperties + ", trustStore=" + this.trustStore + ", trustStorePassword=" + this.trustStorePassword + ", trustAllRoots=" + this.trustAllRoots + ", authLibraryPath=" + this.authLibraryPath + ", colDelimiter=" + this.colDelimiter + ", rowDelimiter=" + this.rowDelimiter + ", resultSetType=" + this.resultSetType + ", resultSetConcurrency=" + this.resultSetConcurrency + ", sqlCommands=" + this.sqlCommands + ", fetchSize=" + this.fetchSize + ", outputFile=" + this.outputFile + ", outputFormat=" + this.outputFormat + ", batchSize=" + this.batchSize + ", commitPerBatch=" + this.commitPerBatch + ", prepareInserts=" + this.prepareInserts + ", scriptFileName=" + this.scriptFileName + ", batchUpdateCounts=" + this.batchUpdateCounts + ", queryParameters=" + this.queryParameters + ", queryParametersDelimiter=" + this.queryParametersDelimiter + ")";
         }
     }
 }
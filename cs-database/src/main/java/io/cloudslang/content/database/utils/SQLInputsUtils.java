@@ -173,11 +173,13 @@ public class SQLInputsUtils {
         if (sqlInputs.isIgnoreCase()) {
             return SQLUtils.computeSessionId(sqlInputs.getDbServer().toLowerCase() + sqlInputs.getDbType().toLowerCase() +
                     sqlInputs.getUsername() + sqlInputs.getPassword() + sqlInputs.getInstance() + sqlInputs.getDbPort() + sqlInputs.getDbName() +
-                    sqlInputs.getAuthenticationType().toLowerCase() + sqlInputs.getSqlCommand().toLowerCase() + sqlInputs.getKey());
+                    sqlInputs.getAuthenticationType().toLowerCase() + sqlInputs.getSqlCommand().toLowerCase() + sqlInputs.getKey() +
+                    defaultIfEmpty(sqlInputs.getQueryParameters(), EMPTY));
         }
         return SQLUtils.computeSessionId(sqlInputs.getDbServer() + sqlInputs.getDbType() +
                 sqlInputs.getUsername() + sqlInputs.getPassword() + sqlInputs.getInstance() + sqlInputs.getDbPort() + sqlInputs.getDbName() +
-                sqlInputs.getAuthenticationType() + sqlInputs.getSqlCommand() + sqlInputs.getKey());
+                sqlInputs.getAuthenticationType() + sqlInputs.getSqlCommand() + sqlInputs.getKey() +
+                defaultIfEmpty(sqlInputs.getQueryParameters(), EMPTY));
     }
 
 
@@ -69,40 +69,51 @@ public class SQLInputsValidator {
     public static List<String> validateSqlQueryAllRowsInputs(String dbServerName, String dbType, String username, String password,
                                                              String instance, String dbPort, String database, String authenticationType, String command,
                                                              String trustAllRoots, String trustStore, String trustStorePassword,
-                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                             String fetchSize, String outputFormat) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validateFetchSize(fetchSize, validationList);
+        validateOutputFormat(outputFormat, validationList);
         return validationList;
     }
 
     public static List<String> validateSqlQueryLOBInputs(String dbServerName, String dbType, String username, String password,
                                                          String instance, String dbPort, String database, String authenticationType, String command,
                                                          String trustAllRoots, String trustStore, String trustStorePassword,
-                                                         String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                         String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                         String lobSpool) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort,
                 database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validateBoolean(lobSpool, INVALID_LOB_SPOOL, validationList);
         return validationList;
     }
 
     public static List<String> validateSqlQueryTabularInputs(String dbServerName, String dbType, String username, String password,
                                                              String instance, String dbPort, String database, String authenticationType, String command,
                                                              String trustAllRoots, String trustStore, String trustStorePassword,
-                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                             String fetchSize) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validateFetchSize(fetchSize, validationList);
         return validationList;
     }
 
     public static List<String> validateSqlScriptInputs(String dbServerName, String dbType, String username, String password,
                                                        String instance, String dbPort, String database, String authenticationType, String sqlCommands, String scriptFileName,
                                                        String trustAllRoots, String trustStore, String trustStorePassword,
-                                                       String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                       String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                       String batchSize, String commitPerBatch, String prepareInserts) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateMExclusivityCommands(sqlCommands, scriptFileName, validationList);
+        validateBatchSize(batchSize, validationList);
+        validateBoolean(commitPerBatch, INVALID_COMMIT_PER_BATCH, validationList);
+        validateBoolean(prepareInserts, INVALID_PREPARE_INSERTS, validationList);
         return validationList;
     }
 
@@ -170,6 +181,30 @@ public class SQLInputsValidator {
         }
     }
 
+    private static void validateFetchSize(final String fetchSize, final List<String> validationList) {
+        if (isNoneEmpty(fetchSize) && (!isValidInt(fetchSize) || NumberUtilities.toInteger(fetchSize) < 0)) {
+            validationList.add(INVALID_FETCH_SIZE);
+        }
+    }
+
+    private static void validateBatchSize(final String batchSize, final List<String> validationList) {
+        if (isNoneEmpty(batchSize) && (!isValidInt(batchSize) || NumberUtilities.toInteger(batchSize) < 0)) {
+            validationList.add(INVALID_BATCH_SIZE);
+        }
+    }
+
+    private static void validateBoolean(final String value, final String message, final List<String> validationList) {
+        if (isNoneEmpty(value) && !BooleanUtilities.isValid(value)) {
+            validationList.add(message);
+        }
+    }
+
+    private static void validateOutputFormat(final String outputFormat, final List<String> validationList) {
+        if (isNoneEmpty(outputFormat) && !CSV_FORMAT.equalsIgnoreCase(outputFormat) && !JSONL_FORMAT.equalsIgnoreCase(outputFormat)) {
+            validationList.add(INVALID_OUTPUT_FORMAT);
+        }
+    }
+
     private static void validateInstance(final String instance, final String dbType, final List<String> validationList) {
         if (isNoneEmpty(instance) && !MSSQL_DB_TYPE.equalsIgnoreCase(dbType)) {
             validationList.add(INVALID_INSTANCE);
@@ -0,0 +1,149 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An INSERT command of a script split into a parameterized statement and its values, so repeated inserts into the
+ * same table can be batched on one prepared statement.
+ * <p>
+ * Only 'INSERT INTO table [(columns)] VALUES (...)' commands whose values are all string or number literals are
+ * templated. Any other command, including one with a NULL or a function call among its values, is left as it is.
+ */
+public class SQLInsertTemplate {
+
+    private static final Pattern INSERT_PATTERN = Pattern.compile(
+            "(?is)\\s*(INSERT\\s+INTO\\s+[^\\s('\"]+\\s*(?:\\([^()'\"]*\\))?)\\s*VALUES\\s*\\((.*)\\)\\s*");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+    private final String sql;
+    private final List<Object> values;
+
+    private SQLInsertTemplate(@NotNull final String sql, @NotNull final List<Object> values) {
+        this.sql = sql;
+        this.values = values;
+    }
+
+    /**
+     * @return the template of the command, or null when the command can't be templated.
+     */
+    @Nullable
+    public static SQLInsertTemplate parse(@NotNull final String command) {
+        final Matcher matcher = INSERT_PATTERN.matcher(command);
+        if (!matcher.matches()) {
+            return null;
+        }
+        final List<Object> values = parseValues(matcher.group(2));
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        final StringBuilder sql = new StringBuilder(matcher.group(1).replaceAll("\\s+", " ").trim()).append(" VALUES (");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return new SQLInsertTemplate(sql.append(')').toString(), values);
+    }
+
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    @NotNull
+    public List<Object> getValues() {
+        return values;
+    }
+
+    public void bind(@NotNull final PreparedStatement preparedStatement) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            if (value instanceof BigDecimal) {
+                preparedStatement.setBigDecimal(i + 1, (BigDecimal) value);
+            } else {
+                preparedStatement.setString(i + 1, (String) value);
+            }
+        }
+    }
+
+    @Nullable
+    private static List<Object> parseValues(@NotNull final String valuesStr) {
+        final List<Object> values = new ArrayList<>();
+        int index = 0;
+        final int length = valuesStr.length();
+        while (true) {
+            index = skipWhitespace(valuesStr, index);
+            if (index >= length) {
+                return null;
+            }
+            int end;
+            if (valuesStr.charAt(index) == '\'') {
+                final StringBuilder value = new StringBuilder();
+                end = index + 1;
+                while (true) {
+                    if (end >= length) {
+                        return null;
+                    }
+                    final char c = valuesStr.charAt(end++);
+                    if (c != '\'') {
+                        value.append(c);
+                    } else if (end < length && valuesStr.charAt(end) == '\'') {
+                        value.append('\'');
+                        end++;
+                    } else {
+                        break;
+                    }
+                }
+                values.add(value.toString());
+            } else {
+                end = index;
+                while (end < length && valuesStr.charAt(end) != ',' && !Character.isWhitespace(valuesStr.charAt(end))) {
+                    end++;
+                }
+                final String number = valuesStr.substring(index, end);
+                if (!NUMBER_PATTERN.matcher(number).matches()) {
+                    return null;
+                }
+                values.add(new BigDecimal(number));
+            }
+            index = skipWhitespace(valuesStr, end);
+            if (index >= length) {
+                return values;
+            }
+            if (valuesStr.charAt(index++) != ',') {
+                return null;
+            }
+        }
+    }
+
+    private static int skipWhitespace(@NotNull final String str, int index) {
+        while (index < str.length() && Character.isWhitespace(str.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
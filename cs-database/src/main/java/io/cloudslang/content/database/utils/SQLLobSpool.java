@@ -0,0 +1,197 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single spool file holding all the LOB values of a query, kept in the global session object while the rows are
+ * iterated.
+ * <p>
+ * The values are appended to the file while the result set is read, CLOBs as UTF-8 text and BLOBs as they are, and the
+ * row, column, offset and length of every value is kept in an index. Once written, the values are read back in the
+ * order they were written with positional reads of the file. The file is deleted when the spool is closed, at the end
+ * of the iteration, when reading fails or when a new query replaces an unfinished one.
+ */
+public class SQLLobSpool implements Closeable {
+
+    private static final String CLOB_COLUMN = "CLOB column: ";
+    private static final String BLOB_COLUMN = "BLOB column: ";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final List<LobEntry> entries = new ArrayList<>();
+    private SpoolOutputStream output;
+    private RandomAccessFile input;
+    private int position;
+
+    public SQLLobSpool() throws IOException {
+        file = File.createTempFile("cs-lob-spool", ".bin");
+        try {
+            output = new SpoolOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    public void writeClob(final int row, @NotNull final String column, @NotNull final Reader reader) throws IOException {
+        final long offset = output.getCount();
+        final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        IOUtils.copyLarge(reader, writer);
+        //flushes the encoder only, the spool stream doesn't flush its buffer to the file
+        writer.flush();
+        entries.add(new LobEntry(row, CLOB_COLUMN + column, false, offset, output.getCount() - offset));
+    }
+
+    public void writeBlob(final int row, @NotNull final String column, @NotNull final InputStream inputStream) throws IOException {
+        final long offset = output.getCount();
+        IOUtils.copyLarge(inputStream, output);
+        entries.add(new LobEntry(row, BLOB_COLUMN + column, true, offset, output.getCount() - offset));
+    }
+
+    /**
+     * Ends the writing, the values can only be read after this call.
+     */
+    public void finish() throws IOException {
+        if (output != null) {
+            output.close();
+            output = null;
+            input = new RandomAccessFile(file, "r");
+        }
+    }
+
+    /**
+     * @return whether the next value to read belongs to the row.
+     */
+    public boolean hasLob(final int row) {
+        return position < entries.size() && entries.get(position).row == row;
+    }
+
+    /**
+     * @return the column label of the next value to read.
+     */
+    @NotNull
+    public String getNextColumn() {
+        return entries.get(position).column;
+    }
+
+    /**
+     * Reads the next value, a CLOB as text and a BLOB encoded in base64.
+     */
+    @NotNull
+    public String readNext() throws IOException {
+        final LobEntry entry = entries.get(position++);
+        if (entry.length > Integer.MAX_VALUE) {
+            throw new IOException("The value of the " + entry.column + " is too large to be returned: " + entry.length + " bytes.");
+        }
+        final byte[] bytes = new byte[(int) entry.length];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final FileChannel channel = input.getChannel();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, entry.offset + buffer.position()) < 0) {
+                throw new EOFException("The spool file ended before the value of the " + entry.column + ".");
+            }
+        }
+        return entry.binary ? Base64.encodeBase64String(bytes) : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int getLobCount() {
+        return entries.size();
+    }
+
+    @NotNull
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(output);
+        IOUtils.closeQuietly(input);
+        output = null;
+        input = null;
+        FileUtils.deleteQuietly(file);
+    }
+
+    private static class LobEntry {
+        private final int row;
+        private final String column;
+        private final boolean binary;
+        private final long offset;
+        private final long length;
+
+        LobEntry(final int row, final String column, final boolean binary, final long offset, final long length) {
+            this.row = row;
+            this.column = column;
+            this.binary = binary;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static class SpoolOutputStream extends FilterOutputStream {
+        private long count;
+
+        SpoolOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(@NotNull final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
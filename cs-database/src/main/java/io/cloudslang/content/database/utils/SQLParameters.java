@@ -0,0 +1,194 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.database.constants.DBDefaultValues.DEFAULT_QUERY_PARAMETERS_DELIMITER;
+import static io.cloudslang.content.database.constants.DBOtherValues.POSTGRES_DB_TYPE;
+import static org.apache.commons.lang3.StringUtils.isNoneEmpty;
+import static org.apache.commons.lang3.StringUtils.splitByWholeSeparatorPreserveAllTokens;
+
+/**
+ * Binds the values of the 'queryParameters' input to the placeholders of a command, so the command text stays the same
+ * between executions and the database can reuse its parsed statement.
+ * <p>
+ * The placeholders are either positional, '?', or named, ':name'. Positional values are given in order, separated by
+ * the parameters delimiter. Named values are given as 'name=value' entries, separated by the parameters delimiter, and
+ * a name can be used more than once in the command. Placeholders inside quotes and comments are ignored. The values are
+ * bound as strings, which most databases convert to the type of the column. PostgreSQL does not convert a varchar
+ * parameter, so there the values are bound untyped and the server infers their type from the command.
+ */
+public class SQLParameters {
+
+    private static final char NAMED_PREFIX = ':';
+    private static final char POSITIONAL = '?';
+    private static final String NAME_VALUE_SEPARATOR = "=";
+
+    private final String sql;
+    private final List<String> names;
+    private final int count;
+
+    private SQLParameters(@NotNull final String sql, @NotNull final List<String> names, final int count) {
+        this.sql = sql;
+        this.names = names;
+        this.count = count;
+    }
+
+    /**
+     * @return whether the command is run with bind parameters.
+     */
+    public static boolean hasParameters(@NotNull final SQLInputs sqlInputs) {
+        return isNoneEmpty(sqlInputs.getQueryParameters());
+    }
+
+    /**
+     * Prepares the command of the inputs and binds its parameters.
+     */
+    @NotNull
+    public static PreparedStatement prepareStatement(@NotNull final Connection connection, @NotNull final SQLInputs sqlInputs,
+                                                     final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        final SQLParameters parameters = parse(sqlInputs.getSqlCommand());
+        final PreparedStatement preparedStatement = connection.prepareStatement(parameters.getSql(), resultSetType, resultSetConcurrency);
+        try {
+            parameters.bind(preparedStatement, sqlInputs.getQueryParameters(), sqlInputs.getQueryParametersDelimiter(),
+                    POSTGRES_DB_TYPE.equalsIgnoreCase(sqlInputs.getDbType()));
+        } catch (SQLException e) {
+            preparedStatement.close();
+            throw e;
+        }
+        return preparedStatement;
+    }
+
+    @NotNull
+    public static SQLParameters parse(@NotNull final String command) throws SQLException {
+        final StringBuilder sql = new StringBuilder(command.length());
+        final List<String> names = new ArrayList<>();
+        int positional = 0;
+        final int length = command.length();
+        int index = 0;
+        while (index < length) {
+            final char c = command.charAt(index);
+            final char next = index + 1 < length ? command.charAt(index + 1) : 0;
+            int end = index + 1;
+            if (c == '\'' || c == '"') {
+                end = command.indexOf(c, index + 1);
+                end = end < 0 ? length : end + 1;
+            } else if (c == '-' && next == '-') {
+                end = command.indexOf('\n', index);
+                end = end < 0 ? length : end;
+            } else if (c == '/' && next == '*') {
+                end = command.indexOf("*/", index + 2);
+                end = end < 0 ? length : end + 2;
+            } else if (c == POSITIONAL) {
+                positional++;
+            } else if (c == NAMED_PREFIX && isNameStart(next) && (index == 0 || command.charAt(index - 1) != NAMED_PREFIX)) {
+                end = index + 1;
+                while (end < length && isNamePart(command.charAt(end))) {
+                    end++;
+                }
+                names.add(command.substring(index + 1, end));
+                sql.append(POSITIONAL);
+                index = end;
+                continue;
+            }
+            sql.append(command, index, end);
+            index = end;
+        }
+        if (positional > 0 && !names.isEmpty()) {
+            throw new SQLException("Positional (?) and named (:name) parameters can't be used in the same command.");
+        }
+        return new SQLParameters(sql.toString(), names, positional + names.size());
+    }
+
+    /**
+     * @return the command with '?' in place of every named placeholder.
+     */
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    public int getParameterCount() {
+        return count;
+    }
+
+    public void bind(@NotNull final PreparedStatement preparedStatement, @NotNull final String parameters,
+                     final String delimiter) throws SQLException {
+        bind(preparedStatement, parameters, delimiter, false);
+    }
+
+    /**
+     * @param untyped whether the values are bound without a type, for databases that don't convert strings implicitly.
+     */
+    public void bind(@NotNull final PreparedStatement preparedStatement, @NotNull final String parameters,
+                     final String delimiter, final boolean untyped) throws SQLException {
+        final String[] values = splitByWholeSeparatorPreserveAllTokens(parameters,
+                isNoneEmpty(delimiter) ? delimiter : DEFAULT_QUERY_PARAMETERS_DELIMITER);
+        if (names.isEmpty()) {
+            if (values.length != count) {
+                throw new SQLException("The command has " + count + " parameters, but " + values.length + " values were given.");
+            }
+            for (int i = 0; i < values.length; i++) {
+                setValue(preparedStatement, i + 1, values[i], untyped);
+            }
+            return;
+        }
+        final Map<String, String> namedValues = new HashMap<>();
+        for (final String entry : values) {
+            final String[] nameValue = entry.split(NAME_VALUE_SEPARATOR, 2);
+            if (nameValue.length != 2) {
+                throw new SQLException("Invalid named parameter '" + entry + "', expected name=value.");
+            }
+            namedValues.put(nameValue[0].trim(), nameValue[1]);
+        }
+        for (int i = 0; i < names.size(); i++) {
+            final String name = names.get(i);
+            if (!namedValues.containsKey(name)) {
+                throw new SQLException("No value was given for the parameter :" + name + ".");
+            }
+            setValue(preparedStatement, i + 1, namedValues.get(name), untyped);
+        }
+    }
+
+    private static void setValue(@NotNull final PreparedStatement preparedStatement, final int index, final String value,
+                                 final boolean untyped) throws SQLException {
+        if (untyped) {
+            preparedStatement.setObject(index, value, Types.OTHER);
+        } else {
+            preparedStatement.setString(index, value);
+        }
+    }
+
+    private static boolean isNameStart(final char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isNamePart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
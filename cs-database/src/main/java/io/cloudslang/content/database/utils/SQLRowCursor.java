@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Forward only cursor over the rows of a query, kept in the global session object between two iterations.
+ * <p>
+ * Taking a row is constant time: the cursor only moves its position and releases the row it returned, so the rows
+ * already consumed can be garbage collected while the rest of the result is still iterated.
+ */
+public class SQLRowCursor {
+
+    private List<String> rows;
+    private int position;
+
+    public SQLRowCursor(@NotNull final List<String> rows) {
+        this.rows = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+    }
+
+    public boolean hasNext() {
+        return position < rows.size();
+    }
+
+    @NotNull
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more rows left.");
+        }
+        final String row = rows.set(position++, null);
+        if (!hasNext()) {
+            rows = new ArrayList<>();
+            position = 0;
+        }
+        return row;
+    }
+
+    public int getRowsLeft() {
+        return rows.size() - position;
+    }
+}
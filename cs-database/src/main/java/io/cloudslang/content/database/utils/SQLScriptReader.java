@@ -0,0 +1,198 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the commands of a SQL script one at a time, so a script of any size can be executed without loading it.
+ * <p>
+ * A command ends at the delimiter, unless the delimiter is inside a quoted string, a quoted identifier or a comment.
+ * Comments are removed from the commands, except the block comments starting with a plus sign, which are optimizer
+ * hints. A delimiter made of letters, like GO, only ends a command when it is alone on its line.
+ */
+public class SQLScriptReader implements Iterator<String>, Closeable {
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private final String delimiter;
+    private final boolean lineDelimiter;
+    private final StringBuilder command = new StringBuilder();
+    private int lookahead = NONE;
+    private int lineStart;
+    private String next;
+    private boolean finished;
+
+    public SQLScriptReader(@NotNull final Reader reader, @NotNull final String delimiter) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.delimiter = delimiter;
+        this.lineDelimiter = Character.isLetter(delimiter.charAt(0));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readCommand();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read the SQL script: " + e.getMessage(), e);
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more SQL commands left.");
+        }
+        final String current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readCommand() throws IOException {
+        int c;
+        while ((c = read()) != EOF) {
+            if (c == '\'' || c == '"') {
+                readQuoted((char) c);
+            } else if (c == '-' && peek() == '-') {
+                skipLineComment();
+            } else if (c == '/' && peek() == '*') {
+                readBlockComment();
+            } else if (c == '\n') {
+                if (lineDelimiter && endsWithDelimiterLine()) {
+                    final String current = takeCommand(lineStart);
+                    if (current != null) {
+                        return current;
+                    }
+                } else {
+                    command.append('\n');
+                    lineStart = command.length();
+                }
+            } else {
+                command.append((char) c);
+                if (!lineDelimiter && endsWithDelimiter()) {
+                    final String current = takeCommand(command.length() - delimiter.length());
+                    if (current != null) {
+                        return current;
+                    }
+                }
+            }
+        }
+        //the last command doesn't need a delimiter
+        return takeCommand(lineDelimiter && endsWithDelimiterLine() ? lineStart : command.length());
+    }
+
+    private void readQuoted(final char quote) throws IOException {
+        command.append(quote);
+        int c;
+        while ((c = read()) != EOF) {
+            command.append((char) c);
+            //a doubled quote is an escaped quote, it simply opens the string again
+            if (c == quote) {
+                return;
+            }
+        }
+    }
+
+    private void skipLineComment() throws IOException {
+        int c;
+        while ((c = peek()) != EOF && c != '\n') {
+            read();
+        }
+    }
+
+    private void readBlockComment() throws IOException {
+        read();
+        //an optimizer hint, /*+ ... */, is part of the command
+        final boolean hint = peek() == '+';
+        if (hint) {
+            command.append("/*");
+        }
+        int c;
+        while ((c = read()) != EOF) {
+            if (hint) {
+                command.append((char) c);
+            }
+            if (c == '*' && peek() == '/') {
+                read();
+                if (hint) {
+                    command.append('/');
+                }
+                break;
+            }
+        }
+        if (!hint) {
+            //keep the tokens around the comment apart
+            command.append(' ');
+        }
+    }
+
+    private boolean endsWithDelimiter() {
+        final int start = command.length() - delimiter.length();
+        return start >= 0 && command.indexOf(delimiter, start) == start;
+    }
+
+    private boolean endsWithDelimiterLine() {
+        return command.substring(lineStart).trim().equalsIgnoreCase(delimiter);
+    }
+
+    private String takeCommand(final int end) {
+        final String current = command.substring(0, end).trim();
+        command.setLength(0);
+        lineStart = 0;
+        return current.isEmpty() ? null : current;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != NONE) {
+            final int c = lookahead;
+            lookahead = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == NONE) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+}
@@ -247,6 +247,23 @@ public class SQLUtils {
         return new ArrayList<>();
     }
 
+    @NotNull
+    public static SQLRowCursor getRowCursorFromGlobalSessionMap(@NotNull final GlobalSessionObject<Map<String, Object>> globalSessionObject, @NotNull final String aKey) {
+        final Map<String, Object> globalMap = globalSessionObject.get();
+        final Object rows = globalMap.get(aKey);
+        if (rows instanceof SQLRowCursor) {
+            return (SQLRowCursor) rows;
+        }
+        if (rows instanceof List) {
+            return new SQLRowCursor((List<String>) rows);
+        }
+        if (rows != null) {
+            globalMap.remove(aKey);
+            globalSessionObject.setResource(new SQLSessionResource(globalMap));
+        }
+        return new SQLRowCursor(new ArrayList<String>());
+    }
+
     @NotNull
     public static String getStrColumns(@NotNull final GlobalSessionObject<Map<String, Object>> globalSessionObject, @NotNull final String strKeyCol) {
         final Map<String, Object> globalMap = globalSessionObject.get();
@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.actions;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.database.services.dbconnection.PooledDataSourceMetrics.ACTIVE_CONNECTIONS;
+import static io.cloudslang.content.database.services.dbconnection.PooledDataSourceMetrics.DATASOURCES;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SQLPoolStatisticsTest {
+
+    @Test
+    public void execute() {
+        final Map<String, String> resultMap = new SQLPoolStatistics().execute();
+        assertThat(resultMap.get(RETURN_CODE), is(SUCCESS));
+    }
+
+    @Test
+    public void formatPoolStatisticsHidesUrlPasswords() {
+        final Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put(DATASOURCES, 1L);
+        statistics.put(ACTIVE_CONNECTIONS, 3L);
+
+        final String result = SQLPoolStatistics.formatPoolStatistics(Collections.singletonMap(
+                "MSSQL.jdbc:sqlserver://host:1433;user=sa;password=secret;databaseName=db", statistics));
+
+        assertThat(result, is("MSSQL.jdbc:sqlserver://host:1433;user=sa;password=***;databaseName=db: datasources=1, activeConnections=3"));
+    }
+}
@@ -35,6 +35,7 @@ import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.AUTH_SQL;
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
+import static io.cloudslang.content.database.constants.DBOutputNames.ROW_COUNT;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -55,7 +56,7 @@ public class SQLQueryAllRowsTest {
     @Test
     public void execute() throws Exception {
         final Map<String, String> resultMap = new SQLQueryAllRows().execute(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(resultMap.get(RETURN_CODE), is(FAILURE));
         assertThat(resultMap.get(RETURN_RESULT), is("dbServerName can't be empty\n" +
                 "username input is empty.\n" +
@@ -74,11 +75,40 @@ public class SQLQueryAllRowsTest {
         when(SQLQueryAllRowsService.execQueryAllRows(any(SQLInputs.class))).thenReturn(res);
 
         final Map<String, String> resultMap = sqlQueryAllRows.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
-                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
 
         verifyStatic();
         assertThat(resultMap.get(RETURN_CODE), is(SUCCESS));
         assertThat(resultMap.get(RETURN_RESULT), is(res));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void executeToOutputFile() throws Exception {
+        final String outputFile = "rows.jsonl";
+
+        PowerMockito.mockStatic(SQLQueryAllRowsService.class);
+
+        when(SQLQueryAllRowsService.execQueryAllRowsToFile(any(SQLInputs.class))).thenReturn(42L);
+
+        final Map<String, String> resultMap = sqlQueryAllRows.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY,
+                "500", outputFile, JSONL_FORMAT, EMPTY, EMPTY);
+
+        verifyStatic();
+        assertThat(resultMap.get(RETURN_CODE), is(SUCCESS));
+        assertThat(resultMap.get(RETURN_RESULT), is(outputFile));
+        assertThat(resultMap.get(ROW_COUNT), is("42"));
+    }
+
+    @Test
+    public void executeInvalidOutputFormat() throws Exception {
+        final Map<String, String> resultMap = sqlQueryAllRows.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY,
+                "-1", "rows.xml", "xml", EMPTY, EMPTY);
+
+        assertThat(resultMap.get(RETURN_CODE), is(FAILURE));
+        assertThat(resultMap.get(RETURN_RESULT), is("fetchSize must be a positive integer or 0.\n" +
+                "outputFormat must be 'csv' or 'jsonl'."));
+    }
+
+}
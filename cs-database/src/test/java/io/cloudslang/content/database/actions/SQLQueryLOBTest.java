@@ -23,14 +23,19 @@ import io.cloudslang.content.database.constants.DBReturnCodes;
 import io.cloudslang.content.database.services.SQLQueryLobService;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.SQLInputsUtils;
+import io.cloudslang.content.database.utils.SQLLobSpool;
 import io.cloudslang.content.database.utils.SQLSessionResource;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Spy;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.File;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +50,7 @@ import static io.cloudslang.content.database.constants.DBOtherValues.*;
 import static io.cloudslang.content.database.constants.DBReturnCodes.NO_MORE;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.powermock.api.mockito.PowerMockito.*;
@@ -62,7 +68,7 @@ public class SQLQueryLOBTest {
     @Test
     public void execute() throws Exception {
         final Map<String, String> resultMap = new SQLQueryLOB().execute(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, null);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, null);
         assertThat(resultMap.get(RETURN_CODE), is(FAILURE));
         assertThat(resultMap.get(RETURN_RESULT), is("dbServerName can't be empty\nusername input is empty.\npassword input is empty.\ndatabase input is empty.\ntrustStore or trustStorePassword is mandatory if trustAllRoots is false\ncommand input is empty."));
     }
@@ -81,7 +87,7 @@ public class SQLQueryLOBTest {
 
         when(SQLInputsUtils.getOrDefaultGlobalSessionObj(any(GlobalSessionObject.class))).thenReturn(globalSessionObject);
         final Map<String, String> resultMap = sqlQueryLOB.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
-                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, globalSessionObject);
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, globalSessionObject);
 
         verifyStatic();
         assertThat(resultMap.get(RETURN_CODE), is(NO_MORE));
@@ -104,13 +110,51 @@ public class SQLQueryLOBTest {
 
         when(SQLInputsUtils.getOrDefaultGlobalSessionObj(any(GlobalSessionObject.class))).thenReturn(globalSessionObject);
         final Map<String, String> resultMap = sqlQueryLOB.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
-                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, globalSessionObject);
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, globalSessionObject);
 
         verifyStatic();
         assertThat(resultMap.get(RETURN_CODE), is(SUCCESS));
         assertThat(resultMap.get(RETURN_RESULT), is("a"));
     }
 
+    @Test
+    public void executeWithLobSpool() throws Exception {
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        globalSessionObject.setResource(new SQLSessionResource(new HashMap<String, Object>()));
+        final File[] spoolFile = new File[1];
+        mockStatic(SQLQueryLobService.class);
+        when(SQLQueryLobService.executeSqlQueryLob(any(SQLInputs.class), any(SQLLobSpool.class))).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                final SQLInputs sqlInputs = (SQLInputs) invocation.getArguments()[0];
+                final SQLLobSpool lobSpool = (SQLLobSpool) invocation.getArguments()[1];
+                sqlInputs.setStrColumns("ID,TEXT");
+                sqlInputs.getLRows().add("1,(CLOB)...");
+                sqlInputs.getLRows().add("2,null");
+                lobSpool.writeClob(0, "TEXT", new StringReader("large text"));
+                lobSpool.finish();
+                spoolFile[0] = lobSpool.getFile();
+                return true;
+            }
+        });
+
+        final List<Map<String, String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(sqlQueryLOB.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
+                    AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY,
+                    CONCUR_READ_ONLY, "true", globalSessionObject));
+        }
+
+        assertThat(results.get(0).get(RETURN_RESULT), is("1,(CLOB)..."));
+        assertThat(results.get(0).get("columnNames"), is("ID,TEXT"));
+        assertThat(results.get(1).get(RETURN_RESULT), is("large text"));
+        assertThat(results.get(1).get("columnNames"), is("CLOB column: TEXT"));
+        assertThat(results.get(1).get("rowsLeft"), is("1"));
+        assertThat(results.get(2).get(RETURN_RESULT), is("2,null"));
+        assertThat(results.get(3).get(RETURN_CODE), is(NO_MORE));
+        assertFalse(spoolFile[0].exists());
+    }
+
     //GlobalSessionObject was implemented
     //In CloudSlang the object is instantiated by default and cannot be null
     @Test
@@ -121,7 +165,7 @@ public class SQLQueryLOBTest {
         when(SQLQueryLobService.executeSqlQueryLob(any(SQLInputs.class))).thenReturn(true);
 
         final Map<String, String> resultMap = sqlQueryLOB.execute("1", MSSQL_DB_TYPE, "username", "Password", "someInstance", "123", "db",
-                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, null);
+                AUTH_SQL, EMPTY, EMPTY, "something", "true", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, null);
 
         verifyStatic();
         assertThat(resultMap.get(RETURN_CODE), is(DBReturnCodes.NO_MORE));
@@ -32,9 +32,11 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 
 
@@ -140,4 +142,25 @@ public class SQLQueryAllRowsServiceTest {
         verify(resultSetMock, Mockito.times(1)).close();
     }
 
+    @Test
+    public void testExecuteQueryAllRowsToFileRestoresConnectionSettings() throws Exception {
+        final File outputFile = File.createTempFile("allRows", ".csv");
+        outputFile.deleteOnExit();
+        sqlInputs.setDbType(POSTGRES_DB_TYPE);
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setOutputFile(outputFile.getAbsolutePath());
+        when(connectionMock.getAutoCommit()).thenReturn(true);
+        when(connectionMock.isReadOnly()).thenReturn(false);
+        when(statementMock.executeQuery(SQL_QUERY)).thenThrow(new SQLException("query failed"));
+
+        expectedEx.expect(SQLException.class);
+        try {
+            SQLQueryAllRowsService.execQueryAllRowsToFile(sqlInputs);
+        } finally {
+            verify(connectionMock, Mockito.times(1)).setAutoCommit(false);
+            verify(connectionMock, Mockito.times(1)).setAutoCommit(true);
+            verify(connectionMock, Mockito.times(1)).setReadOnly(false);
+        }
+    }
 }
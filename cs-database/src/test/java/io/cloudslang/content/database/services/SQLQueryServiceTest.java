@@ -34,6 +34,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
@@ -66,6 +67,8 @@ public class SQLQueryServiceTest {
 
     @Mock
     private Statement statementMock;
+    @Mock
+    private PreparedStatement preparedStatementMock;
     @Rule
     private ExpectedException expectedEx = ExpectedException.none();
 
@@ -123,6 +126,30 @@ public class SQLQueryServiceTest {
         verify(statementMock, Mockito.times(1)).executeQuery(SQL_QUERY);
     }
 
+    @Test
+    public void testExecuteSqlQueryWithNamedParameters() throws Exception {
+        final String query = "select * from dbTable where id = :id and name = :name or parent = :id";
+        sqlInputs.setDbType(ORACLE_DB_TYPE);
+        sqlInputs.setSqlCommand(query);
+        sqlInputs.setQueryParameters("name=it's;id=7");
+        sqlInputs.setQueryParametersDelimiter(";");
+        sqlInputs.setResultSetType(getResultSetType(TYPE_FORWARD_ONLY));
+        sqlInputs.setResultSetConcurrency(getResultSetConcurrency(CONCUR_READ_ONLY));
+        sqlInputs.setTimeout(SQL_QUERY_TIMEOUT);
+        when(connectionMock.prepareStatement("select * from dbTable where id = ? and name = ? or parent = ?",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+
+        SQLQueryService.executeSqlQuery(sqlInputs);
+
+        assertEquals("defaulLabel,defaulLabel,defaulLabel", sqlInputs.getStrColumns());
+        verify(preparedStatementMock, Mockito.times(1)).setString(1, "7");
+        verify(preparedStatementMock, Mockito.times(1)).setString(2, "it's");
+        verify(preparedStatementMock, Mockito.times(1)).setString(3, "7");
+        verify(preparedStatementMock, Mockito.times(1)).setQueryTimeout(SQL_QUERY_TIMEOUT);
+        verify(statementMock, Mockito.never()).executeQuery(query);
+    }
+
     @Test
     public void testExecuteSqlQueryNoCommand() throws Exception {
         expectedEx.expect(Exception.class);
@@ -33,13 +33,21 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 
 import static io.cloudslang.content.database.constants.DBOtherValues.ORACLE_DB_TYPE;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -136,4 +144,89 @@ public class SQLScriptServiceTest {
         expectedEx.expectMessage("No SQL command to be executed.");
         SQLScriptService.executeSqlScript(new ArrayList<String>(), sqlInputs);
     }
+
+    @Test
+    public void testExecuteSqlScriptInBatchesCommitsPerBatch() throws Exception {
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setBatchSize(2);
+        sqlInputs.setCommitPerBatch(true);
+        final List<String> commands = Arrays.asList(SQL_COMMAND, SQL_COMMAND, SQL_COMMAND, SQL_COMMAND, SQL_COMMAND);
+
+        SQLScriptService.executeSqlScriptInBatches(commands.iterator(), sqlInputs);
+
+        verify(statementMock, Mockito.times(5)).addBatch(SQL_COMMAND);
+        verify(statementMock, Mockito.times(3)).executeBatch();
+        verify(connectionMock, Mockito.times(3)).commit();
+        verify(connectionMock, Mockito.times(1)).setAutoCommit(true);
+        assertThat(sqlInputs.getBatchUpdateCounts(), is(Arrays.asList(3, 3, 3)));
+        assertThat(sqlInputs.getIUpdateCount(), is(9));
+    }
+
+    @Test
+    public void testExecuteSqlScriptInBatchesPreparesInsertsInOrder() throws Exception {
+        final String url = "jdbc:h2:mem:scriptOrder;DB_CLOSE_DELAY=-1";
+        setUpH2Connection(url, "CREATE TABLE items (id INT, name VARCHAR(20))");
+        sqlInputs.setPrepareInserts(true);
+        sqlInputs.setBatchSize(10);
+
+        SQLScriptService.executeSqlScriptInBatches(Arrays.asList(
+                "INSERT INTO items (id, name) VALUES (1, 'it''s')",
+                "INSERT INTO items (id, name) VALUES (2, 'b')",
+                "UPDATE items SET name = 'c' WHERE id = 2",
+                "INSERT INTO items (id, name) VALUES (3, 'd')").iterator(), sqlInputs);
+
+        assertThat(sqlInputs.getBatchUpdateCounts(), is(Arrays.asList(4)));
+        assertThat(queryNames(url), is("it's,c,d"));
+    }
+
+    @Test
+    public void testExecuteSqlScriptInBatchesRollsBackFailedBatch() throws Exception {
+        final String url = "jdbc:h2:mem:scriptRollback;DB_CLOSE_DELAY=-1";
+        setUpH2Connection(url, "CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        sqlInputs.setBatchSize(2);
+        sqlInputs.setCommitPerBatch(true);
+
+        try {
+            SQLScriptService.executeSqlScriptInBatches(Arrays.asList(
+                    "INSERT INTO items VALUES (1, 'a')",
+                    "INSERT INTO items VALUES (2, 'b')",
+                    "INSERT INTO items VALUES (3, 'c')",
+                    "INSERT INTO items VALUES (1, 'd')").iterator(), sqlInputs);
+            fail("The duplicate key should fail the second batch");
+        } catch (SQLException e) {
+            assertThat(e.getMessage(), containsString("Batch 2 failed"));
+        }
+
+        assertThat(queryNames(url), is("a,b"));
+    }
+
+    @Test
+    public void testExecuteSqlScriptInBatchesNoCommands() throws Exception {
+        expectedEx.expect(Exception.class);
+        expectedEx.expectMessage("No SQL command to be executed.");
+        SQLScriptService.executeSqlScriptInBatches(new ArrayList<String>().iterator(), sqlInputs);
+    }
+
+    private void setUpH2Connection(final String url, final String createTable) throws Exception {
+        Class.forName("org.h2.Driver");
+        try (final Connection connection = DriverManager.getConnection(url);
+             final Statement statement = connection.createStatement()) {
+            statement.execute(createTable);
+        }
+        sqlInputs.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+        sqlInputs.setResultSetConcurrency(ResultSet.CONCUR_READ_ONLY);
+        when(connectionServiceMock.setUpConnection(sqlInputs)).thenReturn(DriverManager.getConnection(url));
+    }
+
+    private String queryNames(final String url) throws SQLException {
+        final StringBuilder names = new StringBuilder();
+        try (final Connection connection = DriverManager.getConnection(url);
+             final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("SELECT name FROM items ORDER BY id")) {
+            while (resultSet.next()) {
+                names.append(names.length() == 0 ? "" : ",").append(resultSet.getString(1));
+            }
+        }
+        return names.toString();
+    }
 }
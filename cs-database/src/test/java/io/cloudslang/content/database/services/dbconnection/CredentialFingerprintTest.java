@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class CredentialFingerprintTest {
+
+    private static final String DB_URL = "jdbc:mysql://localhost:3306/db";
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+
+    @Test
+    public void testSameCredentialsHaveTheSameFingerprint() throws SQLException {
+        CredentialFingerprint credentialFingerprint = new CredentialFingerprint();
+
+        String fingerprint = credentialFingerprint.getFingerprint(DB_URL, USERNAME, PASSWORD);
+
+        assertEquals(fingerprint, credentialFingerprint.getFingerprint(DB_URL, USERNAME, PASSWORD));
+        assertFalse(fingerprint.contains(PASSWORD));
+    }
+
+    @Test
+    public void testDifferentCredentialsHaveDifferentFingerprints() throws SQLException {
+        CredentialFingerprint credentialFingerprint = new CredentialFingerprint();
+
+        String fingerprint = credentialFingerprint.getFingerprint(DB_URL, USERNAME, PASSWORD);
+
+        assertNotEquals(fingerprint, credentialFingerprint.getFingerprint(DB_URL, USERNAME, "other"));
+        assertNotEquals(fingerprint, credentialFingerprint.getFingerprint(DB_URL, "other", PASSWORD));
+        assertNotEquals(fingerprint, credentialFingerprint.getFingerprint(DB_URL + "2", USERNAME, PASSWORD));
+        //the separator keeps the parts apart
+        assertNotEquals(credentialFingerprint.getFingerprint(DB_URL, "ab", "c"), credentialFingerprint.getFingerprint(DB_URL, "a", "bc"));
+    }
+
+    @Test
+    public void testFingerprintsAreSaltedPerInstance() throws SQLException {
+        assertNotEquals(new CredentialFingerprint().getFingerprint(DB_URL, USERNAME, PASSWORD),
+                new CredentialFingerprint().getFingerprint(DB_URL, USERNAME, PASSWORD));
+    }
+}
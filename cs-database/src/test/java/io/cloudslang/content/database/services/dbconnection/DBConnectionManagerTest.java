@@ -19,24 +19,29 @@ package io.cloudslang.content.database.services.dbconnection;
 
 import com.mchange.v2.c3p0.PooledDataSource;
 import io.cloudslang.content.database.services.dbconnection.DBConnectionManager.DBType;
-import io.cloudslang.content.database.utils.TripleDES;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
-import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
-import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Hashtable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
@@ -47,7 +52,6 @@ import static org.mockito.Mockito.*;
  * Created by victor on 10.01.2017.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest(TripleDES.class)
 @PowerMockIgnore({"javax.management.*", "org.apache.commons.logging.*"})
 public class DBConnectionManagerTest {
 
@@ -57,7 +61,6 @@ public class DBConnectionManagerTest {
     private static final String DB_URL = "dbUrl";
     private static final String FALSE = "false";
     private static final String TRUE = "true";
-    private static final String ENCRYPTED_PASS = "encryptedPass";
     @Rule
     public ExpectedException exception = ExpectedException.none();
     private DBConnectionManager dbcManager;
@@ -231,6 +234,22 @@ public class DBConnectionManagerTest {
         assertEquals(connMock, connection);
     }
 
+    /**
+     * Test getConnection(...) method with an unsupported pooled datasource provider.
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testGetConnectionWithUnsupportedProvider() throws SQLException {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        Properties poolingProperties = getPoolingProperties();
+        poolingProperties.put("db.pooling.provider", "dbcp");
+
+        exception.expect(SQLException.class);
+        exception.expectMessage("Unsupported db.pooling.provider = dbcp. Valid values: c3p0, hikari");
+        dbcManagerSpy.getConnection(DBType.MYSQL, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, poolingProperties);
+    }
+
     /**
      * Test cleanDataSources().
      *
@@ -240,9 +259,9 @@ public class DBConnectionManagerTest {
     public void testCleanDataSources() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject1(dataSourceMock);
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = getHashTableObject1(dataSourceMock);
 
-        Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTable = new ConcurrentHashMap<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
 
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
@@ -266,7 +285,7 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         dbcManagerSpy.dbmsPoolTable = getHashTableObject1(dataSourceMock);
-        Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTable = new ConcurrentHashMap<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
         providerTable.put(C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME, dataSourceProviderMock);
@@ -278,7 +297,7 @@ public class DBConnectionManagerTest {
 
         dbcManagerSpy.shutdownDbmsPools();
         verify(dataSourceProviderMock, times(1)).closePooledDataSource(any(DataSource.class));
-        assertNull(dbcManagerSpy.dbmsPoolTable);
+        assertTrue(dbcManagerSpy.dbmsPoolTable.isEmpty());
     }
 
     /**
@@ -331,33 +350,42 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
-
-        PowerMockito.mockStatic(TripleDES.class);
-        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dbcManagerSpy, dataSourceMock, connMock);
 
         assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
         verify(dataSourceMock, times(1)).getConnection();
     }
 
     /**
-     * Test method getPooledConnection(...) throws encryption failed exception.
+     * Test method getPooledConnection(...) reuses the DataSource of the same credentials.
      *
      * @throws Exception
      */
     @Test
-    public void testGetPooledConnectionThrowsEncryptionException() throws Exception {
+    public void testGetPooledConnectionReusesDataSourceForSameCredentials() throws Exception {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        PooledDataSource otherDataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
-        dbcManagerSpy.dbmsPoolTable = dbmsPoolTable;
-        PowerMockito.mockStatic(TripleDES.class);
-        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenThrow(new Exception("encryption failed"));
+        doReturn(connMock).when(dataSourceMock).getConnection();
+        doReturn(connMock).when(otherDataSourceMock).getConnection();
+        dbcManagerSpy.dbmsPoolTable = new ConcurrentHashMap<>();
+        doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class), anyString(), anyString(), anyString());
+        doReturn(otherDataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class)
+                , anyString(), anyString(), anyString(), any(Map.class));
 
-        exception.expect(Exception.class);
-        exception.expectMessage("Failed to encrypt password for key = ");
         dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, "other_password");
+
+        verify(dbcManagerSpy, times(1)).createDataSource(any(DBType.class), anyString(), anyString(), anyString());
+        verify(dbcManagerSpy, times(1)).createDataSource(any(DBType.class)
+                , anyString(), anyString(), anyString(), any(Map.class));
+        verify(dataSourceMock, times(2)).getConnection();
+        verify(otherDataSourceMock, times(1)).getConnection();
+        for (String dsTableKey : dbcManagerSpy.dbmsPoolTable.get(DBType.MYSQL + "." + DB_URL).keySet()) {
+            assertFalse(dsTableKey.contains(DHARMA_PASSWORD));
+        }
     }
 
     /**
@@ -371,17 +399,110 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dbcManagerSpy, dataSourceMock, connMock);
+        //the dbms pool is there but not the datasource of these credentials
+        dbcManagerSpy.dbmsPoolTable.get(DBType.MYSQL + "." + DB_URL).clear();
         doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class));
-
-        PowerMockito.mockStatic(TripleDES.class);
-        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+                , anyString(), anyString(), anyString(), any(Map.class));
 
         assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
         verify(dataSourceMock, times(1)).getConnection();
-        verify(dbcManagerSpy.createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class)), times(1));
+        verify(dbcManagerSpy, times(1)).createDataSource(any(DBType.class)
+                , anyString(), anyString(), anyString(), any(Map.class));
+    }
+
+    /**
+     * Test method getPooledConnection(...) creates the DataSource of a new dbms only once for parallel calls.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetPooledConnectionCreatesDataSourceOnceForParallelCalls() throws Exception {
+        final DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        Connection connMock = mock(Connection.class);
+        doReturn(connMock).when(dataSourceMock).getConnection();
+        dbcManagerSpy.dbmsPoolTable = new ConcurrentHashMap<>();
+        doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class), anyString(), anyString(), anyString());
+
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Connection>> connections = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                connections.add(executorService.submit(new Callable<Connection>() {
+                    @Override
+                    public Connection call() throws Exception {
+                        start.await();
+                        return dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Connection> connection : connections) {
+                assertEquals(connMock, connection.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(dbcManagerSpy, times(1)).createDataSource(any(DBType.class), anyString(), anyString(), anyString());
+        verify(dataSourceMock, times(threads)).getConnection();
+        assertEquals(1, dbcManagerSpy.dbmsPoolTable.get(DBType.MYSQL + "." + DB_URL).size());
+    }
+
+    /**
+     * Test getConnection(...) does not customize the manager again for the pooling properties already applied.
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testGetConnectionKeepsAppliedPoolingProperties() throws SQLException {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        Connection connMock = mock(Connection.class);
+        doReturn(connMock).when(dbcManagerSpy).getPooledConnection(any(DBType.class)
+                , any(String.class), any(String.class), any(String.class));
+
+        dbcManagerSpy.getConnection(DBType.MYSQL, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
+        Properties appliedProperties = dbcManagerSpy.dbPoolingProperties;
+        dbcManagerSpy.getConnection(DBType.MYSQL, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
+
+        assertSame(appliedProperties, dbcManagerSpy.dbPoolingProperties);
+        assertTrue(dbcManagerSpy.isPoolingEnabled);
+    }
+
+    /**
+     * Test method getPoolStatistics().
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetPoolStatistics() throws Exception {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        Connection connMock = mock(Connection.class);
+        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dbcManagerSpy, dataSourceMock, connMock);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
+        PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
+        doReturn(3).when(providerMock).getCheckedOutConnectionNumber(any(DataSource.class));
+        doReturn(2).when(providerMock).getCheckedInConnectionNumber(any(DataSource.class));
+        doReturn(1).when(providerMock).getThreadsAwaitingCheckoutNumber(any(DataSource.class));
+        doReturn(providerMock).when(providerTableMock).get(anyString());
+        dbcManagerSpy.providerTable = providerTableMock;
+
+        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+
+        Map<String, Map<String, Long>> statistics = dbcManagerSpy.getPoolStatistics();
+        assertEquals(1, statistics.size());
+        Map<String, Long> poolStatistics = statistics.get(DBType.MYSQL + "." + DB_URL);
+        assertEquals(Long.valueOf(1), poolStatistics.get(PooledDataSourceMetrics.DATASOURCES));
+        assertEquals(Long.valueOf(3), poolStatistics.get(PooledDataSourceMetrics.ACTIVE_CONNECTIONS));
+        assertEquals(Long.valueOf(2), poolStatistics.get(PooledDataSourceMetrics.IDLE_CONNECTIONS));
+        assertEquals(Long.valueOf(1), poolStatistics.get(PooledDataSourceMetrics.THREADS_AWAITING_CHECKOUT));
+        assertEquals(Long.valueOf(2), poolStatistics.get(PooledDataSourceMetrics.CHECKOUTS));
+        assertEquals(Long.valueOf(0), poolStatistics.get(PooledDataSourceMetrics.FAILED_CHECKOUTS));
     }
 
     /**
@@ -393,7 +514,7 @@ public class DBConnectionManagerTest {
     public void testGetConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
@@ -412,7 +533,7 @@ public class DBConnectionManagerTest {
     public void testGetCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -430,7 +551,7 @@ public class DBConnectionManagerTest {
     public void testGetCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -448,7 +569,7 @@ public class DBConnectionManagerTest {
     public void testGetTotalConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
@@ -467,7 +588,7 @@ public class DBConnectionManagerTest {
     public void testGetTotalCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -485,7 +606,7 @@ public class DBConnectionManagerTest {
     public void testGetTotalCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -501,7 +622,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         doReturn(10).when(providerMock).getCheckedInConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
     }
@@ -513,7 +634,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         doReturn(10).when(providerMock).getCheckedOutConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
     }
@@ -525,7 +646,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObjects(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObjects(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getAllConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -537,7 +658,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObjects3(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObjects3(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getCheckedOutConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -549,7 +670,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObject2(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObject2(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getCheckedInConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -569,32 +690,33 @@ public class DBConnectionManagerTest {
         return dbPoolingPropertiesMock;
     }
 
-    private Hashtable getHashTableObject1(PooledDataSource dataSourceMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getHashTableObject1(PooledDataSource dataSourceMock) throws SQLException {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<>();
         String tableKey1 = "key1";
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentMap<String, DataSource> hashTable1 = new ConcurrentHashMap<>();
         doReturn(0).when(dataSourceMock).getNumConnectionsAllUsers();
         hashTable1.put(tableKey1, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject2(PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = new Hashtable<>();
-        String dsTableKey = DB_URL + "." + DHARMA_USER + "." + ENCRYPTED_PASS;
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getHashTableObject2(DBConnectionManager dbcManager, PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = new ConcurrentHashMap<>();
+        String dsTableKey = DB_URL + "." + DHARMA_USER + "."
+                + dbcManager.credentialFingerprint.getFingerprint(DB_URL, DHARMA_USER, DHARMA_PASSWORD);
         String tableKey1 = DBType.MYSQL + "." + DB_URL;
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentMap<String, DataSource> hashTable1 = new ConcurrentHashMap<>();
         doReturn(connMock).when(dataSourceMock).getConnection();
         hashTable1.put(dsTableKey, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject3() {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
-        Hashtable<String, DataSource> hashTable = new Hashtable<String, DataSource>();
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getHashTableObject3() {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<>();
+        ConcurrentMap<String, DataSource> hashTable = new ConcurrentHashMap<>();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         String dbmsPoolKey = DBType.MYSQL + "." + DB_URL;
         hashTable.put("key", dataSourceMock);
@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.cloudslang.content.database.services.dbconnection.DBConnectionManager.DBType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HikariPooledDataSourceProviderTest {
+
+    private static final String H2_URL = "jdbc:h2:mem:hikariProviderTest;DB_CLOSE_DELAY=-1";
+
+    private HikariPooledDataSourceProvider provider;
+
+    /**
+     * Will execute before each test.
+     */
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.put(PooledDataSourceProvider.MAX_POOL_SIZE_NAME, "5");
+        properties.put(PooledDataSourceProvider.CONNECTION_MAX_IDLETIME_NAME, "60");
+        properties.put(PooledDataSourceProvider.CONNECTION_CHECKOUT_TIMEOUT_NAME, "2000");
+        properties.put(PooledDataSourceProvider.MYSQL_CONNECTION_LIFETIME_NAME, "600");
+        //the pooling properties are shared by all the providers
+        PooledDataSourceProvider.dbPoolingProperties = properties;
+        provider = new HikariPooledDataSourceProvider(properties);
+    }
+
+    /**
+     * Will execute after each test.
+     */
+    @After
+    public void tearDown() {
+        PooledDataSourceProvider.dbPoolingProperties = null;
+        provider = null;
+    }
+
+    /**
+     * Test the pooling properties are mapped to the HikariCP configuration.
+     */
+    @Test
+    public void testGetPoolingConfig() {
+        HikariConfig config = provider.getPoolingConfig(DBType.MYSQL);
+
+        assertEquals(5, config.getMaximumPoolSize());
+        assertEquals(0, config.getMinimumIdle());
+        assertEquals(60000, config.getIdleTimeout());
+        assertEquals(2000, config.getConnectionTimeout());
+        assertEquals(600000, config.getMaxLifetime());
+        assertNull(config.getConnectionTestQuery());
+        assertTrue(config.getPoolName().startsWith("cs-database-mysql-"));
+        //the statement cache is opt-in
+        assertNull(config.getDataSourceProperties().getProperty("cachePrepStmts"));
+        assertNull(config.getDataSourceProperties().getProperty("prepStmtCacheSize"));
+    }
+
+    /**
+     * Test the statement cache size is handed to the Oracle driver.
+     */
+    @Test
+    public void testGetPoolingConfigStatementCache() {
+        PooledDataSourceProvider.dbPoolingProperties.put(PooledDataSourceProvider.CONNECTION_STATEMENT_CACHE_SIZE_NAME, "50");
+
+        HikariConfig config = provider.getPoolingConfig(DBType.ORACLE);
+
+        assertEquals("50", config.getDataSourceProperties().getProperty("oracle.jdbc.implicitStatementCacheSize"));
+
+        config = provider.getPoolingConfig(DBType.MYSQL);
+
+        assertEquals("true", config.getDataSourceProperties().getProperty("cachePrepStmts"));
+        assertEquals("50", config.getDataSourceProperties().getProperty("prepStmtCacheSize"));
+    }
+
+    /**
+     * Test drivers without Connection.isValid get a test query.
+     */
+    @Test
+    public void testGetPoolingConfigWithTestQuery() {
+        assertEquals("SELECT 1", provider.getPoolingConfig(DBType.MSSQL).getConnectionTestQuery());
+        assertEquals("SELECT 1 FROM SYSIBM.SYSDUMMY1", provider.getPoolingConfig(DBType.DB2).getConnectionTestQuery());
+    }
+
+    /**
+     * Test a check out from a HikariCP pool and the connection numbers of the pool.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOpenPooledDataSource() throws Exception {
+        //the actions load the driver before asking for a connection
+        Class.forName("org.h2.Driver");
+        DataSource dataSource = provider.openPooledDataSource(DBType.CUSTOM, H2_URL, "sa", "");
+        try {
+            assertTrue(dataSource instanceof HikariDataSource);
+            Connection connection = dataSource.getConnection();
+            assertEquals(1, provider.getCheckedOutConnectionNumber(dataSource));
+            assertEquals(0, provider.getThreadsAwaitingCheckoutNumber(dataSource));
+            connection.close();
+            assertEquals(0, provider.getCheckedOutConnectionNumber(dataSource));
+            assertEquals(provider.getAllConnectionNumber(dataSource), provider.getCheckedInConnectionNumber(dataSource));
+        } finally {
+            provider.closePooledDataSource(dataSource);
+        }
+        assertTrue(((HikariDataSource) dataSource).isClosed());
+    }
+}
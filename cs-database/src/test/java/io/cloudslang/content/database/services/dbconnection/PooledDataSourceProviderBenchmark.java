@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import io.cloudslang.content.database.services.dbconnection.DBConnectionManager.DBType;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the check out throughput of the c3p0 and the HikariCP providers on an in memory H2 database.
+ * <p>
+ * It is not a unit test, run it with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.cloudslang.content.database.services.dbconnection.PooledDataSourceProviderBenchmark
+ * -Dexec.args="[threads] [seconds]"
+ */
+public class PooledDataSourceProviderBenchmark {
+
+    private static final String H2_URL = "jdbc:h2:mem:providerBenchmark;DB_CLOSE_DELAY=-1";
+    private static final int DEFAULT_THREADS = 16;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int WARM_UP_SECONDS = 2;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        Class.forName("org.h2.Driver");
+
+        Properties properties = new Properties();
+        //the pool is smaller than the number of threads, so the check outs also measure the waiting on the pool
+        properties.put(PooledDataSourceProvider.MAX_POOL_SIZE_NAME, String.valueOf(Math.max(1, threads / 2)));
+        properties.put(PooledDataSourceProvider.CONNECTION_TEST_ONCHECKOUT_NAME, "false");
+        PooledDataSourceProvider.dbPoolingProperties = properties;
+
+        List<PooledDataSourceProvider> providers = new ArrayList<>();
+        providers.add(new C3P0PooledDataSourceProvider(properties));
+        providers.add(new HikariPooledDataSourceProvider(properties));
+
+        for (PooledDataSourceProvider provider : providers) {
+            DataSource dataSource = provider.openPooledDataSource(DBType.CUSTOM, H2_URL, "sa", "");
+            try {
+                run(dataSource, threads, WARM_UP_SECONDS);
+                long checkouts = run(dataSource, threads, seconds);
+                System.out.println(String.format("%-32s %d threads, %d checkouts/s",
+                        provider.getProviderName(), threads, checkouts / seconds));
+            } finally {
+                provider.closePooledDataSource(dataSource);
+            }
+        }
+    }
+
+    private static long run(final DataSource dataSource, int threads, int seconds) throws Exception {
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executorService.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() throws InterruptedException, SQLException {
+                        start.await();
+                        long checkouts = 0;
+                        while (System.nanoTime() < end) {
+                            Connection connection = dataSource.getConnection();
+                            connection.close();
+                            checkouts++;
+                        }
+                        return checkouts;
+                    }
+                }));
+            }
+            start.countDown();
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FormatTest {
+
+    private static final String SELECT_ROWS = "SELECT ID, NAME, NOTE FROM ROWS ORDER BY ID";
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:formatTest");
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ROWS (ID INT, NAME VARCHAR(50), NOTE VARCHAR(50))");
+            statement.execute("INSERT INTO ROWS VALUES (1, 'plain', NULL)");
+            statement.execute("INSERT INTO ROWS VALUES (2, 'a,b', 'say \"hi\"')");
+            statement.execute("INSERT INTO ROWS VALUES (3, 'two' || CHAR(10) || 'lines', 'back\\slash')");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void resultSetToCsv() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final long rowCount;
+        try (final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery(SELECT_ROWS)) {
+            rowCount = Format.resultSetToCsv(resultSet, false, ",", "\n", writer, 2);
+        }
+
+        assertThat(rowCount, is(3L));
+        assertThat(writer.toString(), is("ID,NAME,NOTE\n" +
+                "1,plain,\n" +
+                "2,\"a,b\",\"say \"\"hi\"\"\"\n" +
+                "3,\"two\nlines\",back\\slash\n"));
+    }
+
+    @Test
+    public void resultSetToJsonLines() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final long rowCount;
+        try (final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery(SELECT_ROWS)) {
+            rowCount = Format.resultSetToJsonLines(resultSet, false, writer, 2);
+        }
+
+        assertThat(rowCount, is(3L));
+        assertThat(writer.toString(), is("{\"ID\":\"1\",\"NAME\":\"plain\",\"NOTE\":null}\n" +
+                "{\"ID\":\"2\",\"NAME\":\"a,b\",\"NOTE\":\"say \\\"hi\\\"\"}\n" +
+                "{\"ID\":\"3\",\"NAME\":\"two\\nlines\",\"NOTE\":\"back\\\\slash\"}\n"));
+    }
+}
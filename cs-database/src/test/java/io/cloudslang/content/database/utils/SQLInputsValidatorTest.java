@@ -92,19 +92,19 @@ public class SQLInputsValidatorTest {
     public void validateSqlQueryAllRowsInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryAllRowsInputs("1", MSSQL_DB_TYPE, "username",
                 "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY,
-                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryAllRowsInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryAllRowsInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
 
         final List<String> validationList2 = validateSqlQueryAllRowsInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, "-1", EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, "-1", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList2, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_NEGATIVE_TIMEOUT)));
     }
@@ -112,30 +112,30 @@ public class SQLInputsValidatorTest {
     @Test
     public void validateSqlQueryLOBInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryLOBInputs("1", MSSQL_DB_TYPE, "username",
-                "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY, "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY, "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, "true");
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryLOBInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryLOBInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, "maybe");
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
-                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
+                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT, INVALID_LOB_SPOOL)));
     }
 
     @Test
     public void validateSqlQueryTabularInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryTabularInputs("1", MSSQL_DB_TYPE, "username",
                 "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY,
-                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, EMPTY);
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryTabularInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryTabularInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
     }
@@ -143,14 +143,23 @@ public class SQLInputsValidatorTest {
     @Test
     public void validateSqlScriptInputsValid() throws Exception {
         final List<String> validationList = validateSqlScriptInputs("1", MSSQL_DB_TYPE, "username",
-                "Password", "someInstance", "123", "database", AUTH_SQL, "Commands", EMPTY, "true", EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Commands", EMPTY, "true", EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY,
+                "100", "true", "false");
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
+    @Test
+    public void validateSqlScriptInputsInvalidBatching() throws Exception {
+        final List<String> validationList = validateSqlScriptInputs("1", MSSQL_DB_TYPE, "username",
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Commands", EMPTY, "true", EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY,
+                "-1", "yes", "no");
+        assertThat(validationList, is(Arrays.asList(INVALID_BATCH_SIZE, INVALID_COMMIT_PER_BATCH, INVALID_PREPARE_INSERTS)));
+    }
+
     @Test
     public void validateSqlScriptInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlScriptInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMANDS_EXCLUSIVITY)));
 
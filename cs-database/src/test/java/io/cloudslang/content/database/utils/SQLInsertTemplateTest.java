@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class SQLInsertTemplateTest {
+
+    @Test
+    public void parseInsertWithColumns() {
+        final SQLInsertTemplate template = SQLInsertTemplate.parse("insert  into items (id, name)\n values ( -1.5e2 , 'it''s, ok' )");
+
+        assertThat(template.getSql(), is("insert into items (id, name) VALUES (?, ?)"));
+        assertThat(template.getValues(), is(Arrays.<Object>asList(new BigDecimal("-1.5e2"), "it's, ok")));
+    }
+
+    @Test
+    public void parseInsertWithoutColumns() {
+        final SQLInsertTemplate template = SQLInsertTemplate.parse("INSERT INTO schema.items VALUES (1, '')");
+
+        assertThat(template.getSql(), is("INSERT INTO schema.items VALUES (?, ?)"));
+        assertThat(template.getValues(), is(Arrays.<Object>asList(new BigDecimal("1"), "")));
+    }
+
+    @Test
+    public void commandsThatCanNotBeTemplated() {
+        assertThat(SQLInsertTemplate.parse("UPDATE items SET id = 1"), is(nullValue()));
+        assertThat(SQLInsertTemplate.parse("INSERT INTO items VALUES (1, NULL)"), is(nullValue()));
+        assertThat(SQLInsertTemplate.parse("INSERT INTO items VALUES (1, now())"), is(nullValue()));
+        assertThat(SQLInsertTemplate.parse("INSERT INTO items VALUES (1), (2)"), is(nullValue()));
+        assertThat(SQLInsertTemplate.parse("INSERT INTO items SELECT * FROM other"), is(nullValue()));
+        assertThat(SQLInsertTemplate.parse("INSERT INTO items VALUES ('unterminated)"), is(nullValue()));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SQLLobSpoolTest {
+
+    @Test
+    public void lobsAreReadInOrderPerRow() throws Exception {
+        final byte[] binary = {0, 1, 2, (byte) 255};
+        try (final SQLLobSpool lobSpool = new SQLLobSpool()) {
+            lobSpool.writeClob(0, "TEXT", new StringReader("first é"));
+            lobSpool.writeBlob(0, "DATA", new ByteArrayInputStream(binary));
+            lobSpool.writeClob(2, "TEXT", new StringReader(""));
+            lobSpool.finish();
+
+            assertThat(lobSpool.getLobCount(), is(3));
+            assertTrue(lobSpool.hasLob(0));
+            assertThat(lobSpool.getNextColumn(), is("CLOB column: TEXT"));
+            assertThat(lobSpool.readNext(), is("first é"));
+            assertThat(lobSpool.getNextColumn(), is("BLOB column: DATA"));
+            assertThat(Base64.decodeBase64(lobSpool.readNext()), is(binary));
+            assertFalse(lobSpool.hasLob(0));
+            assertFalse(lobSpool.hasLob(1));
+            assertTrue(lobSpool.hasLob(2));
+            assertThat(lobSpool.readNext(), is(""));
+            assertFalse(lobSpool.hasLob(2));
+        }
+    }
+
+    @Test
+    public void closeDeletesTheSpoolFile() throws Exception {
+        final SQLLobSpool lobSpool = new SQLLobSpool();
+        lobSpool.writeClob(0, "TEXT", new StringReader("text"));
+        final File file = lobSpool.getFile();
+        assertTrue(file.exists());
+
+        lobSpool.close();
+
+        assertFalse(file.exists());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SQLParametersTest {
+
+    @Test
+    public void parsePositionalParameters() throws SQLException {
+        final SQLParameters parameters = SQLParameters.parse("select * from t where a = ? and b = '?' and c = ? -- ?");
+
+        assertThat(parameters.getSql(), is("select * from t where a = ? and b = '?' and c = ? -- ?"));
+        assertThat(parameters.getParameterCount(), is(2));
+    }
+
+    @Test
+    public void parseNamedParameters() throws SQLException {
+        final SQLParameters parameters = SQLParameters.parse(
+                "select a::text, ':skip' from t /* :skip */ where a = :first_1 and b = :second");
+
+        assertThat(parameters.getSql(), is("select a::text, ':skip' from t /* :skip */ where a = ? and b = ?"));
+        assertThat(parameters.getParameterCount(), is(2));
+    }
+
+    @Test(expected = SQLException.class)
+    public void parseMixedParameters() throws SQLException {
+        SQLParameters.parse("select * from t where a = ? and b = :b");
+    }
+
+    @Test
+    public void bindPositionalParameters() throws SQLException {
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        SQLParameters.parse("insert into t values (?, ?, ?)").bind(preparedStatement, "1||x,y||", "||");
+
+        verify(preparedStatement).setString(1, "1");
+        verify(preparedStatement).setString(2, "x,y");
+        verify(preparedStatement).setString(3, "");
+    }
+
+    @Test
+    public void bindUntypedNamedParameters() throws SQLException {
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        SQLParameters.parse("select * from t where id = :id or parent = :id and name = :name")
+                .bind(preparedStatement, "id=10,name=x", ",", true);
+
+        verify(preparedStatement).setObject(1, "10", Types.OTHER);
+        verify(preparedStatement).setObject(2, "10", Types.OTHER);
+        verify(preparedStatement).setObject(3, "x", Types.OTHER);
+    }
+
+    @Test(expected = SQLException.class)
+    public void bindTooFewPositionalParameters() throws SQLException {
+        SQLParameters.parse("select * from t where a = ? and b = ?").bind(mock(PreparedStatement.class), "1", ",");
+    }
+
+    @Test(expected = SQLException.class)
+    public void bindMissingNamedParameter() throws SQLException {
+        SQLParameters.parse("select * from t where a = :a and b = :b").bind(mock(PreparedStatement.class), "a=1", ",");
+    }
+}
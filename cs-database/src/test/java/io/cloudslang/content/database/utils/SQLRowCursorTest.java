@@ -0,0 +1,75 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class SQLRowCursorTest {
+
+    @Test
+    public void nextReturnsRowsInOrder() {
+        final SQLRowCursor rowCursor = new SQLRowCursor(new ArrayList<>(Arrays.asList("a", "b", "c")));
+
+        assertThat(rowCursor.getRowsLeft(), is(3));
+        assertThat(rowCursor.next(), is("a"));
+        assertThat(rowCursor.getRowsLeft(), is(2));
+        assertThat(rowCursor.next(), is("b"));
+        assertThat(rowCursor.next(), is("c"));
+        assertThat(rowCursor.getRowsLeft(), is(0));
+        assertFalse(rowCursor.hasNext());
+    }
+
+    @Test
+    public void nextReleasesConsumedRows() {
+        final List<String> rows = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        final SQLRowCursor rowCursor = new SQLRowCursor(rows);
+
+        rowCursor.next();
+
+        assertThat(rows.get(0), is(nullValue()));
+        assertThat(rows.get(1), is("b"));
+    }
+
+    @Test
+    public void cursorAcceptsSequentialLists() {
+        final SQLRowCursor rowCursor = new SQLRowCursor(new LinkedList<>(Arrays.asList("a", "b")));
+
+        assertThat(rowCursor.next(), is("a"));
+        assertThat(rowCursor.next(), is("b"));
+        assertFalse(rowCursor.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextFailsWithoutRows() {
+        final SQLRowCursor rowCursor = new SQLRowCursor(new ArrayList<String>());
+
+        assertThat(rowCursor.getRowsLeft(), is(0));
+        rowCursor.next();
+    }
+}
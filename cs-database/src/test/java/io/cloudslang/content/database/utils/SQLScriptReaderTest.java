@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SQLScriptReaderTest {
+
+    @Test
+    public void commandsAreSplitByTheDelimiter() {
+        assertThat(readAll("insert into t values (1);\n insert into t values (2) ;\nupdate t set a = 3", ";"),
+                is(Arrays.asList("insert into t values (1)", "insert into t values (2)", "update t set a = 3")));
+    }
+
+    @Test
+    public void delimitersInStringsAndIdentifiersAreKept() {
+        assertThat(readAll("insert into \"a;b\" values ('x;y', 'it''s;');select 1;", ";"),
+                is(Arrays.asList("insert into \"a;b\" values ('x;y', 'it''s;')", "select 1")));
+    }
+
+    @Test
+    public void commentsAreRemoved() {
+        assertThat(readAll("-- header; comment\nselect 1; /* block; comment */ select 2 -- trailing;\n;", ";"),
+                is(Arrays.asList("select 1", "select 2")));
+    }
+
+    @Test
+    public void optimizerHintsAreKept() {
+        assertThat(readAll("select /*+ INDEX(t idx; a) */ a from t; /* plain */ select /*+ FULL(t) */ 2;", ";"),
+                is(Arrays.asList("select /*+ INDEX(t idx; a) */ a from t", "select /*+ FULL(t) */ 2")));
+    }
+
+    @Test
+    public void emptyCommandsAreSkipped() {
+        assertThat(readAll(";;\n select 1;; ;", ";"), is(Arrays.asList("select 1")));
+    }
+
+    @Test
+    public void multiCharacterDelimiter() {
+        assertThat(readAll("select 1 $$ select 2$$", "$$"), is(Arrays.asList("select 1", "select 2")));
+    }
+
+    @Test
+    public void wordDelimiterMustBeAloneOnItsLine() {
+        assertThat(readAll("select 'go' as going\ngo\nselect 2\r\n  GO  \nselect 3\ngo", "GO"),
+                is(Arrays.asList("select 'go' as going", "select 2", "select 3")));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextFailsAfterTheLastCommand() {
+        final SQLScriptReader reader = new SQLScriptReader(new StringReader("select 1"), ";");
+        reader.next();
+        reader.next();
+    }
+
+    private static List<String> readAll(final String script, final String delimiter) {
+        final List<String> commands = new ArrayList<>();
+        final SQLScriptReader reader = new SQLScriptReader(new StringReader(script), delimiter);
+        while (reader.hasNext()) {
+            commands.add(reader.next());
+        }
+        return commands;
+    }
+}
@@ -24,9 +24,12 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import static io.cloudslang.content.database.utils.SQLUtils.getRowCursorFromGlobalSessionMap;
 import static io.cloudslang.content.database.utils.SQLUtils.getStrColumns;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.hamcrest.CoreMatchers.is;
@@ -177,4 +180,44 @@ public class SQLUtilsTest {
         assertThat(getStrColumns(globalSessionObject, aKey), is(aKey));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getRowCursorFromGlobalSessionMapReusesCursor() throws Exception {
+        final String aKey = "aKey";
+        final SQLRowCursor rowCursor = new SQLRowCursor(new ArrayList<>(Arrays.asList("a", "b")));
+
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final Map<String, Object> stringMap = new HashMap<>();
+        stringMap.put(aKey, rowCursor);
+        globalSessionObject.setResource(new SQLSessionResource(stringMap));
+
+        assertSame(rowCursor, getRowCursorFromGlobalSessionMap(globalSessionObject, aKey));
+    }
+
+    @Test
+    public void getRowCursorFromGlobalSessionMapWrapsRowList() throws Exception {
+        final String aKey = "aKey";
+
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final Map<String, Object> stringMap = new HashMap<>();
+        stringMap.put(aKey, new ArrayList<>(Arrays.asList("a", "b")));
+        globalSessionObject.setResource(new SQLSessionResource(stringMap));
+
+        final SQLRowCursor rowCursor = getRowCursorFromGlobalSessionMap(globalSessionObject, aKey);
+        assertThat(rowCursor.getRowsLeft(), is(2));
+        assertThat(rowCursor.next(), is("a"));
+    }
+
+    @Test
+    public void getRowCursorFromGlobalSessionMapDropsInvalidValue() throws Exception {
+        final String aKey = "aKey";
+
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final Map<String, Object> stringMap = new HashMap<>();
+        stringMap.put(aKey, aKey);
+        globalSessionObject.setResource(new SQLSessionResource(stringMap));
+
+        assertFalse(getRowCursorFromGlobalSessionMap(globalSessionObject, aKey).hasNext());
+        assertFalse(globalSessionObject.get().containsKey(aKey));
+    }
+
+}
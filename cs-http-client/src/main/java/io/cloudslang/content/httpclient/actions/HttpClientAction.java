@@ -222,9 +222,25 @@ public class HttpClientAction {
      * @param method                             The HTTP method used. This is a required input.
      * @param httpClientCookieSession            the session object that holds the cookies if the useCookies input is true.
      * @param httpClientPoolingConnectionManager the GlobalSessionObject that holds the http client pooling connection manager.
+     * @param destinationFileCharacterSet        The character encoding used to write the 'destinationFile'. If this is empty the entity is
+     *                                           saved exactly as it was received, byte for byte, which is the right choice for binary downloads.
+     *                                           If this is specified the entity is decoded using 'responseCharacterSet' and written to the
+     *                                           'destinationFile' using this character encoding. Examples: UTF-8, ISO-8859-1
+     * @param maxInMemoryResponseSize            The maximum size, in bytes, of a response entity that is returned in 'returnResult'.
+     *                                           A larger entity is saved to a temporary file whose path is returned in 'responseFile'
+     *                                           and 'returnResult' only contains its first 'maxInMemoryResponseSize' bytes.
+     *                                           The caller owns the temporary file and should delete it once it was read; the file is
+     *                                           otherwise only deleted when the JVM exits. This input is ignored if
+     *                                           'destinationFile' is specified. If this is empty the whole entity is returned in 'returnResult'.
+     *                                           Valid values: integer values greater than 0.
      * @return a map containing the output of the operation. Keys present in the map are:
      * <br><br><b>returnResult</b> - This will contain the response entity (unless 'destinationFile' is specified).
      * In case of an error this output will contain the error message.
+     * <br><b>responseFile</b> - The path of the temporary file holding the response entity when it exceeds 'maxInMemoryResponseSize'.
+     * The file belongs to the caller, who should delete it after reading it.
+     * <br><b>bytesTransferred</b> - The number of bytes written to 'destinationFile' or 'responseFile'.
+     * <br><b>transferRate</b> - The rate at which the entity was saved to 'destinationFile', in bytes per second
+     * (only when 'destinationFile' is specified).
      * <br><b>exception</b> - In case of success response, this result is empty. In case of failure response,
      * this result contains the java stack trace of the runtime exception.
      * <br><b>statusCode</b> - The HTTP status code.
@@ -257,6 +273,9 @@ public class HttpClientAction {
                     @Output(RESPONSE_HEADERS),
                     @Output(PROTOCOL_VERSION),
                     @Output(REASON_PHRASE),
+                    @Output(RESPONSE_FILE),
+                    @Output(BYTES_TRANSFERRED),
+                    @Output(TRANSFER_RATE),
                     @Output(RETURN_CODE),
                     @Output(RETURN_RESULT)
             },
@@ -313,7 +332,9 @@ public class HttpClientAction {
             @Param(HttpClientInputs.CHUNKED_REQUEST_ENTITY) String chunkedRequestEntity,
             @Param(value = HttpClientInputs.METHOD, required = true) String method,
             @Param(HttpClientInputs.SESSION_COOKIES) SerializableSessionObject httpClientCookieSession,
-            @Param(HttpClientInputs.SESSION_CONNECTION_POOL) GlobalSessionObject httpClientPoolingConnectionManager) {
+            @Param(HttpClientInputs.SESSION_CONNECTION_POOL) GlobalSessionObject httpClientPoolingConnectionManager,
+            @Param(HttpClientInputs.DESTINATION_FILE_CHARACTER_SET) String destinationFileCharacterSet,
+            @Param(HttpClientInputs.MAX_IN_MEMORY_RESPONSE_SIZE) String maxInMemoryResponseSize) {
 
         HttpClientInputs httpClientInputs = new HttpClientInputs();
         httpClientInputs.setUrl(url);
@@ -343,6 +364,8 @@ public class HttpClientAction {
         httpClientInputs.setHeaders(headers);
         httpClientInputs.setResponseCharacterSet(responseCharacterSet);
         httpClientInputs.setDestinationFile(destinationFile);
+        httpClientInputs.setDestinationFileCharacterSet(destinationFileCharacterSet);
+        httpClientInputs.setMaxInMemoryResponseSize(maxInMemoryResponseSize);
         httpClientInputs.setFollowRedirects(followRedirects);
         httpClientInputs.setQueryParams(queryParams);
         httpClientInputs.setQueryParamsAreURLEncoded(queryParamsAreURLEncoded);
@@ -22,10 +22,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthSchemeProvider;
 import org.apache.http.client.AuthCache;
+import org.apache.http.client.CookieStore;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Lookup;
 import org.apache.http.impl.client.BasicAuthCache;
+import org.apache.http.impl.client.BasicCookieStore;
 
 import java.net.URI;
 
@@ -39,6 +41,7 @@ public class ContextBuilder {
     private URI uri;
     private AuthTypes authTypes;
     private CredentialsProvider credentialsProvider;
+    private CookieStore cookieStore;
     private String preemptiveAuth;
 
     public ContextBuilder setAuthSchemeLookup(Lookup<AuthSchemeProvider> authSchemeLookup) {
@@ -61,6 +64,11 @@ public class ContextBuilder {
         return this;
     }
 
+    public ContextBuilder setCookieStore(CookieStore cookieStore) {
+        this.cookieStore = cookieStore;
+        return this;
+    }
+
     public ContextBuilder setPreemptiveAuth(String preemptiveAuth) {
         this.preemptiveAuth = preemptiveAuth;
         return this;
@@ -71,11 +79,14 @@ public class ContextBuilder {
             preemptiveAuth = "true";
         }
         HttpClientContext context = HttpClientContext.create();
+        //the http clients are shared between requests, so everything request specific is set on the context
+        context.setCredentialsProvider(credentialsProvider);
+        context.setAuthSchemeRegistry(authSchemeLookup);
+        context.setCookieStore(cookieStore != null ? cookieStore : new BasicCookieStore());
         if (authTypes.size() == 1 && Boolean.parseBoolean(preemptiveAuth) && !authTypes.contains(AuthTypes.ANONYMOUS)) {
             AuthCache authCache = new BasicAuthCache();
             authCache.put(new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme()),
                     authSchemeLookup.lookup(authTypes.iterator().next()).create(context));
-            context.setCredentialsProvider(credentialsProvider);
             context.setAuthCache(authCache);
         }
         return context;
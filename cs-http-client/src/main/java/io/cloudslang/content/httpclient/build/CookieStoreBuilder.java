@@ -42,12 +42,16 @@ public class CookieStoreBuilder {
 
     public CookieStore buildCookieStore() {
         if (Boolean.parseBoolean(useCookies) && cookieStoreSessionObject != null) {
-            BasicCookieStore cookieStore;
-            if (cookieStoreSessionObject.getValue() == null) {
-                cookieStore = new BasicCookieStore();
+            Object value = cookieStoreSessionObject.getValue();
+            SessionCookieStore cookieStore;
+            if (value == null) {
+                cookieStore = new SessionCookieStore();
             } else {
+                byte[] bytes = (byte[]) value;
                 try {
-                    cookieStore = (BasicCookieStore) deserialize((byte[]) cookieStoreSessionObject.getValue());
+                    cookieStore = SessionCookieStore.isEncoded(bytes) ? SessionCookieStore.decode(bytes) :
+                            //cookies stored by a previous version, encoded again after the request
+                            new SessionCookieStore((BasicCookieStore) deserialize(bytes));
                 } catch (IOException | ClassNotFoundException e) {
                     throw new RuntimeException(e.getMessage(), e);
                 }
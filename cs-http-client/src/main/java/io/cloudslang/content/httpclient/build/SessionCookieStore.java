@@ -0,0 +1,225 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build;
+
+import org.apache.http.cookie.ClientCookie;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.impl.cookie.BasicClientCookie2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectStreamConstants;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Cookie store rebuilt from the bytes kept in the cookies session object.
+ * <p>
+ * The cookies are kept in a compact binary form instead of the default Java serialization of the store. The store
+ * tracks whether a request changed it, so the session object is only written again when the cookies changed.
+ */
+public class SessionCookieStore extends BasicCookieStore {
+    private static final long serialVersionUID = 1L;
+    private static final int FORMAT_VERSION = 1;
+    private static final String[] ATTRIBUTES = {ClientCookie.VERSION_ATTR, ClientCookie.PATH_ATTR, ClientCookie.DOMAIN_ATTR,
+            ClientCookie.MAX_AGE_ATTR, ClientCookie.SECURE_ATTR, ClientCookie.COMMENT_ATTR, ClientCookie.EXPIRES_ATTR,
+            ClientCookie.PORT_ATTR, ClientCookie.COMMENTURL_ATTR, ClientCookie.DISCARD_ATTR};
+
+    private transient boolean dirty = true;
+    private transient byte[] encoded;
+
+    public SessionCookieStore() {
+    }
+
+    public SessionCookieStore(BasicCookieStore cookieStore) {
+        super.addCookies(cookieStore.getCookies().toArray(new Cookie[0]));
+    }
+
+    @Override
+    public synchronized void addCookie(Cookie cookie) {
+        super.addCookie(cookie);
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void addCookies(Cookie[] cookies) {
+        super.addCookies(cookies);
+        dirty = true;
+    }
+
+    @Override
+    public synchronized boolean clearExpired(Date date) {
+        boolean removed = super.clearExpired(date);
+        dirty |= removed;
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        dirty = true;
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public synchronized byte[] encode() throws IOException {
+        if (dirty || encoded == null) {
+            encoded = encode(this);
+            dirty = false;
+        }
+        return encoded;
+    }
+
+    /**
+     * @return whether the bytes hold the compact form rather than a Java serialized cookie store
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes.length < 2 || ((bytes[0] & 0xFF) << 8 | bytes[1] & 0xFF) != (ObjectStreamConstants.STREAM_MAGIC & 0xFFFF);
+    }
+
+    public static SessionCookieStore decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported cookie store format version: " + version);
+        }
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            cookieStore.addCookie(readCookie(in));
+        }
+        cookieStore.encoded = bytes;
+        cookieStore.dirty = false;
+        return cookieStore;
+    }
+
+    private static byte[] encode(BasicCookieStore cookieStore) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(FORMAT_VERSION);
+        List<Cookie> cookies = cookieStore.getCookies();
+        out.writeInt(cookies.size());
+        for (Cookie cookie : cookies) {
+            writeCookie(out, cookie);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeCookie(DataOutputStream out, Cookie cookie) throws IOException {
+        int[] ports = cookie.getPorts();
+        boolean rfc2965 = cookie instanceof BasicClientCookie2;
+        out.writeBoolean(rfc2965);
+        writeString(out, cookie.getName());
+        writeString(out, cookie.getValue());
+        writeString(out, cookie.getDomain());
+        writeString(out, cookie.getPath());
+        writeString(out, cookie.getComment());
+        writeDate(out, cookie.getExpiryDate());
+        writeDate(out, cookie instanceof BasicClientCookie ? ((BasicClientCookie) cookie).getCreationDate() : null);
+        out.writeBoolean(cookie.isSecure());
+        out.writeInt(cookie.getVersion());
+        if (rfc2965) {
+            writeString(out, cookie.getCommentURL());
+            //a cookie with an expiry date is only non persistent when it was marked to be discarded
+            out.writeBoolean(cookie.getExpiryDate() != null && !cookie.isPersistent());
+            out.writeInt(ports == null ? -1 : ports.length);
+            if (ports != null) {
+                for (int port : ports) {
+                    out.writeInt(port);
+                }
+            }
+        }
+        int attributeCount = 0;
+        if (cookie instanceof ClientCookie) {
+            for (String attribute : ATTRIBUTES) {
+                if (((ClientCookie) cookie).containsAttribute(attribute)) {
+                    attributeCount++;
+                }
+            }
+        }
+        out.writeInt(attributeCount);
+        if (attributeCount > 0) {
+            for (String attribute : ATTRIBUTES) {
+                if (((ClientCookie) cookie).containsAttribute(attribute)) {
+                    out.writeUTF(attribute);
+                    writeString(out, ((ClientCookie) cookie).getAttribute(attribute));
+                }
+            }
+        }
+    }
+
+    private static Cookie readCookie(DataInputStream in) throws IOException {
+        boolean rfc2965 = in.readBoolean();
+        String name = readString(in);
+        String value = readString(in);
+        BasicClientCookie cookie = rfc2965 ? new BasicClientCookie2(name, value) : new BasicClientCookie(name, value);
+        cookie.setDomain(readString(in));
+        cookie.setPath(readString(in));
+        cookie.setComment(readString(in));
+        cookie.setExpiryDate(readDate(in));
+        cookie.setCreationDate(readDate(in));
+        cookie.setSecure(in.readBoolean());
+        cookie.setVersion(in.readInt());
+        if (rfc2965) {
+            BasicClientCookie2 cookie2 = (BasicClientCookie2) cookie;
+            cookie2.setCommentURL(readString(in));
+            cookie2.setDiscard(in.readBoolean());
+            int portCount = in.readInt();
+            if (portCount >= 0) {
+                int[] ports = new int[portCount];
+                for (int i = 0; i < portCount; i++) {
+                    ports[i] = in.readInt();
+                }
+                cookie2.setPorts(ports);
+            }
+        }
+        int attributeCount = in.readInt();
+        for (int i = 0; i < attributeCount; i++) {
+            cookie.setAttribute(in.readUTF(), readString(in));
+        }
+        return cookie;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDate(DataOutputStream out, Date date) throws IOException {
+        out.writeLong(date == null ? Long.MIN_VALUE : date.getTime());
+    }
+
+    private static Date readDate(DataInputStream in) throws IOException {
+        long time = in.readLong();
+        return time == Long.MIN_VALUE ? null : new Date(time);
+    }
+}
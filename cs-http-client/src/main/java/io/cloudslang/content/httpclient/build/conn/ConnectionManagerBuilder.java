@@ -28,15 +28,25 @@ import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ConnectionManagerBuilder {
+    //the SSL socket factory every pool was built with, to find the pools of a factory replaced after a keystore change
+    private static final Map<PoolingHttpClientConnectionManager, SSLConnectionSocketFactory> POOL_SOCKET_FACTORIES =
+            Collections.synchronizedMap(new WeakHashMap<PoolingHttpClientConnectionManager, SSLConnectionSocketFactory>());
+
     private GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolHolder;
     private SSLConnectionSocketFactory sslsf;
+    private SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry;
     private String connectionManagerMapKey;
     private String defaultMaxPerRoute;
     private String totalMax;
+    private boolean connectionManagerCreated;
+    private PoolingHttpClientConnectionManager replacedConnectionManager;
 
     public ConnectionManagerBuilder setConnectionPoolHolder(GlobalSessionObject connectionPoolHolder) {
         this.connectionPoolHolder = connectionPoolHolder;
@@ -48,6 +58,11 @@ public class ConnectionManagerBuilder {
         return this;
     }
 
+    public ConnectionManagerBuilder setSslConnectionSocketFactoryRegistry(SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry) {
+        this.sslConnectionSocketFactoryRegistry = sslConnectionSocketFactoryRegistry;
+        return this;
+    }
+
     public ConnectionManagerBuilder setTotalMax(String totalMax) {
         this.totalMax = totalMax;
         return this;
@@ -74,60 +89,171 @@ public class ConnectionManagerBuilder {
         return keyBuilder.toString();
     }
 
+    /**
+     * @return true if the last {@link #buildConnectionManager()} call created the pool instead of reusing one that
+     * was already held by the connection pool session object
+     */
+    public boolean isConnectionManagerCreated() {
+        return connectionManagerCreated;
+    }
+
+    /**
+     * @return the pool the last {@link #buildConnectionManager()} call replaced because its SSL socket factory was
+     * replaced after a keystore change, or null. Its cached clients and idle connections are no longer needed, the
+     * connections still leased from it are closed when it is shut down or garbage collected.
+     */
+    public PoolingHttpClientConnectionManager getReplacedConnectionManager() {
+        return replacedConnectionManager;
+    }
+
     public PoolingHttpClientConnectionManager buildConnectionManager() {
+        connectionManagerCreated = false;
+        replacedConnectionManager = null;
         if (connectionPoolHolder != null) {
-            PoolingHttpClientConnectionManager connManager = null;
-            synchronized (connectionPoolHolder) {
-                Map<String, PoolingHttpClientConnectionManager> connectionManagerMap
-                        = connectionPoolHolder.get();
-
-                if (connectionManagerMap == null) {
-                    final HashMap<String, PoolingHttpClientConnectionManager> connectionManagerMapFinal = new HashMap<>();
-                    connectionPoolHolder.setResource(new SessionResource<Map<String, PoolingHttpClientConnectionManager>>() {
-                        @Override
-                        public Map<String, PoolingHttpClientConnectionManager> get() {
-                            return connectionManagerMapFinal;
-                        }
-
-                        @Override
-                        public void release() {
-                        }
-                    });
-                    connectionManagerMap = connectionPoolHolder.get();
-                }
-
-                connManager = connectionManagerMap.get(connectionManagerMapKey);
-                if (connManager == null) {
-                    Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
-                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                            .register("https", sslsf)
-                            .build();
-                    connManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = getConnectionManagerMap();
 
-                    connectionManagerMap.put(connectionManagerMapKey, connManager);
-                }
+            PoolingHttpClientConnectionManager connManager = getConnectionManager(connectionManagerMap);
+            if (connManager == null) {
+                PoolingHttpClientConnectionManager newConnManager = buildPoolingConnectionManager();
+                connManager = putConnectionManager(connectionManagerMap, newConnManager);
+                connectionManagerCreated = connManager == newConnManager;
+            } else if (isBuiltWithReplacedSslsf(connManager)) {
+                connManager = replaceConnectionManager(connectionManagerMap, connManager);
             }
 
             //the DefaultMaxPerRoute default is 2
             if (!StringUtils.isEmpty(defaultMaxPerRoute)) {
+                int maxPerRoute;
                 try {
-                    connManager.setDefaultMaxPerRoute(Integer.parseInt(defaultMaxPerRoute));
+                    maxPerRoute = Integer.parseInt(defaultMaxPerRoute);
                 } catch (NumberFormatException e) {
                     throw new IllegalArgumentException("the '" + HttpClientInputs.CONNECTIONS_MAX_PER_ROUTE
                             + "' input should be integer" + e.getMessage(), e);
                 }
+                if (connManager.getDefaultMaxPerRoute() != maxPerRoute) {
+                    connManager.setDefaultMaxPerRoute(maxPerRoute);
+                }
             }
             //the Default totalMax default is 20
             if (!StringUtils.isEmpty(totalMax)) {
+                int maxTotal;
                 try {
-                    connManager.setMaxTotal(Integer.parseInt(totalMax));
+                    maxTotal = Integer.parseInt(totalMax);
                 } catch (NumberFormatException e) {
                     throw new IllegalArgumentException("the '" + HttpClientInputs.CONNECTIONS_MAX_TOTAL
                             + "' input should be integer" + e.getMessage(), e);
                 }
+                if (connManager.getMaxTotal() != maxTotal) {
+                    connManager.setMaxTotal(maxTotal);
+                }
             }
             return connManager;
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private Map<String, PoolingHttpClientConnectionManager> getConnectionManagerMap() {
+        Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = connectionPoolHolder.get();
+        if (connectionManagerMap != null) {
+            return connectionManagerMap;
+        }
+        synchronized (connectionPoolHolder) {
+            connectionManagerMap = connectionPoolHolder.get();
+            if (connectionManagerMap == null) {
+                final ConcurrentMap<String, PoolingHttpClientConnectionManager> connectionManagerMapFinal = new ConcurrentHashMap<>();
+                connectionPoolHolder.setResource(new SessionResource<Map<String, PoolingHttpClientConnectionManager>>() {
+                    @Override
+                    public Map<String, PoolingHttpClientConnectionManager> get() {
+                        return connectionManagerMapFinal;
+                    }
+
+                    @Override
+                    public void release() {
+                    }
+                });
+                connectionManagerMap = connectionPoolHolder.get();
+            }
+            return connectionManagerMap;
+        }
+    }
+
+    private PoolingHttpClientConnectionManager getConnectionManager(Map<String, PoolingHttpClientConnectionManager> connectionManagerMap) {
+        if (connectionManagerMap instanceof ConcurrentMap) {
+            return connectionManagerMap.get(connectionManagerMapKey);
+        }
+        //maps that were not created by this builder are not thread safe
+        synchronized (connectionPoolHolder) {
+            return connectionManagerMap.get(connectionManagerMapKey);
+        }
+    }
+
+    private PoolingHttpClientConnectionManager putConnectionManager(Map<String, PoolingHttpClientConnectionManager> connectionManagerMap,
+                                                                    PoolingHttpClientConnectionManager connManager) {
+        PoolingHttpClientConnectionManager existing;
+        if (connectionManagerMap instanceof ConcurrentMap) {
+            existing = ((ConcurrentMap<String, PoolingHttpClientConnectionManager>) connectionManagerMap)
+                    .putIfAbsent(connectionManagerMapKey, connManager);
+        } else {
+            //maps that were not created by this builder are not thread safe
+            synchronized (connectionPoolHolder) {
+                existing = connectionManagerMap.get(connectionManagerMapKey);
+                if (existing == null) {
+                    connectionManagerMap.put(connectionManagerMapKey, connManager);
+                }
+            }
+        }
+        if (existing != null) {
+            //another flow created the pool in the meantime
+            connManager.shutdown();
+            return existing;
+        }
+        return connManager;
+    }
+
+    private boolean isBuiltWithReplacedSslsf(PoolingHttpClientConnectionManager connManager) {
+        if (sslConnectionSocketFactoryRegistry == null) {
+            return false;
+        }
+        SSLConnectionSocketFactory poolSslsf = POOL_SOCKET_FACTORIES.get(connManager);
+        return poolSslsf != null && poolSslsf != sslsf && sslConnectionSocketFactoryRegistry.isReplaced(poolSslsf);
+    }
+
+    private PoolingHttpClientConnectionManager replaceConnectionManager(Map<String, PoolingHttpClientConnectionManager> connectionManagerMap,
+                                                                        PoolingHttpClientConnectionManager staleConnManager) {
+        PoolingHttpClientConnectionManager newConnManager = buildPoolingConnectionManager();
+        boolean replaced;
+        if (connectionManagerMap instanceof ConcurrentMap) {
+            replaced = ((ConcurrentMap<String, PoolingHttpClientConnectionManager>) connectionManagerMap)
+                    .replace(connectionManagerMapKey, staleConnManager, newConnManager);
+        } else {
+            //maps that were not created by this builder are not thread safe
+            synchronized (connectionPoolHolder) {
+                replaced = connectionManagerMap.get(connectionManagerMapKey) == staleConnManager;
+                if (replaced) {
+                    connectionManagerMap.put(connectionManagerMapKey, newConnManager);
+                }
+            }
+        }
+        if (replaced) {
+            replacedConnectionManager = staleConnManager;
+            return newConnManager;
+        }
+        //another flow replaced or removed the pool in the meantime
+        PoolingHttpClientConnectionManager connManager = getConnectionManager(connectionManagerMap);
+        if (connManager != null) {
+            newConnManager.shutdown();
+            return connManager;
+        }
+        return putConnectionManager(connectionManagerMap, newConnManager);
+    }
+
+    private PoolingHttpClientConnectionManager buildPoolingConnectionManager() {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslsf)
+                .build();
+        PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        POOL_SOCKET_FACTORIES.put(connManager, sslsf);
+        return connManager;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the leased, pending and available connections of the pools held by a connection pool session object.
+ */
+public class ConnectionPoolStatistics {
+    public static final String ROUTE_SEPARATOR = "|";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private ConnectionPoolStatistics() {
+    }
+
+    /**
+     * @param connectionPoolHolder the session object the pools were built in by {@link ConnectionManagerBuilder}
+     * @return the total statistics of every pool, keyed by the pool key, followed by the statistics of each of its
+     * routes, keyed by the pool key and the route separated by {@link #ROUTE_SEPARATOR}
+     */
+    public static Map<String, PoolStats> collect(GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolHolder) {
+        Map<String, PoolStats> statistics = new LinkedHashMap<>();
+        Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = connectionPoolHolder == null ? null : connectionPoolHolder.get();
+        if (connectionManagerMap == null) {
+            return statistics;
+        }
+        //maps that were not created by the builder are only safe to read under the holder lock
+        synchronized (connectionPoolHolder) {
+            for (Map.Entry<String, PoolingHttpClientConnectionManager> pool : connectionManagerMap.entrySet()) {
+                PoolingHttpClientConnectionManager connManager = pool.getValue();
+                statistics.put(pool.getKey(), connManager.getTotalStats());
+                for (HttpRoute route : connManager.getRoutes()) {
+                    statistics.put(pool.getKey() + ROUTE_SEPARATOR + route, connManager.getStats(route));
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * @return one line per pool and per route: the key followed by its leased, pending, available and maximum
+     * connections
+     */
+    public static String format(Map<String, PoolStats> statistics) {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, PoolStats> entry : statistics.entrySet()) {
+            PoolStats poolStats = entry.getValue();
+            if (result.length() > 0) {
+                result.append(LINE_SEPARATOR);
+            }
+            result.append(entry.getKey())
+                    .append(": leased=").append(poolStats.getLeased())
+                    .append(", pending=").append(poolStats.getPending())
+                    .append(", available=").append(poolStats.getAvailable())
+                    .append(", max=").append(poolStats.getMax());
+        }
+        return result.toString();
+    }
+}
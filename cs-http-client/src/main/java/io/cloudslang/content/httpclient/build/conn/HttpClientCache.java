@@ -0,0 +1,243 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide cache of fully built http clients.
+ * <p>
+ * A cached client only holds what is common to every request sent through the same connection pool: the pool itself
+ * (and implicitly its TLS settings), the connection reuse strategy and the retry handler. Everything that differs
+ * between requests (credentials, auth schemes, cookies, proxy and timeouts) travels with the request config and the
+ * {@link org.apache.http.client.protocol.HttpClientContext}, so a client can safely be shared between flows.
+ * <p>
+ * The clients are built with a shared connection manager, so evicting them never closes the pools which are owned by
+ * the connection pool session object. For the same reason only pools that outlive a single request are worth caching:
+ * a pool created for one call (e.g. by a session object that is not kept between calls) gets an uncached client, so
+ * the cache never keeps such a pool reachable after the call is done.
+ */
+public class HttpClientCache {
+    public static final int DEFAULT_MAX_SIZE = 100;
+    public static final long DEFAULT_MAX_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final HttpClientCache INSTANCE = new HttpClientCache(DEFAULT_MAX_SIZE, DEFAULT_MAX_IDLE_MILLIS);
+
+    private final int maxSize;
+    private final long maxIdleMillis;
+    private final Map<ClientKey, CacheEntry> clients;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public HttpClientCache(int maxSize, long maxIdleMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the http client cache must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.maxIdleMillis = maxIdleMillis;
+        this.clients = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static HttpClientCache getInstance() {
+        return INSTANCE;
+    }
+
+    public CloseableHttpClient getHttpClient(PoolingHttpClientConnectionManager connManager, boolean keepAlive) {
+        return getHttpClient(connManager, keepAlive, true);
+    }
+
+    /**
+     * @param reusablePool false when the pool was created for the current call only, in which case the client is
+     *                     built but not cached
+     */
+    public CloseableHttpClient getHttpClient(PoolingHttpClientConnectionManager connManager, boolean keepAlive,
+                                             boolean reusablePool) {
+        if (connManager == null || !reusablePool) {
+            // no pool to share, the client is not worth keeping around
+            misses.incrementAndGet();
+            return buildHttpClient(connManager, keepAlive);
+        }
+        ClientKey key = new ClientKey(connManager, keepAlive);
+        long now = System.currentTimeMillis();
+        List<CloseableHttpClient> evicted = new ArrayList<>();
+        CloseableHttpClient httpClient;
+        synchronized (clients) {
+            evictIdle(now, evicted);
+            CacheEntry entry = clients.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                entry = new CacheEntry(buildHttpClient(connManager, keepAlive));
+                clients.put(key, entry);
+                evictEldest(evicted);
+            }
+            entry.lastAccess = now;
+            httpClient = entry.httpClient;
+        }
+        closeQuietly(evicted);
+        return httpClient;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    /**
+     * Closes and drops the clients of a pool that is about to be shut down.
+     */
+    public void remove(PoolingHttpClientConnectionManager connManager) {
+        List<CloseableHttpClient> removed = new ArrayList<>();
+        synchronized (clients) {
+            for (boolean keepAlive : new boolean[]{true, false}) {
+                CacheEntry entry = clients.remove(new ClientKey(connManager, keepAlive));
+                if (entry != null) {
+                    removed.add(entry.httpClient);
+                }
+            }
+        }
+        closeQuietly(removed);
+    }
+
+    public void clear() {
+        List<CloseableHttpClient> evicted = new ArrayList<>();
+        synchronized (clients) {
+            for (CacheEntry entry : clients.values()) {
+                evicted.add(entry.httpClient);
+            }
+            clients.clear();
+        }
+        closeQuietly(evicted);
+    }
+
+    private void evictIdle(long now, List<CloseableHttpClient> evicted) {
+        if (maxIdleMillis <= 0) {
+            return;
+        }
+        // access order: the least recently used entries come first
+        Iterator<CacheEntry> iterator = clients.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+            if (now - entry.lastAccess < maxIdleMillis) {
+                break;
+            }
+            iterator.remove();
+            evicted.add(entry.httpClient);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void evictEldest(List<CloseableHttpClient> evicted) {
+        Iterator<CacheEntry> iterator = clients.values().iterator();
+        while (clients.size() > maxSize && iterator.hasNext()) {
+            evicted.add(iterator.next().httpClient);
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static CloseableHttpClient buildHttpClient(PoolingHttpClientConnectionManager connManager, boolean keepAlive) {
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+        if (connManager != null) {
+            httpClientBuilder.setConnectionManager(connManager);
+            httpClientBuilder.setConnectionManagerShared(true);
+        }
+        if (keepAlive) {
+            httpClientBuilder.setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE);
+        } else {
+            httpClientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        }
+        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+        return httpClientBuilder.build();
+    }
+
+    private static void closeQuietly(List<CloseableHttpClient> httpClients) {
+        for (CloseableHttpClient httpClient : httpClients) {
+            try {
+                httpClient.close();
+            } catch (IOException ignore) {
+                // the connection manager is shared, closing a client only releases its own resources
+            }
+        }
+    }
+
+    private static class ClientKey {
+        private final PoolingHttpClientConnectionManager connManager;
+        private final boolean keepAlive;
+
+        ClientKey(PoolingHttpClientConnectionManager connManager, boolean keepAlive) {
+            this.connManager = connManager;
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClientKey)) {
+                return false;
+            }
+            ClientKey that = (ClientKey) o;
+            return connManager == that.connManager && keepAlive == that.keepAlive;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(connManager) + (keepAlive ? 1 : 0);
+        }
+    }
+
+    private static class CacheEntry {
+        private final CloseableHttpClient httpClient;
+        private long lastAccess;
+
+        CacheEntry(CloseableHttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.cloudslang.content.httpclient.build.conn;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLContextBuilder;
@@ -26,7 +27,10 @@ import org.apache.http.conn.ssl.X509HostnameVerifier;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -37,6 +41,7 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Created with IntelliJ IDEA.
@@ -57,6 +62,8 @@ public class SSLConnectionSocketFactoryBuilder {
     public static final String[] ARRAY_TLSv12 = new String[]{"TLSv1.2"};
     public static final String[] array = new String[0];
     public static final String[] SUPPORTED_PROTOCOLS = new String[]{SSLv3, TLSv10, TLSv11, TLSv12};
+    //a scheme has at least two characters, so a windows drive letter is not taken for one
+    private static final Pattern URL_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]+:");
     public static final String[] SUPPORTED_CYPHERS = new String[]{"TLS_DHE_RSA_WITH_AES_256_GCM_SHA384", "TLS_ECDHE_RSA_WITH_AES_GCM_SHA384", "TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256", "THS_DHE_RSA_WITH_AES_256_CBC_SHA256", "THS_DHE_RSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA384", "TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA256",
             "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256", "TLS_ECDHE_WITH_AES_256_CBC_SHA384", "TLS_ECDHE_WITH_AES_256_GCM_SHA384", "TLS_RSA_WITH_AES_256_GCM_SHA384", "TLS_RSA_WITH_AES_256_CBC_SHA256", "TLS_RSA_WITH_AES_128_CBC_SHA256"};
     private static boolean checkArray = false;
@@ -71,6 +78,7 @@ public class SSLConnectionSocketFactoryBuilder {
     private String x509HostnameVerifierInputValue = "strict";
     private boolean flag = false;
     private boolean hasTLS2;
+    private SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry;
 
     public static boolean checkEquality(String[] subArray, String[] largeArray) {
 
@@ -104,6 +112,78 @@ public class SSLConnectionSocketFactoryBuilder {
     }
 
     public SSLConnectionSocketFactory build() {
+        if (sslConnectionSocketFactoryRegistry == null) {
+            return buildSSLConnectionSocketFactory();
+        }
+        String fingerprint = buildKeystoresFingerprint();
+        if (fingerprint == null) {
+            //keystores that are not local files can not be fingerprinted, so they are loaded on every call
+            return buildSSLConnectionSocketFactory();
+        }
+        String profileKey = buildProfileKey();
+        SSLConnectionSocketFactory sslsf = sslConnectionSocketFactoryRegistry.get(profileKey, fingerprint);
+        if (sslsf == null) {
+            sslsf = buildSSLConnectionSocketFactory();
+            sslConnectionSocketFactoryRegistry.put(profileKey, fingerprint, sslsf);
+        }
+        return sslsf;
+    }
+
+    protected String buildProfileKey() {
+        return ConnectionManagerBuilder.buildConnectionManagerMapKey(trustAllRootsStr.toLowerCase(),
+                keystore,
+                passwordHash(keystorePassword),
+                trustKeystore,
+                passwordHash(trustPassword),
+                inputTLS,
+                inputCyphers,
+                x509HostnameVerifierInputValue.toLowerCase());
+    }
+
+    /**
+     * @return the path, modification time and length of every keystore, or null if one of them is not an existing
+     * local file
+     */
+    protected String buildKeystoresFingerprint() {
+        StringBuilder fingerprint = new StringBuilder();
+        String javaKeystore = System.getProperty("java.home") + "/lib/security/cacerts";
+        for (String store : new String[]{keystore, trustKeystore, javaKeystore}) {
+            if (StringUtils.isEmpty(store)) {
+                continue;
+            }
+            File storeFile = toLocalFile(store);
+            if (storeFile == null || !storeFile.isFile()) {
+                return null;
+            }
+            fingerprint.append(storeFile.getPath()).append('|')
+                    .append(storeFile.lastModified()).append('|')
+                    .append(storeFile.length()).append(';');
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * @return the file of a path or of a file: url, null for the other urls (http, jar...) and the invalid ones
+     */
+    private static File toLocalFile(String store) {
+        if (!URL_SCHEME.matcher(store).find()) {
+            return new File(store);
+        }
+        if (!StringUtils.startsWithIgnoreCase(store, "file:")) {
+            return null;
+        }
+        try {
+            return Paths.get(new URI(store)).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String passwordHash(String password) {
+        return password == null ? null : DigestUtils.sha256Hex(password);
+    }
+
+    private SSLConnectionSocketFactory buildSSLConnectionSocketFactory() {
         if (!"true".equalsIgnoreCase(trustAllRootsStr) && !"false".equalsIgnoreCase(trustAllRootsStr)) {
             throw new IllegalArgumentException("'trustAllRoots' can only be 'true' or 'false'");
         }
@@ -245,6 +325,11 @@ public class SSLConnectionSocketFactoryBuilder {
         }
     }
 
+    public SSLConnectionSocketFactoryBuilder setSslConnectionSocketFactoryRegistry(SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry) {
+        this.sslConnectionSocketFactoryRegistry = sslConnectionSocketFactoryRegistry;
+        return this;
+    }
+
     public SSLConnectionSocketFactoryBuilder setTrustAllRoots(String trustAllRoots) {
         if (!StringUtils.isEmpty(trustAllRoots)) {
             this.trustAllRootsStr = trustAllRoots;
@@ -0,0 +1,152 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide registry of the SSL socket factories built by {@link SSLConnectionSocketFactoryBuilder}.
+ * <p>
+ * Entries are keyed by the TLS profile (keystores, password hashes, protocols, cyphers and hostname verifier) and
+ * carry the fingerprint of the keystore files they were built from. A lookup with a different fingerprint misses, so
+ * the factory is rebuilt and replaced as soon as one of the keystore files changes on disk. The registry holds at most
+ * 'maxSize' profiles, the least recently used one is dropped first.
+ * <p>
+ * The factories replaced after a keystore change are remembered, weakly, so the connection pools built on top of them
+ * can be rebuilt by {@link ConnectionManagerBuilder}.
+ */
+public class SSLConnectionSocketFactoryRegistry {
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private static final SSLConnectionSocketFactoryRegistry INSTANCE = new SSLConnectionSocketFactoryRegistry();
+
+    private final Map<String, Entry> factories;
+    private final Set<SSLConnectionSocketFactory> replacedFactories =
+            Collections.newSetFromMap(new WeakHashMap<SSLConnectionSocketFactory, Boolean>());
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SSLConnectionSocketFactoryRegistry() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SSLConnectionSocketFactoryRegistry(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the SSL socket factory registry must be greater than 0");
+        }
+        this.factories = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static SSLConnectionSocketFactoryRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public SSLConnectionSocketFactory get(String profileKey, String fingerprint) {
+        Entry entry;
+        synchronized (factories) {
+            entry = factories.get(profileKey);
+        }
+        if (entry != null && entry.fingerprint.equals(fingerprint)) {
+            hits.incrementAndGet();
+            return entry.sslsf;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String profileKey, String fingerprint, SSLConnectionSocketFactory sslsf) {
+        synchronized (factories) {
+            Entry previous = factories.put(profileKey, new Entry(fingerprint, sslsf));
+            if (previous != null && !previous.fingerprint.equals(fingerprint)) {
+                refreshes.incrementAndGet();
+                if (previous.sslsf != sslsf) {
+                    replacedFactories.add(previous.sslsf);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the factory was replaced because one of its keystore files changed
+     */
+    public boolean isReplaced(SSLConnectionSocketFactory sslsf) {
+        synchronized (factories) {
+            return replacedFactories.contains(sslsf);
+        }
+    }
+
+    /**
+     * @return the number of SSL contexts currently held by the registry
+     */
+    public int getLiveContexts() {
+        synchronized (factories) {
+            return factories.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public void clear() {
+        synchronized (factories) {
+            factories.clear();
+            replacedFactories.clear();
+        }
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final SSLConnectionSocketFactory sslsf;
+
+        Entry(String fingerprint, SSLConnectionSocketFactory sslsf) {
+            this.fingerprint = fingerprint;
+            this.sslsf = sslsf;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.cloudslang.content.httpclient.consume;
 
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
 import io.cloudslang.content.httpclient.services.HttpClientService;
+import org.apache.commons.io.Charsets;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Consts;
@@ -28,8 +29,15 @@ import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicHeaderValueParser;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created with IntelliJ IDEA.
@@ -37,9 +45,14 @@ import java.util.Map;
  * Date: 7/28/14
  */
 public class HttpResponseConsumer {
+    //the maximum number of bytes handed to the file channel in one transfer
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
     private HttpResponse httpResponse;
     private String responseCharacterSet;
     private String destinationFile;
+    private String destinationFileCharacterSet;
+    private int maxInMemoryResponseSize;
 
     public HttpResponseConsumer setHttpResponse(HttpResponse httpResponse) {
         this.httpResponse = httpResponse;
@@ -56,6 +69,27 @@ public class HttpResponseConsumer {
         return this;
     }
 
+    public HttpResponseConsumer setDestinationFileCharacterSet(String destinationFileCharacterSet) {
+        this.destinationFileCharacterSet = destinationFileCharacterSet;
+        return this;
+    }
+
+    public HttpResponseConsumer setMaxInMemoryResponseSize(String maxInMemoryResponseSize) {
+        if (!StringUtils.isEmpty(maxInMemoryResponseSize)) {
+            try {
+                this.maxInMemoryResponseSize = Integer.parseInt(maxInMemoryResponseSize);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("the '" + HttpClientInputs.MAX_IN_MEMORY_RESPONSE_SIZE
+                        + "' input should be integer" + e.getMessage(), e);
+            }
+            if (this.maxInMemoryResponseSize <= 0) {
+                throw new IllegalArgumentException("the '" + HttpClientInputs.MAX_IN_MEMORY_RESPONSE_SIZE
+                        + "' input should be greater than 0");
+            }
+        }
+        return this;
+    }
+
     public void consume(Map<String, String> result) throws IOException {
         if (httpResponse.getEntity() != null) {
             if (responseCharacterSet == null || responseCharacterSet.isEmpty()) {
@@ -82,16 +116,105 @@ public class HttpResponseConsumer {
         if (StringUtils.isEmpty(destinationFile)) {
             String document;
             try {
-                document = IOUtils.toString(httpResponse.getEntity().getContent(), responseCharacterSet);
+                if (maxInMemoryResponseSize > 0) {
+                    document = consumeBounded(result);
+                } else {
+                    document = IOUtils.toString(httpResponse.getEntity().getContent(), responseCharacterSet);
+                }
             } catch (UnsupportedCharsetException e) {
                 throw new IllegalArgumentException("Could not parse responseCharacterSet. " + e.getMessage(), e);
             }
             result.put(HttpClientService.RETURN_RESULT, document);
+        } else if (StringUtils.isEmpty(destinationFileCharacterSet)) {
+            streamToDestinationFile(result);
         } else {
             consumeToDestinationFile();
         }
     }
 
+    /**
+     * Reads at most 'maxInMemoryResponseSize' bytes in memory. The rest of a larger entity is spilled, together with
+     * what was already read, to a temporary file that is reported in the 'responseFile' output. The caller owns that
+     * file; it is deleted on exit in case the caller never does.
+     *
+     * @return the entity or, when it was spilled to disk, a preview made of its first 'maxInMemoryResponseSize' bytes
+     */
+    private String consumeBounded(Map<String, String> result) throws IOException {
+        Charset charset = Charsets.toCharset(responseCharacterSet);
+        InputStream content = httpResponse.getEntity().getContent();
+        try {
+            byte[] head = new byte[maxInMemoryResponseSize];
+            int headLength = IOUtils.read(content, head);
+            int next = headLength < head.length ? -1 : content.read();
+            if (next == -1) {
+                return new String(head, 0, headLength, charset);
+            }
+            File responseFile = File.createTempFile("httpResponse", ".tmp");
+            responseFile.deleteOnExit();
+            long bytesTransferred = headLength + 1;
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(responseFile));
+            boolean spilled = false;
+            try {
+                out.write(head, 0, headLength);
+                out.write(next);
+                bytesTransferred += IOUtils.copyLarge(content, out);
+                out.flush();
+                spilled = true;
+            } finally {
+                safeClose(out);
+                if (!spilled) {
+                    responseFile.delete();
+                }
+            }
+            result.put(HttpClientService.RESPONSE_FILE, responseFile.getAbsolutePath());
+            result.put(HttpClientService.BYTES_TRANSFERRED, String.valueOf(bytesTransferred));
+            return new String(head, 0, headLength, charset);
+        } finally {
+            safeClose(content);
+        }
+    }
+
+    private void streamToDestinationFile(Map<String, String> result) throws IOException {
+        File destination = new File(destinationFile).getAbsoluteFile();
+        //the entity is written next to the destination and renamed once complete, so a failed download never leaves a partial file
+        File partFile = File.createTempFile("." + destination.getName() + ".", ".part", destination.getParentFile());
+        long bytesTransferred = 0;
+        long start = System.nanoTime();
+        try {
+            ReadableByteChannel source = null;
+            FileChannel target = null;
+            try {
+                source = Channels.newChannel(httpResponse.getEntity().getContent());
+                target = new FileOutputStream(partFile).getChannel();
+                long transferred;
+                while ((transferred = target.transferFrom(source, bytesTransferred, TRANSFER_CHUNK_SIZE)) > 0) {
+                    bytesTransferred += transferred;
+                }
+                target.force(false);
+            } finally {
+                safeClose(target);
+                safeClose(source);
+            }
+            moveToDestination(partFile, destination);
+        } finally {
+            if (partFile.exists() && !partFile.delete()) {
+                partFile.deleteOnExit();
+            }
+        }
+        double elapsedSeconds = Math.max(System.nanoTime() - start, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+        result.put(HttpClientService.BYTES_TRANSFERRED, String.valueOf(bytesTransferred));
+        result.put(HttpClientService.TRANSFER_RATE, String.valueOf((long) (bytesTransferred / elapsedSeconds)));
+    }
+
+    private void moveToDestination(File partFile, File destination) throws IOException {
+        try {
+            Files.move(partFile.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            //not every file system can atomically replace an existing file
+            Files.move(partFile.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     private void consumeToDestinationFile() throws IOException {
         BufferedReader reader;
         BufferedWriter fileWriter = null;
@@ -100,12 +223,12 @@ public class HttpResponseConsumer {
             try {
                 reader = new BufferedReader(new InputStreamReader(httpResponse.getEntity().getContent(), responseCharacterSet));
                 fos = new FileOutputStream(new File(destinationFile));
-                fileWriter = new BufferedWriter(new OutputStreamWriter(fos, responseCharacterSet));
+                fileWriter = new BufferedWriter(new OutputStreamWriter(fos, destinationFileCharacterSet));
             } catch (UnsupportedEncodingException e) {
                 throw new IllegalArgumentException("Could not parse '" + HttpClientInputs.RESPONSE_CHARACTER_SET
-                        + "'. " + e.getMessage(), e);
+                        + "' or '" + HttpClientInputs.DESTINATION_FILE_CHARACTER_SET + "'. " + e.getMessage(), e);
             }
-            char[] buffer = new char[1024];
+            char[] buffer = new char[8192];
             int b;
             while ((b = reader.read(buffer, 0, buffer.length)) != -1) {
                 fileWriter.write(buffer, 0, b);
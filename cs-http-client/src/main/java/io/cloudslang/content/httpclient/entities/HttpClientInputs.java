@@ -65,6 +65,8 @@ public class HttpClientInputs {
     public static final String HEADERS = "headers";
     public static final String RESPONSE_CHARACTER_SET = "responseCharacterSet";
     public static final String DESTINATION_FILE = "destinationFile";
+    public static final String DESTINATION_FILE_CHARACTER_SET = "destinationFileCharacterSet";
+    public static final String MAX_IN_MEMORY_RESPONSE_SIZE = "maxInMemoryResponseSize";
     public static final String MULTIPART_BODIES = "multipartBodies";
     public static final String MULTIPART_BODIES_CONTENT_TYPE = "multipartBodiesContentType";
     public static final String MULTIPART_FILES = "multipartFiles";
@@ -102,6 +104,8 @@ public class HttpClientInputs {
     private String headers;
     private String responseCharacterSet;
     private String destinationFile;
+    private String destinationFileCharacterSet;
+    private String maxInMemoryResponseSize;
     private String followRedirects;
     private String queryParams;
     private String queryParamsAreURLEncoded;
@@ -357,6 +361,22 @@ public class HttpClientInputs {
         this.destinationFile = destinationFile;
     }
 
+    public String getDestinationFileCharacterSet() {
+        return destinationFileCharacterSet;
+    }
+
+    public void setDestinationFileCharacterSet(String destinationFileCharacterSet) {
+        this.destinationFileCharacterSet = destinationFileCharacterSet;
+    }
+
+    public String getMaxInMemoryResponseSize() {
+        return maxInMemoryResponseSize;
+    }
+
+    public void setMaxInMemoryResponseSize(String maxInMemoryResponseSize) {
+        this.maxInMemoryResponseSize = maxInMemoryResponseSize;
+    }
+
     public String getFollowRedirects() {
         return followRedirects;
     }
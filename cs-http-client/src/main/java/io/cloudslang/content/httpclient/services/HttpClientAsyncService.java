@@ -0,0 +1,163 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.services;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.httpclient.build.conn.HttpClientCache;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.Closeable;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs http requests in the background, at most 'maxInFlight' of them at the same time.
+ * <p>
+ * Every request is executed by its own {@link HttpClientService}, on top of the same builders, connection pools and
+ * cached clients as a synchronous call. Requests that do not carry a connection pool session object share the pool of
+ * this service, so a batch reuses its connections. Unless a request sets its own limits, that pool allows 'maxInFlight'
+ * connections per route, so the requests do not queue for the 2 connections per route of a default pool. Closing the
+ * service waits for the submitted requests and then shuts that pool down.
+ */
+public class HttpClientAsyncService implements Closeable {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 20;
+    //the total maximum of a default pool
+    private static final int DEFAULT_CONNECTIONS_MAX_TOTAL = 20;
+
+    private static final AtomicInteger SERVICE_COUNT = new AtomicInteger();
+
+    private final int maxInFlight;
+    private final ExecutorService executorService;
+    private final GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolSessionObject = new GlobalSessionObject<>();
+
+    public HttpClientAsyncService() {
+        this(DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public HttpClientAsyncService(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("The maximum number of requests in flight must be greater than 0");
+        }
+        this.maxInFlight = maxInFlight;
+        executorService = Executors.newFixedThreadPool(maxInFlight, new HttpClientThreadFactory());
+    }
+
+    public Future<Map<String, String>> submit(final HttpClientInputs httpClientInputs) {
+        if (httpClientInputs.getConnectionPoolSessionObject() == null) {
+            httpClientInputs.setConnectionPoolSessionObject(connectionPoolSessionObject);
+            if (StringUtils.isEmpty(httpClientInputs.getConnectionsMaxPerRoute())) {
+                httpClientInputs.setConnectionsMaxPerRoute(String.valueOf(maxInFlight));
+            }
+            if (StringUtils.isEmpty(httpClientInputs.getConnectionsMaxTotal())) {
+                httpClientInputs.setConnectionsMaxTotal(String.valueOf(Math.max(maxInFlight, DEFAULT_CONNECTIONS_MAX_TOTAL)));
+            }
+        }
+        return executorService.submit(new Callable<Map<String, String>>() {
+            @Override
+            public Map<String, String> call() {
+                try {
+                    return new HttpClientService().execute(httpClientInputs);
+                } catch (Exception e) {
+                    return exceptionResult(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the results of the requests, in the order of the requests. A failed request has a result with
+     * 'returnCode' -1, the error message in 'returnResult' and the stack trace in 'exception'.
+     */
+    public List<Map<String, String>> executeAll(List<HttpClientInputs> httpClientInputsList) {
+        List<Future<Map<String, String>>> futures = new ArrayList<>(httpClientInputsList.size());
+        for (HttpClientInputs httpClientInputs : httpClientInputsList) {
+            futures.add(submit(httpClientInputs));
+        }
+        List<Map<String, String>> results = new ArrayList<>(futures.size());
+        for (Future<Map<String, String>> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<Map<String, String>> pending : futures) {
+                    pending.cancel(true);
+                }
+                throw new RuntimeException("Interrupted while waiting for the http requests to complete", e);
+            } catch (ExecutionException e) {
+                results.add(exceptionResult(e.getCause()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = connectionPoolSessionObject.get();
+        if (connectionManagerMap != null) {
+            for (PoolingHttpClientConnectionManager connManager : connectionManagerMap.values()) {
+                HttpClientCache.getInstance().remove(connManager);
+                connManager.shutdown();
+            }
+            connectionManagerMap.clear();
+        }
+    }
+
+    private static Map<String, String> exceptionResult(Throwable e) {
+        StringWriter writer = new StringWriter();
+        e.printStackTrace(new PrintWriter(writer));
+
+        Map<String, String> result = new HashMap<>();
+        result.put(HttpClientService.RETURN_RESULT, e.getMessage());
+        result.put(HttpClientService.RETURN_CODE, "-1");
+        result.put(HttpClientService.EXCEPTION, writer.toString().replace("" + (char) 0x00, ""));
+        return result;
+    }
+
+    private static class HttpClientThreadFactory implements ThreadFactory {
+        private final int serviceNumber = SERVICE_COUNT.incrementAndGet();
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "http-client-async-" + serviceNumber + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -26,7 +26,9 @@ import io.cloudslang.content.httpclient.build.auth.AuthSchemeProviderLookupBuild
 import io.cloudslang.content.httpclient.build.auth.AuthTypes;
 import io.cloudslang.content.httpclient.build.auth.CredentialsProviderBuilder;
 import io.cloudslang.content.httpclient.build.conn.ConnectionManagerBuilder;
+import io.cloudslang.content.httpclient.build.conn.HttpClientCache;
 import io.cloudslang.content.httpclient.build.conn.SSLConnectionSocketFactoryBuilder;
+import io.cloudslang.content.httpclient.build.conn.SSLConnectionSocketFactoryRegistry;
 import io.cloudslang.content.httpclient.consume.FinalLocationConsumer;
 import io.cloudslang.content.httpclient.consume.HeadersConsumer;
 import io.cloudslang.content.httpclient.consume.HttpResponseConsumer;
@@ -45,11 +47,7 @@ import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Lookup;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ContentType;
-import org.apache.http.impl.DefaultConnectionReuseStrategy;
-import org.apache.http.impl.NoConnectionReuseStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 import java.io.IOException;
@@ -57,6 +55,7 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created with IntelliJ IDEA.
@@ -74,6 +73,9 @@ public class HttpClientService {
     public static final String RESPONSE_HEADERS = "responseHeaders";
     public static final String PROTOCOL_VERSION = "protocolVersion";
     public static final String REASON_PHRASE = "reasonPhrase";
+    public static final String RESPONSE_FILE = "responseFile";
+    public static final String BYTES_TRANSFERRED = "bytesTransferred";
+    public static final String TRANSFER_RATE = "transferRate";
 
     private CookieStoreBuilder cookieStoreBuilder;
     private AuthSchemeProviderLookupBuilder authSchemeProviderLookupBuilder;
@@ -86,6 +88,8 @@ public class HttpClientService {
     private CredentialsProviderBuilder credentialsProviderBuilder;
     private SSLConnectionSocketFactoryBuilder sslConnectionSocketFactoryBuilder;
     private ConnectionManagerBuilder poolingHttpClientConnectionManagerBuilder;
+    private HttpClientCache httpClientCache;
+    private SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry;
     private ContextBuilder contextBuilder;
     private HttpClientExecutor httpClientExecutor;
     private HttpResponseConsumer httpResponseConsumer;
@@ -104,6 +108,8 @@ public class HttpClientService {
         Map<String, String> result = parseResponse(httpResponse,
                 httpClientInputs.getResponseCharacterSet(),
                 httpClientInputs.getDestinationFile(),
+                httpClientInputs.getDestinationFileCharacterSet(),
+                httpClientInputs.getMaxInMemoryResponseSize(),
                 httpComponents.getUri(),
                 httpComponents.getHttpClientContext(),
                 httpComponents.getCookieStore(),
@@ -178,8 +184,6 @@ public class HttpClientService {
                 .buildRequestConfig();
         httpRequestBase.setConfig(requestConfig);
 
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
         AuthTypes authTypes = new AuthTypes(httpClientInputs.getAuthType());
 
         CredentialsProvider credentialsProvider = credentialsProviderBuilder
@@ -193,7 +197,6 @@ public class HttpClientService {
                 .setProxyHost(httpClientInputs.getProxyHost())
                 .setProxyPort(httpClientInputs.getProxyPort())
                 .buildCredentialsProvider();
-        httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
 
         Lookup<AuthSchemeProvider> authSchemeLookup = authSchemeProviderLookupBuilder
                 .setAuthTypes(authTypes)
@@ -205,7 +208,6 @@ public class HttpClientService {
                 .setUsername(httpClientInputs.getUsername())
                 .setPassword(httpClientInputs.getPassword())
                 .buildAuthSchemeProviderLookup();
-        httpClientBuilder.setDefaultAuthSchemeRegistry(authSchemeLookup);
 
         httpRequestBase.setHeaders(theHeaders.toArray(new Header[theHeaders.size()]));
 
@@ -213,9 +215,6 @@ public class HttpClientService {
                 .setUseCookies(httpClientInputs.getUseCookies())
                 .setCookieStoreSessionObject(httpClientInputs.getCookieStoreSessionObject())
                 .buildCookieStore();
-        if (cookieStore != null) {
-            httpClientBuilder.setDefaultCookieStore(cookieStore);
-        }
 
         SSLConnectionSocketFactory sslConnectionSocketFactory = sslConnectionSocketFactoryBuilder
                 .setTrustAllRoots(httpClientInputs.getTrustAllRoots())
@@ -226,6 +225,7 @@ public class HttpClientService {
                 .setX509HostnameVerifier(httpClientInputs.getX509HostnameVerifier())
                 .setInputTLS(httpClientInputs.getTlsVersion())
                 .setallowedCyphers(httpClientInputs.getAllowedCyphers())
+                .setSslConnectionSocketFactoryRegistry(sslConnectionSocketFactoryRegistry)
                 .build();
 
         String connectionKey = ConnectionManagerBuilder.buildConnectionManagerMapKey(httpClientInputs.getTrustAllRoots(),
@@ -236,26 +236,28 @@ public class HttpClientService {
                 .setConnectionManagerMapKey(connectionKey)
                 .setConnectionPoolHolder(httpClientInputs.getConnectionPoolSessionObject())
                 .setSslsf(sslConnectionSocketFactory)
+                .setSslConnectionSocketFactoryRegistry(sslConnectionSocketFactoryRegistry)
                 .setDefaultMaxPerRoute(httpClientInputs.getConnectionsMaxPerRoute())
                 .setTotalMax(httpClientInputs.getConnectionsMaxTotal())
                 .buildConnectionManager();
-
-        httpClientBuilder.setConnectionManager(connManager);
-
-        if (StringUtils.isEmpty(httpClientInputs.getKeepAlive()) || Boolean.parseBoolean(httpClientInputs.getKeepAlive())) {
-            httpClientBuilder.setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE);
-        } else {
-            httpClientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        PoolingHttpClientConnectionManager replacedConnManager = poolingHttpClientConnectionManagerBuilder.getReplacedConnectionManager();
+        if (replacedConnManager != null) {
+            //the pool was built with the keystores as they were before they changed on disk
+            httpClientCache.remove(replacedConnManager);
+            replacedConnManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
         }
 
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
-
-        CloseableHttpClient closeableHttpClient = httpClientBuilder.build();
+        boolean keepAlive = StringUtils.isEmpty(httpClientInputs.getKeepAlive())
+                || Boolean.parseBoolean(httpClientInputs.getKeepAlive());
+        // a pool seen for the first time may belong to a session object that only lives for this call
+        CloseableHttpClient closeableHttpClient = httpClientCache.getHttpClient(connManager, keepAlive,
+                !poolingHttpClientConnectionManagerBuilder.isConnectionManagerCreated());
 
         HttpClientContext context = contextBuilder
                 .setAuthSchemeLookup(authSchemeLookup)
                 .setAuthTypes(authTypes)
                 .setCredentialsProvider(credentialsProvider)
+                .setCookieStore(cookieStore)
                 .setUri(uri)
                 .setPreemptiveAuth(httpClientInputs.getPreemptiveAuth()).build();
 
@@ -266,7 +268,6 @@ public class HttpClientService {
         result.setUri(uri);
         result.setConnManager(connManager);
         result.setCookieStore(cookieStore);
-        result.setHttpClientBuilder(httpClientBuilder);
         return result;
     }
 
@@ -285,6 +286,8 @@ public class HttpClientService {
     public Map<String, String> parseResponse(CloseableHttpResponse httpResponse,
                                              String responseCharacterSet,
                                              String destinationFile,
+                                             String destinationFileCharacterSet,
+                                             String maxInMemoryResponseSize,
                                              URI uri,
                                              HttpClientContext httpClientContext,
                                              CookieStore cookieStore,
@@ -297,6 +300,8 @@ public class HttpClientService {
                     .setHttpResponse(httpResponse)
                     .setResponseCharacterSet(responseCharacterSet)
                     .setDestinationFile(destinationFile)
+                    .setDestinationFileCharacterSet(destinationFileCharacterSet)
+                    .setMaxInMemoryResponseSize(maxInMemoryResponseSize)
                     .consume(result);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -310,7 +315,17 @@ public class HttpClientService {
         headersConsumer.setHeaders(httpResponse.getAllHeaders()).consume(result);
         statusConsumer.setStatusLine(httpResponse.getStatusLine()).consume(result);
 
-        if (cookieStore != null) {
+        if (cookieStore instanceof SessionCookieStore) {
+            //the session keeps the encoded cookies, they are encoded again only when the response changed them
+            SessionCookieStore sessionCookieStore = (SessionCookieStore) cookieStore;
+            if (sessionCookieStore.isDirty()) {
+                try {
+                    cookieStoreSessionObject.setValue(sessionCookieStore.encode());
+                } catch (IOException e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+        } else if (cookieStore != null) {
             try {
                 cookieStoreSessionObject.setValue(
                         CookieStoreBuilder.serialize(cookieStore));
@@ -375,6 +390,14 @@ public class HttpClientService {
         this.poolingHttpClientConnectionManagerBuilder = poolingHttpClientConnectionManagerBuilder;
     }
 
+    public void setHttpClientCache(HttpClientCache httpClientCache) {
+        this.httpClientCache = httpClientCache;
+    }
+
+    public void setSslConnectionSocketFactoryRegistry(SSLConnectionSocketFactoryRegistry sslConnectionSocketFactoryRegistry) {
+        this.sslConnectionSocketFactoryRegistry = sslConnectionSocketFactoryRegistry;
+    }
+
     private void buildDefaultServices() {
         if (uriBuilder == null) {
             uriBuilder = new URIBuilder();
@@ -409,6 +432,12 @@ public class HttpClientService {
         if (poolingHttpClientConnectionManagerBuilder == null) {
             poolingHttpClientConnectionManagerBuilder = new ConnectionManagerBuilder();
         }
+        if (httpClientCache == null) {
+            httpClientCache = HttpClientCache.getInstance();
+        }
+        if (sslConnectionSocketFactoryRegistry == null) {
+            sslConnectionSocketFactoryRegistry = SSLConnectionSocketFactoryRegistry.getInstance();
+        }
         if (contextBuilder == null) {
             contextBuilder = new ContextBuilder();
         }
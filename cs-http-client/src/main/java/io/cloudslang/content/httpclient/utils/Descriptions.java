@@ -28,6 +28,12 @@ public class Descriptions {
         public static final String RETURN_RESULT_DESC = "The percent-decoded 'url'. In case of an error this output will contain the error message.";
     }
 
+    public static class PoolStatistics {
+        public static final String POOL_STATISTICS_DESC = "This operation returns the leased, pending, available and maximum number of connections of the connection pools used by the Http Client operations in the same session.";
+        public static final String SESSION_CONNECTION_POOL_DESC = "The session object that holds the connection pools of the Http Client operations.";
+        public static final String RETURN_RESULT_DESC = "One line for every pool and for every route of a pool, with its leased, pending, available and maximum number of connections. Empty when no pool was used. In case of an error this output will contain the error message.";
+    }
+
     public static class Commons {
         public static final String URL_DESC = "Any text like query or form values. Adding a whole URL will not work.";
         public static final String CHARACTER_SET_DESC = "The character encoding used for URL encoding. Leave this UTF-8, like the standard recommends and because the inputs are stored as UTF-8.";
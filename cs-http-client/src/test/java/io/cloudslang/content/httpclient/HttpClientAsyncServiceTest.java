@@ -0,0 +1,153 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.cloudslang.content.httpclient.build.conn.ConnectionPoolStatistics;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.services.HttpClientAsyncService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HttpClientAsyncServiceTest {
+
+    private HttpServer server;
+    private final CountDownLatch concurrentRequests = new CountDownLatch(4);
+    private HttpClientAsyncService httpClientAsyncService;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/concurrent", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                concurrentRequests.countDown();
+                boolean allInFlight;
+                try {
+                    allInFlight = concurrentRequests.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    allInFlight = false;
+                }
+                byte[] body = String.valueOf(allInFlight).getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream responseBody = exchange.getResponseBody();
+                responseBody.write(body);
+                responseBody.close();
+            }
+        });
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body = exchange.getRequestURI().getPath().getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream responseBody = exchange.getResponseBody();
+                responseBody.write(body);
+                responseBody.close();
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        httpClientAsyncService = new HttpClientAsyncService(4);
+    }
+
+    @After
+    public void tearDown() {
+        httpClientAsyncService.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void executeAllKeepsRequestOrder() {
+        List<HttpClientInputs> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(buildInputs("http://localhost:" + server.getAddress().getPort() + "/item" + i));
+        }
+
+        List<Map<String, String>> results = httpClientAsyncService.executeAll(requests);
+
+        assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("0", results.get(i).get("returnCode"));
+            assertEquals("200", results.get(i).get("statusCode"));
+            assertEquals("/item" + i, results.get(i).get("returnResult"));
+        }
+    }
+
+    @Test
+    public void executeAllReportsFailedRequests() {
+        List<HttpClientInputs> requests = new ArrayList<>();
+        requests.add(buildInputs("http://localhost:" + server.getAddress().getPort() + "/ok"));
+        requests.add(buildInputs("not a url"));
+
+        List<Map<String, String>> results = httpClientAsyncService.executeAll(requests);
+
+        assertEquals("0", results.get(0).get("returnCode"));
+        assertEquals("-1", results.get(1).get("returnCode"));
+    }
+
+    @Test
+    public void executeAllRunsMaxInFlightRequestsOnOneRoute() {
+        List<HttpClientInputs> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(buildInputs("http://localhost:" + server.getAddress().getPort() + "/concurrent"));
+        }
+
+        List<Map<String, String>> results = httpClientAsyncService.executeAll(requests);
+
+        for (Map<String, String> result : results) {
+            assertEquals("0", result.get("returnCode"));
+            assertEquals("true", result.get("returnResult"));
+        }
+    }
+
+    @Test
+    public void closeShutsDownTheSharedPool() {
+        HttpClientInputs request = buildInputs("http://localhost:" + server.getAddress().getPort() + "/item");
+        httpClientAsyncService.executeAll(Collections.singletonList(request));
+        assertEquals(1, ((Map) request.getConnectionPoolSessionObject().get()).size());
+
+        httpClientAsyncService.close();
+
+        assertTrue(ConnectionPoolStatistics.collect(request.getConnectionPoolSessionObject()).isEmpty());
+    }
+
+    private HttpClientInputs buildInputs(String url) {
+        HttpClientInputs httpClientInputs = new HttpClientInputs();
+        httpClientInputs.setUrl(url);
+        httpClientInputs.setMethod("GET");
+        httpClientInputs.setAuthType("anonymous");
+        return httpClientInputs;
+    }
+}
@@ -70,6 +70,10 @@ public class HttpClientServiceTest {
     @Mock
     private String destinationFile;
     @Mock
+    private String destinationFileCharacterSet;
+    @Mock
+    private String maxInMemoryResponseSize;
+    @Mock
     private URI uri;
     @Mock
     private Map<String, String> result;
@@ -88,7 +92,7 @@ public class HttpClientServiceTest {
         PowerMockito.doReturn(httpComponents).when(httpClientService, "buildHttpComponents", httpClientInputs);
         PowerMockito.doReturn(httpResponse).when(httpClientService, "execute", closeableHttpClient, httpRequestBase, httpClientContext);
         PowerMockito.doReturn(result).when(httpClientService, "parseResponse", httpResponse, responseCharacterSet, destinationFile,
-                uri, httpClientContext, cookieStore, serializableSessionObject);
+                destinationFileCharacterSet, maxInMemoryResponseSize, uri, httpClientContext, cookieStore, serializableSessionObject);
 
         PowerMockito.when(httpComponents.getHttpRequestBase()).thenReturn(httpRequestBase);
         PowerMockito.when(httpComponents.getCloseableHttpClient()).thenReturn(closeableHttpClient);
@@ -99,6 +103,8 @@ public class HttpClientServiceTest {
 
         PowerMockito.when(httpClientInputs.getResponseCharacterSet()).thenReturn(responseCharacterSet);
         PowerMockito.when(httpClientInputs.getDestinationFile()).thenReturn(destinationFile);
+        PowerMockito.when(httpClientInputs.getDestinationFileCharacterSet()).thenReturn(destinationFileCharacterSet);
+        PowerMockito.when(httpClientInputs.getMaxInMemoryResponseSize()).thenReturn(maxInMemoryResponseSize);
         PowerMockito.when(httpClientInputs.getCookieStoreSessionObject()).thenReturn(serializableSessionObject);
     }
 
@@ -19,15 +19,25 @@ package io.cloudslang.content.httpclient.build;
 
 import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
 import org.apache.http.client.CookieStore;
+import org.apache.http.cookie.ClientCookie;
+import org.apache.http.cookie.Cookie;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.impl.cookie.BasicClientCookie2;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNull;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * User: Adina Tusa
@@ -86,4 +96,81 @@ public class CookieStoreBuilderTest {
 
         assertNull(cookieStore);
     }
+
+    @Test
+    public void buildCookieStoreKeepsBytesInSession() throws IOException {
+        SessionCookieStore stored = new SessionCookieStore();
+        stored.addCookie(new BasicClientCookie("name", "value"));
+        SerializableSessionObject sessionObjectHolder = new SerializableSessionObject();
+        sessionObjectHolder.setValue(stored.encode());
+
+        SessionCookieStore cookieStore = (SessionCookieStore) cookieStoreBuilder
+                .setCookieStoreSessionObject(sessionObjectHolder)
+                .buildCookieStore();
+
+        assertTrue(sessionObjectHolder.getValue() instanceof byte[]);
+        assertEquals(1, cookieStore.getCookies().size());
+        assertEquals("value", cookieStore.getCookies().get(0).getValue());
+        assertFalse(cookieStore.isDirty());
+    }
+
+    @Test
+    public void buildCookieStoreUpgradesSerializedStore() throws IOException {
+        BasicCookieStore basicCookieStore = new BasicCookieStore();
+        basicCookieStore.addCookie(new BasicClientCookie("name", "value"));
+        SerializableSessionObject sessionObjectHolder = new SerializableSessionObject();
+        sessionObjectHolder.setValue(CookieStoreBuilder.serialize(basicCookieStore));
+
+        SessionCookieStore cookieStore = (SessionCookieStore) cookieStoreBuilder
+                .setCookieStoreSessionObject(sessionObjectHolder)
+                .buildCookieStore();
+
+        assertEquals(1, cookieStore.getCookies().size());
+        assertEquals("name", cookieStore.getCookies().get(0).getName());
+        assertTrue(cookieStore.isDirty());
+    }
+
+    @Test
+    public void sessionCookieStoreSurvivesEncoding() throws Exception {
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        BasicClientCookie cookie = new BasicClientCookie("session", "value");
+        cookie.setDomain("example.com");
+        cookie.setPath("/");
+        cookie.setAttribute(ClientCookie.DOMAIN_ATTR, "example.com");
+        cookie.setExpiryDate(new Date(System.currentTimeMillis() + 60000));
+        cookie.setSecure(true);
+        cookieStore.addCookie(cookie);
+        BasicClientCookie2 cookie2 = new BasicClientCookie2("session2", "value2");
+        cookie2.setDomain("example.com");
+        cookie2.setPorts(new int[]{80, 8080});
+        cookieStore.addCookie(cookie2);
+
+        byte[] encoded = cookieStore.encode();
+        assertTrue(SessionCookieStore.isEncoded(encoded));
+        SessionCookieStore copy = SessionCookieStore.decode(encoded);
+
+        assertEquals(2, copy.getCookies().size());
+        Cookie copied = copy.getCookies().get(0);
+        assertEquals("session", copied.getName());
+        assertEquals("value", copied.getValue());
+        assertEquals(cookie.getExpiryDate(), copied.getExpiryDate());
+        assertTrue(copied.isSecure());
+        assertEquals("example.com", ((ClientCookie) copied).getAttribute(ClientCookie.DOMAIN_ATTR));
+        assertTrue(Arrays.equals(new int[]{80, 8080}, copy.getCookies().get(1).getPorts()));
+        assertFalse(copy.isDirty());
+    }
+
+    @Test
+    public void sessionCookieStoreEncodesOnlyWhenDirty() throws Exception {
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        cookieStore.addCookie(new BasicClientCookie("name", "value"));
+
+        byte[] encoded = cookieStore.encode();
+        assertFalse(cookieStore.isDirty());
+        assertSame(encoded, cookieStore.encode());
+
+        cookieStore.addCookie(new BasicClientCookie("other", "value"));
+        assertTrue(cookieStore.isDirty());
+        assertNotSame(encoded, cookieStore.encode());
+    }
 }
@@ -21,6 +21,7 @@ import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import com.hp.oo.sdk.content.plugin.SessionResource;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -28,8 +29,13 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import static junit.framework.Assert.*;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * User: Adina Tusa
@@ -41,6 +47,8 @@ public class ConnectionManagerBuilderTest {
     @Mock
     private SSLConnectionSocketFactory sslConnectionSocketFactoryMock;
     @Mock
+    private SSLConnectionSocketFactory refreshedSslConnectionSocketFactoryMock;
+    @Mock
     private PoolingHttpClientConnectionManager connectionManagerMock;
 
     @Test
@@ -83,4 +91,108 @@ public class ConnectionManagerBuilderTest {
                 .buildConnectionManager();
         assertEquals(connectionManagerMock, connectionManager);
     }
+
+    @Test
+    public void buildConnectionManagerReusesPoolForSameKey() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        PoolingHttpClientConnectionManager first = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder)
+                .buildConnectionManager();
+        PoolingHttpClientConnectionManager second = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder)
+                .buildConnectionManager();
+        assertSame(first, second);
+        assertTrue(holder.get() instanceof ConcurrentMap);
+    }
+
+    @Test
+    public void buildConnectionManagerReportsCreatedPool() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        ConnectionManagerBuilder builder = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder);
+
+        builder.buildConnectionManager();
+        assertTrue(builder.isConnectionManagerCreated());
+
+        builder.buildConnectionManager();
+        assertFalse(builder.isConnectionManagerCreated());
+    }
+
+    @Test
+    public void buildConnectionManagerReconfiguresOnlyOnChange() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        final Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = new HashMap();
+        connectionManagerMap.put("key1:key2", connectionManagerMock);
+        holder.setResource(new SessionResource() {
+            @Override
+            public Object get() {
+                return connectionManagerMap;
+            }
+
+            @Override
+            public void release() {
+            }
+        });
+        when(connectionManagerMock.getDefaultMaxPerRoute()).thenReturn(2);
+        when(connectionManagerMock.getMaxTotal()).thenReturn(20);
+
+        new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setConnectionPoolHolder(holder)
+                .setDefaultMaxPerRoute("2")
+                .setTotalMax("40")
+                .buildConnectionManager();
+
+        verify(connectionManagerMock, never()).setDefaultMaxPerRoute(anyInt());
+        verify(connectionManagerMock).setMaxTotal(40);
+    }
+
+    @Test
+    public void collectConnectionPoolStatistics() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder)
+                .setTotalMax("30")
+                .buildConnectionManager();
+
+        Map<String, PoolStats> statistics = ConnectionPoolStatistics.collect(holder);
+        assertEquals(1, statistics.size());
+        assertEquals(30, statistics.get("key1:key2").getMax());
+        assertEquals(0, statistics.get("key1:key2").getLeased());
+        assertEquals("key1:key2: leased=0, pending=0, available=0, max=30", ConnectionPoolStatistics.format(statistics));
+    }
+
+    @Test
+    public void buildConnectionManagerReplacesPoolOfRefreshedKeystore() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        SSLConnectionSocketFactoryRegistry registry = new SSLConnectionSocketFactoryRegistry();
+        registry.put("profile", "fingerprint1", sslConnectionSocketFactoryMock);
+        ConnectionManagerBuilder builder = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setConnectionPoolHolder(holder)
+                .setSslConnectionSocketFactoryRegistry(registry);
+        PoolingHttpClientConnectionManager connectionManager = builder.setSslsf(sslConnectionSocketFactoryMock).buildConnectionManager();
+
+        //an unchanged keystore keeps the pool
+        assertSame(connectionManager, builder.buildConnectionManager());
+        assertNull(builder.getReplacedConnectionManager());
+
+        registry.put("profile", "fingerprint2", refreshedSslConnectionSocketFactoryMock);
+        PoolingHttpClientConnectionManager refreshedConnectionManager = builder.setSslsf(refreshedSslConnectionSocketFactoryMock)
+                .buildConnectionManager();
+
+        assertNotSame(connectionManager, refreshedConnectionManager);
+        assertSame(connectionManager, builder.getReplacedConnectionManager());
+        assertSame(refreshedConnectionManager, ((Map) holder.get()).get("key1:key2"));
+        assertSame(refreshedConnectionManager, builder.buildConnectionManager());
+        assertNull(builder.getReplacedConnectionManager());
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class HttpClientCacheTest {
+
+    @Test
+    public void getHttpClientReusesClientForSamePool() {
+        HttpClientCache httpClientCache = new HttpClientCache(10, 0);
+        PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
+
+        CloseableHttpClient first = httpClientCache.getHttpClient(connManager, true);
+        CloseableHttpClient second = httpClientCache.getHttpClient(connManager, true);
+
+        assertSame(first, second);
+        assertEquals(1, httpClientCache.getHits());
+        assertEquals(1, httpClientCache.getMisses());
+        assertEquals(1, httpClientCache.size());
+    }
+
+    @Test
+    public void getHttpClientSeparatesKeepAliveAndPools() {
+        HttpClientCache httpClientCache = new HttpClientCache(10, 0);
+        PoolingHttpClientConnectionManager connManager1 = new PoolingHttpClientConnectionManager();
+        PoolingHttpClientConnectionManager connManager2 = new PoolingHttpClientConnectionManager();
+
+        CloseableHttpClient keepAlive = httpClientCache.getHttpClient(connManager1, true);
+        assertNotSame(keepAlive, httpClientCache.getHttpClient(connManager1, false));
+        assertNotSame(keepAlive, httpClientCache.getHttpClient(connManager2, true));
+        assertEquals(3, httpClientCache.getMisses());
+    }
+
+    @Test
+    public void getHttpClientEvictsLeastRecentlyUsed() {
+        HttpClientCache httpClientCache = new HttpClientCache(2, 0);
+        PoolingHttpClientConnectionManager connManager1 = new PoolingHttpClientConnectionManager();
+        PoolingHttpClientConnectionManager connManager2 = new PoolingHttpClientConnectionManager();
+        PoolingHttpClientConnectionManager connManager3 = new PoolingHttpClientConnectionManager();
+
+        CloseableHttpClient first = httpClientCache.getHttpClient(connManager1, true);
+        httpClientCache.getHttpClient(connManager2, true);
+        httpClientCache.getHttpClient(connManager3, true);
+
+        assertEquals(2, httpClientCache.size());
+        assertEquals(1, httpClientCache.getEvictions());
+        assertNotSame(first, httpClientCache.getHttpClient(connManager1, true));
+    }
+
+    @Test
+    public void getHttpClientWithoutPoolIsNotCached() {
+        HttpClientCache httpClientCache = new HttpClientCache(10, 0);
+
+        assertNotSame(httpClientCache.getHttpClient(null, true), httpClientCache.getHttpClient(null, true));
+        assertEquals(0, httpClientCache.size());
+    }
+
+    @Test
+    public void getHttpClientForSingleCallPoolIsNotCached() {
+        HttpClientCache httpClientCache = new HttpClientCache(10, 0);
+        PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
+
+        CloseableHttpClient first = httpClientCache.getHttpClient(connManager, true, false);
+
+        assertNotSame(first, httpClientCache.getHttpClient(connManager, true, false));
+        assertEquals(0, httpClientCache.size());
+        assertEquals(2, httpClientCache.getMisses());
+    }
+
+    @Test
+    public void removeDropsTheClientsOfAPool() {
+        HttpClientCache httpClientCache = new HttpClientCache(10, 0);
+        PoolingHttpClientConnectionManager connManager1 = new PoolingHttpClientConnectionManager();
+        PoolingHttpClientConnectionManager connManager2 = new PoolingHttpClientConnectionManager();
+        httpClientCache.getHttpClient(connManager1, true);
+        httpClientCache.getHttpClient(connManager1, false);
+        CloseableHttpClient other = httpClientCache.getHttpClient(connManager2, true);
+
+        httpClientCache.remove(connManager1);
+
+        assertEquals(1, httpClientCache.size());
+        assertSame(other, httpClientCache.getHttpClient(connManager2, true));
+    }
+}
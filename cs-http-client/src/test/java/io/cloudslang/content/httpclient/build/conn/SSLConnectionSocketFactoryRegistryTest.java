@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SSLConnectionSocketFactoryRegistryTest {
+    private static final String JAVA_KEYSTORE = System.getProperty("java.home") + "/lib/security/cacerts";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void buildReusesFactoryForSameProfile() {
+        SSLConnectionSocketFactoryRegistry registry = new SSLConnectionSocketFactoryRegistry();
+
+        SSLConnectionSocketFactory first = newBuilder(registry).build();
+        SSLConnectionSocketFactory second = newBuilder(registry).build();
+
+        assertSame(first, second);
+        assertEquals(1, registry.getLiveContexts());
+        assertEquals(1, registry.getHits());
+        assertEquals(1, registry.getMisses());
+    }
+
+    @Test
+    public void buildSeparatesProfiles() {
+        SSLConnectionSocketFactoryRegistry registry = new SSLConnectionSocketFactoryRegistry();
+
+        SSLConnectionSocketFactory strict = newBuilder(registry).build();
+        SSLConnectionSocketFactory allowAll = newBuilder(registry).setX509HostnameVerifier("allow_all").build();
+
+        assertNotSame(strict, allowAll);
+        assertEquals(2, registry.getLiveContexts());
+    }
+
+    @Test
+    public void buildRefreshesFactoryWhenKeystoreChanges() throws Exception {
+        SSLConnectionSocketFactoryRegistry registry = new SSLConnectionSocketFactoryRegistry();
+        File trustKeystore = folder.newFile("trust.jks");
+        FileUtils.copyFile(new File(JAVA_KEYSTORE), trustKeystore);
+
+        SSLConnectionSocketFactory first = newBuilder(registry)
+                .setTrustKeystore(trustKeystore.getAbsolutePath())
+                .setTrustPassword("changeit")
+                .build();
+        trustKeystore.setLastModified(trustKeystore.lastModified() - 60000);
+        SSLConnectionSocketFactory second = newBuilder(registry)
+                .setTrustKeystore(trustKeystore.getAbsolutePath())
+                .setTrustPassword("changeit")
+                .build();
+
+        assertNotSame(first, second);
+        assertEquals(1, registry.getLiveContexts());
+        assertEquals(1, registry.getRefreshes());
+    }
+
+    @Test
+    public void fileUrlsAreFingerprintedLikePaths() throws Exception {
+        SSLConnectionSocketFactoryBuilder builder = newBuilder(new SSLConnectionSocketFactoryRegistry());
+        File trustKeystore = folder.newFile("trust.jks");
+        FileUtils.copyFile(new File(JAVA_KEYSTORE), trustKeystore);
+
+        String pathFingerprint = builder.setTrustKeystore(trustKeystore.getAbsolutePath()).buildKeystoresFingerprint();
+        String urlFingerprint = builder.setTrustKeystore(trustKeystore.toURI().toString()).buildKeystoresFingerprint();
+
+        assertEquals(pathFingerprint, urlFingerprint);
+        assertTrue(urlFingerprint.contains(String.valueOf(trustKeystore.lastModified())));
+    }
+
+    @Test
+    public void buildDoesNotCacheKeystoresThatCanNotBeFingerprinted() {
+        SSLConnectionSocketFactoryBuilder builder = newBuilder(new SSLConnectionSocketFactoryRegistry());
+
+        assertNull(builder.setTrustKeystore("jar:file:/opt/keystores.jar!/trust.jks").buildKeystoresFingerprint());
+        assertNull(builder.setTrustKeystore("http://localhost/trust.jks").buildKeystoresFingerprint());
+        assertNull(builder.setTrustKeystore(new File(folder.getRoot(), "missing.jks").getPath()).buildKeystoresFingerprint());
+    }
+
+    @Test
+    public void registryDropsLeastRecentlyUsedProfile() {
+        SSLConnectionSocketFactoryRegistry registry = new SSLConnectionSocketFactoryRegistry(2);
+
+        SSLConnectionSocketFactory strict = newBuilder(registry).build();
+        newBuilder(registry).setX509HostnameVerifier("allow_all").build();
+        newBuilder(registry).build();
+        newBuilder(registry).setX509HostnameVerifier("browser_compatible").build();
+
+        assertEquals(2, registry.getLiveContexts());
+        assertEquals(1, registry.getEvictions());
+        assertSame(strict, newBuilder(registry).build());
+    }
+
+    private SSLConnectionSocketFactoryBuilder newBuilder(SSLConnectionSocketFactoryRegistry registry) {
+        return new SSLConnectionSocketFactoryBuilder().setSslConnectionSocketFactoryRegistry(registry);
+    }
+}
@@ -24,7 +24,10 @@ import org.apache.http.HttpResponse;
 import org.apache.http.entity.BasicHttpEntity;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -32,11 +35,15 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
@@ -53,6 +60,13 @@ public class HttpResponseConsumerTest {
 
     private static final String CONTENT_TYPE = "text/plain;charset=UTF-8";
     private static final String RETURN_RESULT = "returnResult";
+    private static final String BYTES_TRANSFERRED = "bytesTransferred";
+    private static final String TRANSFER_RATE = "transferRate";
+    private static final String RESPONSE_FILE = "responseFile";
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
     private HttpResponseConsumer httpResponseConsumer;
     @Mock
     private HttpResponse httpResponseMock;
@@ -111,6 +125,7 @@ public class HttpResponseConsumerTest {
         whenNew(InputStreamReader.class).withArguments(anyObject(), anyString()).thenReturn(inputStreamReaderMock);
         whenNew(BufferedReader.class).withArguments(inputStreamReaderMock).thenReturn(bufferedReaderMock);
         when(bufferedReaderMock.read((char[]) anyObject(), anyInt(), anyInt())).thenReturn(-1);
+        when(inputStreamMock.read((byte[]) anyObject(), anyInt(), anyInt())).thenReturn(-1);
 
         httpResponseConsumer
                 .setHttpResponse(httpResponseMock)
@@ -123,9 +138,92 @@ public class HttpResponseConsumerTest {
         assertNull(result.get(RETURN_RESULT));
     }
 
+    @Test
+    public void consumeWithDestinationFileKeepsBinaryContent() throws Exception {
+        byte[] content = new byte[256];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        setHttpResponseEntity(CONTENT_TYPE, new ByteArrayInputStream(content));
+        File file = temporaryFolder.newFile("binary.bin");
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setDestinationFile(file.getAbsolutePath())
+                .setResponseCharacterSet(null)
+                .consume(result);
+
+        assertTrue(Arrays.equals(content, Files.readAllBytes(file.toPath())));
+        assertEquals("256", result.get(BYTES_TRANSFERRED));
+        assertNotNull(result.get(TRANSFER_RATE));
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void consumeWithDestinationFileCharacterSet() throws Exception {
+        setHttpResponseEntity(CONTENT_TYPE, new ByteArrayInputStream("\u00e9t\u00e9".getBytes(Consts.UTF_8)));
+        File file = temporaryFolder.newFile("text.txt");
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setDestinationFile(file.getAbsolutePath())
+                .setDestinationFileCharacterSet(Consts.ISO_8859_1.name())
+                .setResponseCharacterSet(null)
+                .consume(result);
+
+        assertTrue(Arrays.equals("\u00e9t\u00e9".getBytes(Consts.ISO_8859_1), Files.readAllBytes(file.toPath())));
+        assertNull(result.get(BYTES_TRANSFERRED));
+    }
+
+    @Test
+    public void consumeWithinMaxInMemoryResponseSize() throws Exception {
+        setHttpResponseEntity(CONTENT_TYPE, new ByteArrayInputStream("document".getBytes(Consts.UTF_8)));
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setResponseCharacterSet(null)
+                .setMaxInMemoryResponseSize("8")
+                .consume(result);
+
+        assertEquals("document", result.get(RETURN_RESULT));
+        assertNull(result.get(RESPONSE_FILE));
+    }
+
+    @Test
+    public void consumeOverMaxInMemoryResponseSize() throws Exception {
+        setHttpResponseEntity(CONTENT_TYPE, new ByteArrayInputStream("large document".getBytes(Consts.UTF_8)));
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setResponseCharacterSet(null)
+                .setMaxInMemoryResponseSize("5")
+                .consume(result);
+
+        File responseFile = new File(result.get(RESPONSE_FILE));
+        try {
+            assertEquals("large", result.get(RETURN_RESULT));
+            assertEquals("14", result.get(BYTES_TRANSFERRED));
+            assertEquals("large document", new String(Files.readAllBytes(responseFile.toPath()), Consts.UTF_8));
+        } finally {
+            responseFile.delete();
+        }
+    }
+
+    @Test
+    public void consumeWithInvalidMaxInMemoryResponseSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxInMemoryResponseSize");
+
+        httpResponseConsumer.setMaxInMemoryResponseSize("0");
+    }
+
     private void setHttpResponseEntity(String contentType) {
+        setHttpResponseEntity(contentType, inputStreamMock);
+    }
+
+    private void setHttpResponseEntity(String contentType, InputStream content) {
         BasicHttpEntity entity = new BasicHttpEntity();
-        entity.setContent(inputStreamMock);
+        entity.setContent(content);
         Header contentTypeHeader = new HeaderEntity("Content-Type", contentType);
         entity.setContentType(contentTypeHeader);
         when(httpResponseMock.getEntity()).thenReturn(entity);
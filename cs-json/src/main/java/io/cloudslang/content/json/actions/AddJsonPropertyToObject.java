@@ -17,9 +17,7 @@
 
 package io.cloudslang.content.json.actions;
 
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -34,6 +32,7 @@ import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.JsonEngine;
 import io.cloudslang.content.json.utils.JsonUtils;
 import io.cloudslang.content.utils.StringUtilities;
 
@@ -90,7 +89,6 @@ public class AddJsonPropertyToObject {
             return populateResult(returnResult, new Exception("Empty jsonObject provided!"));
         }
 
-        ObjectMapper mapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
         final boolean validateValueBoolean = JsonUtils.parseBooleanWithDefault(validateValue, true);
 
         if (StringUtilities.isBlank(newPropertyValue)) {
@@ -104,7 +102,7 @@ public class AddJsonPropertyToObject {
 
         JsonNode jsonRoot;
         try {
-            jsonRoot = mapper.readTree(jsonObject);
+            jsonRoot = JsonEngine.readTree(jsonObject);
         } catch (Exception exception) {
             final String exceptionValue = "Invalid jsonObject provided! " + exception.getMessage();
             return populateResult(returnResult, exceptionValue, exception);
@@ -113,10 +111,10 @@ public class AddJsonPropertyToObject {
         ContainerNode jsonNodes = null;
         JsonNode jsonNodeValueWrapper;
         try {
-            jsonNodeValueWrapper = mapper.readTree(newPropertyValue);
+            jsonNodeValueWrapper = JsonEngine.readTree(newPropertyValue);
         } catch (IOException exception) {
             if (!validateValueBoolean) {
-                jsonNodeValueWrapper = mapper.valueToTree(newPropertyValue);
+                jsonNodeValueWrapper = JsonEngine.getNodeFactory().textNode(newPropertyValue);
             } else {
                 final String exceptionValue = "The value for the property " + newPropertyName + " it is not a valid JSON object!";
                 return populateResult(returnResult, exceptionValue, exception);
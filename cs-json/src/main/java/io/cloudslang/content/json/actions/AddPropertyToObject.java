@@ -16,8 +16,7 @@
 
 package io.cloudslang.content.json.actions;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.hp.oo.sdk.content.annotations.Action;
 import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
@@ -27,6 +26,7 @@ import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.json.entities.AddPropertyToObjectInputs;
 import io.cloudslang.content.json.services.AddPropertyToObjectImpl;
+import io.cloudslang.content.json.utils.JsonEngine;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.util.List;
@@ -46,12 +46,6 @@ import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 
 public class AddPropertyToObject {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public AddPropertyToObject() {
-        objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-    }
-
     /**
      * Inserts a new name/value property into a JSON object, where the value is a string.
      * This operation forces the value of the name/vale pair to be a string, no matter what data type it actually is.
@@ -94,7 +88,13 @@ public class AddPropertyToObject {
         newPropertyName = defaultIfEmpty(newPropertyName, EMPTY);
         newPropertyValue = defaultIfEmpty(newPropertyValue, EMPTY);
 
-        final List<String> exceptionMessages = verifyJsonObject(jsonObject, objectMapper);
+        JsonNode jsonRoot;
+        try {
+            jsonRoot = JsonEngine.readTree(jsonObject);
+        } catch (Exception exception) {
+            jsonRoot = null;
+        }
+        final List<String> exceptionMessages = verifyJsonObject(jsonObject, jsonRoot);
 
         if (!exceptionMessages.isEmpty()) {
             return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
@@ -107,7 +107,7 @@ public class AddPropertyToObject {
                     .newPropertyValue(newPropertyValue)
                     .build();
 
-            final String resultJson = AddPropertyToObjectImpl.addPropertyToObject(addPropertyToObjectInputs, objectMapper);
+            final String resultJson = AddPropertyToObjectImpl.addPropertyToObject(addPropertyToObjectInputs, jsonRoot);
 
             return getSuccessResultsMap(resultJson);
         } catch (Exception exception) {
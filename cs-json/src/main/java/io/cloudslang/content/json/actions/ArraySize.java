@@ -17,9 +17,6 @@
 
 package io.cloudslang.content.json.actions;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.hp.oo.sdk.content.annotations.Action;
 import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
@@ -30,6 +27,8 @@ import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.JsonEngine;
+import io.cloudslang.content.json.utils.JsonStreamEvaluator;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.io.IOException;
@@ -77,21 +76,19 @@ public class ArraySize {
         if (StringUtilities.isBlank(array)) {
             return populateResult(returnResult, new Exception(NOT_A_VALID_JSON_ARRAY_MESSAGE));
         }
-        JsonNode jsonNode;
+        final Integer size;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            jsonNode = mapper.readTree(array);
+            size = JsonStreamEvaluator.arraySize(array);
+            if (size == null) {
+                //not an array, but an invalid json is still reported as such
+                JsonEngine.readTree(array);
+                return populateResult(returnResult, new Exception(NOT_A_VALID_JSON_ARRAY_MESSAGE));
+            }
         } catch (IOException exception) {
             final String value = "Invalid jsonObject provided! " + exception.getMessage();
             return populateResult(returnResult, value, exception);
         }
-        final String result;
-        if (jsonNode instanceof ArrayNode) {
-            final ArrayNode asJsonArray = (ArrayNode) jsonNode;
-            result = Integer.toString(asJsonArray.size());
-        } else {
-            return populateResult(returnResult, new Exception(NOT_A_VALID_JSON_ARRAY_MESSAGE));
-        }
+        final String result = Integer.toString(size);
         return populateResult(returnResult, result, null);
     }
 }
@@ -27,6 +27,7 @@ import com.jayway.jsonpath.internal.JsonContext;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.json.services.EditJsonImpl;
 import io.cloudslang.content.json.utils.ActionsEnum;
 import io.cloudslang.content.json.utils.Constants;
 import io.cloudslang.content.json.utils.JsonUtils;
@@ -102,35 +103,11 @@ public class EditJson {
                     throw e;
                 }
             }
-            Object json = editJson(jsonPath, action, name, valueObject, jsonContext);
+            Object json = EditJsonImpl.editJson(jsonContext, jsonPath, actionEnum, name, valueObject);
             result = json.toString();
         } catch (Exception e) {
             return populateResult(returnResult, e);
         }
         return populateResult(returnResult, result, null);
     }
-
-    private Object editJson(String jsonPath, String action, String name, Object value, JsonContext jsonContext) {
-        ActionsEnum myAction = ActionsEnum.valueOf(action.toLowerCase());
-        Object json = null;
-
-        switch (myAction) {
-            case get:
-                json = jsonContext.read(jsonPath);
-                break;
-            case insert:
-                json = jsonContext.put(jsonPath, name, value).json();
-                break;
-            case add:
-                json = jsonContext.add(jsonPath, value).json();
-                break;
-            case update:
-                json = jsonContext.set(jsonPath, value).json();
-                break;
-            case delete:
-                json = jsonContext.delete(jsonPath).json();
-                break;
-        }
-        return json;
-    }
 }
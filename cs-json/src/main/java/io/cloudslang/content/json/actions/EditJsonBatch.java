@@ -0,0 +1,101 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.actions;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.jayway.jsonpath.internal.JsonContext;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.json.entities.EditJsonBatchResult;
+import io.cloudslang.content.json.services.EditJsonImpl;
+import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.Constants.OutputNames;
+import io.cloudslang.content.json.utils.JsonUtils;
+import io.cloudslang.content.utils.StringUtilities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.cloudslang.content.json.utils.JsonUtils.populateResult;
+
+public class EditJsonBatch {
+
+    /**
+     * This operation applies a list of Edit Json actions to a JSON object given in the form of a string. The JSON is
+     * parsed once, all the actions are applied to it in order and the edited json is serialized once.
+     *
+     * @param jsonObject The JSON object in a form of a string
+     * @param operations A JSON array with the actions to apply, in order. Each action is an object with the properties
+     *                   of the Edit Json operation: action, jsonPath, name and value, where value is a JSON value.
+     *                   Example: [{"action": "update", "jsonPath": "$.a", "value": 1}, {"action": "delete", "jsonPath": "$.b"}]
+     * @param atomic     If true, the first failing action fails the operation and none of the actions take effect.
+     *                   If false, the failing actions are reported and skipped, and the other ones are applied.
+     *                   Default value: true
+     * @return a map containing the output of the operation. Keys present in the map are:
+     * <p/>
+     * <br><br><b>returnResult</b> - This will contain the edited json, or the error message of the first failing
+     * action of an atomic batch
+     * <br><b>operationResults</b> - A JSON array with the result of each action, in order: its index, action, jsonPath
+     * and status (success, failure, rolledBack or skipped), the value read by a get action and the error of a failed action
+     * <br><b>exception</b> - In case of success response, this result is empty. In case of failure response,
+     * this result contains the java stack trace of the runtime exception or just the error message.
+     * <br><br><b>returnCode</b> - The returnCode of the operation: 0 for success, -1 for failure.
+     */
+    @Action(name = "Edit Json Batch",
+            outputs = {
+                    @Output(OutputNames.RETURN_RESULT),
+                    @Output(OutputNames.OPERATION_RESULTS),
+                    @Output(OutputNames.RETURN_CODE),
+                    @Output(OutputNames.EXCEPTION)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = OutputNames.RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            })
+    public Map<String, String> execute(@Param(value = Constants.InputNames.JSON_OBJECT, required = true) String jsonObject,
+                                       @Param(value = Constants.InputNames.OPERATIONS, required = true) String operations,
+                                       @Param(value = Constants.InputNames.ATOMIC) String atomic) {
+
+        Map<String, String> returnResult = new HashMap<>();
+        final boolean atomicBoolean = JsonUtils.parseBooleanWithDefault(atomic, true);
+        final JsonContext jsonContext;
+        final ArrayNode operationsArray;
+        try {
+            if (StringUtilities.isBlank(jsonObject)) {
+                throw new Exception("Empty jsonObject provided!");
+            }
+            jsonContext = JsonUtils.getValidJsonContext(jsonObject);
+            operationsArray = EditJsonImpl.getValidOperations(operations);
+        } catch (Exception e) {
+            return populateResult(returnResult, e);
+        }
+
+        final EditJsonBatchResult batchResult = EditJsonImpl.editJsonBatch(jsonContext, operationsArray, atomicBoolean);
+        returnResult.put(OutputNames.OPERATION_RESULTS, batchResult.getOperationResults().toString());
+        if (atomicBoolean && batchResult.getFirstFailure() != null) {
+            return populateResult(returnResult, batchResult.getFirstFailure());
+        }
+        return populateResult(returnResult, jsonContext.json().toString(), null);
+    }
+}
@@ -18,7 +18,6 @@
 package io.cloudslang.content.json.actions;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hp.oo.sdk.content.annotations.Action;
@@ -31,6 +30,7 @@ import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.JsonEngine;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.util.HashMap;
@@ -86,9 +86,8 @@ public class GetValueFromObject {
         }
 
         final JsonNode jsonRoot;
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            jsonRoot = objectMapper.readTree(object);
+            jsonRoot = JsonEngine.readTree(object);
         } catch (Exception exception) {
             final String value = "Invalid object provided! " + exception.getMessage();
             return populateResult(returnResult, value, exception);
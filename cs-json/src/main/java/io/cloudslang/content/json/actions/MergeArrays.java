@@ -17,9 +17,7 @@
 
 package io.cloudslang.content.json.actions;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.hp.oo.sdk.content.annotations.Action;
 import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
@@ -29,10 +27,13 @@ import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.json.services.MergeArraysImpl;
 import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.JsonEngine;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -93,35 +94,32 @@ public class MergeArrays {
             return populateResult(returnResult, new Exception(exceptionValue));
         }
 
-        JsonNode jsonNode1;
-        JsonNode jsonNode2;
-        ObjectMapper mapper = new ObjectMapper();
-        try {
-            jsonNode1 = mapper.readTree(array1);
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = JsonEngine.createGenerator(writer)) {
+            final MergeArraysImpl mergeArrays = new MergeArraysImpl(generator, null);
+            generator.writeStartArray();
+            boolean arrays;
+            try {
+                arrays = mergeArrays.append(array1);
+            } catch (IOException exception) {
+                final String value = INVALID_JSON_OBJECT_PROVIDED_EXCEPTION_MESSAGE + ARRAY1_MESSAGE + array1;
+                return populateResult(returnResult, value, exception);
+            }
+            try {
+                arrays = mergeArrays.append(array2) && arrays;
+            } catch (IOException exception) {
+                final String value = INVALID_JSON_OBJECT_PROVIDED_EXCEPTION_MESSAGE + ARRAY2_MESSAGE + array2;
+                return populateResult(returnResult, value, exception);
+            }
+            if (!arrays) {
+                final String result = NOT_A_VALID_JSON_ARRAY_MESSAGE + ARRAY1_MESSAGE + array1 + ARRAY2_MESSAGE + array2;
+                return populateResult(returnResult, new Exception(result));
+            }
+            generator.writeEndArray();
         } catch (IOException exception) {
-            final String value = INVALID_JSON_OBJECT_PROVIDED_EXCEPTION_MESSAGE + ARRAY1_MESSAGE + array1;
-            return populateResult(returnResult, value, exception);
-        }
-        try {
-            jsonNode2 = mapper.readTree(array2);
-        } catch (IOException exception) {
-            final String value = INVALID_JSON_OBJECT_PROVIDED_EXCEPTION_MESSAGE + ARRAY2_MESSAGE + array2;
-            return populateResult(returnResult, value, exception);
-        }
-
-        final String result;
-        if (jsonNode1 instanceof ArrayNode && jsonNode2 instanceof ArrayNode) {
-            final ArrayNode asJsonArray1 = (ArrayNode) jsonNode1;
-            final ArrayNode asJsonArray2 = (ArrayNode) jsonNode2;
-            final ArrayNode asJsonArrayResult = new ArrayNode(mapper.getNodeFactory());
-
-            asJsonArrayResult.addAll(asJsonArray1);
-            asJsonArrayResult.addAll(asJsonArray2);
-            result = asJsonArrayResult.toString();
-        } else {
-            result = NOT_A_VALID_JSON_ARRAY_MESSAGE + ARRAY1_MESSAGE + array1 + ARRAY2_MESSAGE + array2;
-            return populateResult(returnResult, new Exception(result));
+            return populateResult(returnResult, exception);
         }
+        final String result = writer.toString();
         return populateResult(returnResult, result, null);
     }
 }
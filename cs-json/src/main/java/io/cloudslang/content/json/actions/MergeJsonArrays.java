@@ -0,0 +1,140 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.actions;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.json.services.MergeArraysImpl;
+import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.json.utils.Constants.OutputNames;
+import io.cloudslang.content.json.utils.JsonEngine;
+import io.cloudslang.content.utils.StringUtilities;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.cloudslang.content.json.utils.JsonUtils.populateResult;
+
+public class MergeJsonArrays {
+
+    public static final String NOT_AN_ARRAY_OF_ARRAYS_MESSAGE = "The arrays input should be a JSON array of JSON arrays!";
+
+    /**
+     * This operation merges the contents of any number of JSON arrays into a single array, in order. The elements are
+     * copied without building the arrays in memory, so it can merge very large arrays.
+     *
+     * @param arrays     A JSON array holding the arrays to merge. Example: [[1, 2], [{"id": 3}], []]
+     * @param dedupKey   If not empty, an object element is left out when an element before it has the same value for
+     *                   this property. Elements that are not objects or do not have the property are always kept.
+     * @param outputFile If not empty, the merged array is written to this file instead of being returned. The file
+     *                   is only created or replaced when the merge succeeds.
+     * @return a map containing the output of the operation. Keys present in the map are:
+     * <p/>
+     * <br><br><b>returnResult</b> - This will contain the string representation of the merged JSON array, or the
+     * path of the output file when one is given.
+     * <br><b>size</b> - The number of elements of the merged array.
+     * <br><b>exception</b> - In case of success response, this result is empty. In case of failure response,
+     * this result contains the java stack trace of the runtime exception.
+     * <br><br><b>returnCode</b> - The returnCode of the operation: 0 for success, -1 for failure.
+     */
+    @Action(name = "Merge Json Arrays",
+            outputs = {
+                    @Output(OutputNames.RETURN_RESULT),
+                    @Output(OutputNames.SIZE),
+                    @Output(OutputNames.RETURN_CODE),
+                    @Output(OutputNames.EXCEPTION)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = OutputNames.RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            })
+    public Map<String, String> execute(@Param(value = Constants.InputNames.ARRAYS, required = true) String arrays,
+                                       @Param(value = Constants.InputNames.DEDUP_KEY) String dedupKey,
+                                       @Param(value = Constants.InputNames.OUTPUT_FILE) String outputFile) {
+
+        Map<String, String> returnResult = new HashMap<>();
+        if (StringUtilities.isBlank(arrays)) {
+            return populateResult(returnResult, new Exception(NOT_AN_ARRAY_OF_ARRAYS_MESSAGE));
+        }
+        final Path outputPath = StringUtilities.isBlank(outputFile) ? null : Paths.get(outputFile).toAbsolutePath();
+        Path tempPath = null;
+        try {
+            //the merged array is written next to the output file and only replaces it once it is complete
+            if (outputPath != null) {
+                tempPath = Files.createTempFile(outputPath.getParent(), outputPath.getFileName().toString(), ".tmp");
+            }
+            final Writer writer = tempPath == null ? new StringWriter() : Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8);
+            final boolean merged;
+            final int size;
+            try (final JsonGenerator generator = JsonEngine.createGenerator(writer)) {
+                final MergeArraysImpl mergeArrays = new MergeArraysImpl(generator, dedupKey);
+                generator.writeStartArray();
+                merged = mergeArrays.appendAll(arrays);
+                generator.writeEndArray();
+                size = mergeArrays.getSize();
+            }
+            if (!merged) {
+                return populateResult(returnResult, new Exception(NOT_AN_ARRAY_OF_ARRAYS_MESSAGE));
+            }
+            if (tempPath != null) {
+                moveToOutputFile(tempPath, outputPath);
+            }
+            returnResult.put(OutputNames.SIZE, Integer.toString(size));
+            return populateResult(returnResult, outputPath == null ? writer.toString() : outputFile, null);
+        } catch (IOException exception) {
+            return populateResult(returnResult, exception);
+        } finally {
+            deleteTempFile(tempPath);
+        }
+    }
+
+    private static void moveToOutputFile(final Path tempPath, final Path outputPath) throws IOException {
+        try {
+            Files.move(tempPath, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(tempPath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteTempFile(final Path tempPath) {
+        if (tempPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException ignore) {
+            //the original failure is the one reported
+        }
+    }
+}
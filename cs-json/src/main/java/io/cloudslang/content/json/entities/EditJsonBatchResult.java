@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.entities;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class EditJsonBatchResult {
+
+    private final ArrayNode operationResults;
+    private final Exception firstFailure;
+
+    public EditJsonBatchResult(@NotNull final ArrayNode operationResults, @Nullable final Exception firstFailure) {
+        this.operationResults = operationResults;
+        this.firstFailure = firstFailure;
+    }
+
+    /**
+     * @return one result per operation, in the order of the operations.
+     */
+    @NotNull
+    public ArrayNode getOperationResults() {
+        return operationResults;
+    }
+
+    /**
+     * @return the failure of the first operation that failed, or null if all of them succeeded.
+     */
+    @Nullable
+    public Exception getFirstFailure() {
+        return firstFailure;
+    }
+}
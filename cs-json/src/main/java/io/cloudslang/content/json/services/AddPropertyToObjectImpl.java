@@ -15,7 +15,6 @@
 package io.cloudslang.content.json.services;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.cloudslang.content.json.entities.AddPropertyToObjectInputs;
@@ -26,8 +25,7 @@ import static io.cloudslang.content.json.utils.Constants.AddPropertyToObject.ADD
 public class AddPropertyToObjectImpl {
 
     @NotNull
-    public static String addPropertyToObject(AddPropertyToObjectInputs addPropertyToObjectInputs, ObjectMapper objectMapper) throws Exception {
-        JsonNode jsonRoot = objectMapper.readTree(addPropertyToObjectInputs.getJsonObject());
+    public static String addPropertyToObject(AddPropertyToObjectInputs addPropertyToObjectInputs, JsonNode jsonRoot) throws Exception {
         if (!(jsonRoot instanceof ObjectNode)) {
             throw new Exception(ADD_PROPERTY_EXCEPTION);
         }
@@ -0,0 +1,151 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.internal.JsonContext;
+import io.cloudslang.content.json.entities.EditJsonBatchResult;
+import io.cloudslang.content.json.utils.ActionsEnum;
+import io.cloudslang.content.json.utils.JsonEngine;
+import io.cloudslang.content.json.utils.JsonPathCache;
+import io.cloudslang.content.json.utils.JsonUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.ERROR;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.FAILURE;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.INDEX;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.OPERATIONS_NOT_AN_ARRAY;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.RESULT;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.ROLLED_BACK;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.SKIPPED;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.STATUS;
+import static io.cloudslang.content.json.utils.Constants.EditJsonBatch.SUCCESS;
+import static io.cloudslang.content.json.utils.Constants.InputNames.ACTION;
+import static io.cloudslang.content.json.utils.Constants.InputNames.JSON_PATH;
+import static io.cloudslang.content.json.utils.Constants.InputNames.NAME;
+import static io.cloudslang.content.json.utils.Constants.InputNames.VALUE;
+
+public class EditJsonImpl {
+
+    /**
+     * Applies one action of the Edit Json operation to the parsed json.
+     *
+     * @return the value read for the get action, the edited json for all the others.
+     */
+    public static Object editJson(@NotNull final JsonContext jsonContext, @NotNull final String jsonPath,
+                                  @NotNull final ActionsEnum action, final String name, final Object value) {
+        final JsonPath path = JsonPathCache.getInstance().compile(jsonPath);
+        switch (action) {
+            case get:
+                return jsonContext.read(path);
+            case insert:
+                return jsonContext.put(path, name, value).json();
+            case add:
+                return jsonContext.add(path, value).json();
+            case update:
+                return jsonContext.set(path, value).json();
+            case delete:
+                return jsonContext.delete(path).json();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the operations, a JSON array of objects with the action, jsonPath, name and value properties.
+     * @throws Exception if the operations are not such an array.
+     */
+    @NotNull
+    public static ArrayNode getValidOperations(final String operations) throws Exception {
+        final JsonNode operationsNode;
+        try {
+            operationsNode = JsonEngine.readTree(operations);
+        } catch (IOException e) {
+            throw new Exception(OPERATIONS_NOT_AN_ARRAY, e);
+        }
+        if (!(operationsNode instanceof ArrayNode)) {
+            throw new Exception(OPERATIONS_NOT_AN_ARRAY);
+        }
+        for (final JsonNode operation : operationsNode) {
+            if (!operation.isObject()) {
+                throw new Exception(OPERATIONS_NOT_AN_ARRAY);
+            }
+        }
+        return (ArrayNode) operationsNode;
+    }
+
+    /**
+     * Applies the operations in order to the one parsed json. An atomic batch stops at the first failing operation,
+     * and the caller discards the json, so none of the operations take effect. Otherwise the failing operations are
+     * reported and the following ones are still applied.
+     */
+    @NotNull
+    public static EditJsonBatchResult editJsonBatch(@NotNull final JsonContext jsonContext, @NotNull final ArrayNode operations,
+                                                    final boolean atomic) {
+        final ArrayNode operationResults = JsonEngine.getNodeFactory().arrayNode();
+        Exception firstFailure = null;
+        for (int index = 0; index < operations.size(); index++) {
+            final JsonNode operation = operations.get(index);
+            final ObjectNode operationResult = operationResults.addObject()
+                    .put(INDEX, index)
+                    .put(ACTION, operation.path(ACTION).asText())
+                    .put(JSON_PATH, operation.path(JSON_PATH).asText());
+            if (atomic && firstFailure != null) {
+                operationResult.put(STATUS, SKIPPED);
+                continue;
+            }
+            try {
+                final Object result = applyOperation(jsonContext, operation);
+                operationResult.put(STATUS, SUCCESS);
+                if (result != null) {
+                    operationResult.set(RESULT, JsonEngine.getObjectMapper().<JsonNode>valueToTree(result));
+                }
+            } catch (Exception e) {
+                operationResult.put(STATUS, FAILURE).put(ERROR, e.getMessage());
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (atomic && firstFailure != null) {
+            for (final JsonNode operationResult : operationResults) {
+                if (SUCCESS.equals(operationResult.path(STATUS).asText())) {
+                    ((ObjectNode) operationResult).put(STATUS, ROLLED_BACK).remove(RESULT);
+                }
+            }
+        }
+        return new EditJsonBatchResult(operationResults, firstFailure);
+    }
+
+    private static Object applyOperation(final JsonContext jsonContext, final JsonNode operation) throws Exception {
+        final String jsonPath = operation.path(JSON_PATH).asText();
+        final String action = operation.path(ACTION).asText();
+        final String name = operation.path(NAME).asText();
+        final JsonNode value = operation.get(VALUE);
+        JsonUtils.validateEditJsonOperation(jsonPath, action, name, value);
+        final ActionsEnum actionEnum = ActionsEnum.valueOf(action.toLowerCase().trim());
+        final Object result = editJson(jsonContext, jsonPath, actionEnum, name, value);
+        //the other actions return the whole json, which is the returnResult of the batch
+        return actionEnum == ActionsEnum.get ? result : null;
+    }
+}
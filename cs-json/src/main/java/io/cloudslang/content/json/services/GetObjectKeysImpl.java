@@ -14,22 +14,26 @@
  */
 package io.cloudslang.content.json.services;
 
-import com.google.gson.*;
+import io.cloudslang.content.json.utils.JsonEngine;
+import io.cloudslang.content.json.utils.JsonStreamEvaluator;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 public class GetObjectKeysImpl {
 
-    public static String getObjectKeys(String jsonString) {
+    public static String getObjectKeys(String jsonString) throws IOException {
 
-        JsonObject jsonObject = new JsonParser().parse(jsonString).getAsJsonObject();
-        Set<Map.Entry<String, JsonElement>> entries = jsonObject.entrySet();
+        Set<String> keys = JsonStreamEvaluator.objectKeys(jsonString);
+        if (keys == null) {
+            //not an object, the reader reports it the same way it did before
+            keys = JsonEngine.readLenientMap(jsonString).keySet();
+        }
         List<String> keyList = new ArrayList<>();
-        for (Map.Entry<String, JsonElement> entry: entries) {
-            keyList.add("\"" + entry.getKey() + "\"");
+        for (String key : keys) {
+            keyList.add("\"" + key + "\"");
         }
 
         return keyList.toString();
@@ -18,23 +18,23 @@
 package io.cloudslang.content.json.services;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.internal.JsonContext;
-import com.jayway.jsonpath.spi.json.GsonJsonProvider;
-import com.jayway.jsonpath.spi.json.JsonProvider;
 import io.cloudslang.content.json.exceptions.RemoveEmptyElementException;
+import io.cloudslang.content.json.utils.JsonEngine;
+import io.cloudslang.content.json.utils.JsonStreamEvaluator;
 import io.cloudslang.content.json.utils.JsonUtils;
 import io.cloudslang.content.json.utils.StringUtils;
-import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.JSONStyle;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -51,10 +51,9 @@ public class JsonService {
         Map<String, Object> jsonMap;
 
         try {
-            parseJsonForInconsistencies(normalizedJson);
-            jsonMap = JsonPath.read(normalizedJson, "$");
-        } catch (com.jayway.jsonpath.InvalidJsonException | com.google.gson.JsonSyntaxException ije) {
-            throw new RemoveEmptyElementException(ije);
+            jsonMap = JsonEngine.readLenientMap(normalizedJson);
+        } catch (IOException ioe) {
+            throw new RemoveEmptyElementException(ioe);
         }
 
         removeEmptyElementsFromMap(jsonMap);
@@ -72,13 +71,6 @@ public class JsonService {
         return newJson;
     }
 
-
-    private void parseJsonForInconsistencies(String normalizedJson) {
-        JsonProvider provider = new GsonJsonProvider();
-        Configuration configuration = Configuration.builder().jsonProvider(provider).build();
-        JsonPath.parse(normalizedJson, configuration);       //throws an exception at runtime if the json is malformed
-    }
-
     /**
      * Returns the quote character used for specifying json member names and String values of json members
      *
@@ -104,11 +96,11 @@ public class JsonService {
             Object jsonElementValue = jsonElement.getValue();
             if (StringUtils.isEmpty(jsonElementValue)) {
                 jsonElementsIterator.remove();
-            } else if (jsonElementValue instanceof JSONArray) {
-                if (((JSONArray) jsonElementValue).isEmpty()) {
+            } else if (jsonElementValue instanceof List) {
+                if (((List) jsonElementValue).isEmpty()) {
                     jsonElementsIterator.remove();
                 } else {
-                    removeEmptyElementFromJsonArray((JSONArray) jsonElementValue);
+                    removeEmptyElementFromJsonArray((List) jsonElementValue);
                 }
             } else if (jsonElementValue instanceof LinkedHashMap) {
                 if (((LinkedHashMap) jsonElementValue).isEmpty()) {
@@ -120,18 +112,18 @@ public class JsonService {
         }
     }
 
-    private void removeEmptyElementFromJsonArray(JSONArray jsonArray) {
+    private void removeEmptyElementFromJsonArray(List jsonArray) {
 
         Iterator jsonArrayIterator = jsonArray.iterator();
         while (jsonArrayIterator.hasNext()) {
             Object jsonArrayElement = jsonArrayIterator.next();
             if (StringUtils.isEmpty(jsonArrayElement)) {
                 jsonArrayIterator.remove();
-            } else if (jsonArrayElement instanceof JSONArray) {
-                if (((JSONArray) jsonArrayElement).isEmpty()) {
+            } else if (jsonArrayElement instanceof List) {
+                if (((List) jsonArrayElement).isEmpty()) {
                     jsonArrayIterator.remove();
                 } else {
-                    removeEmptyElementFromJsonArray((JSONArray) jsonArrayElement);
+                    removeEmptyElementFromJsonArray((List) jsonArrayElement);
                 }
             } else if (jsonArrayElement instanceof LinkedHashMap) {
                 if (((LinkedHashMap) jsonArrayElement).isEmpty()) {
@@ -164,8 +156,18 @@ public class JsonService {
 
     @NotNull
     public static JsonNode evaluateJsonPathQuery(@Nullable final String jsonObject, @Nullable final String jsonPath) {
+        final JsonNode streamed = JsonStreamEvaluator.evaluate(jsonObject, jsonPath);
+        if (streamed != null) {
+            return streamed;
+        }
         final JsonContext jsonContext = JsonUtils.getValidJsonContext(jsonObject);
         final JsonPath path = JsonUtils.getValidJsonPath(jsonPath);
-        return jsonContext.read(path);
+        final Object result = jsonContext.read(path);
+        if (result instanceof JsonNode) {
+            return (JsonNode) result;
+        }
+        //functions like length() return plain java values
+        final JsonNode jsonNode = JsonEngine.getObjectMapper().valueToTree(result);
+        return jsonNode == null ? JsonEngine.getNodeFactory().nullNode() : jsonNode;
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.cloudslang.content.json.utils.JsonEngine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Merges JSON arrays by copying the tokens of their elements straight to a generator, so no tree of the arrays or of
+ * the result is built. Only the element being copied is held in memory, and only when it is deduplicated by a key.
+ */
+public class MergeArraysImpl {
+
+    private final JsonGenerator generator;
+    private final String dedupKey;
+    private final Set<JsonNode> seenKeys = new HashSet<>();
+    private int size;
+
+    /**
+     * @param generator the generator the merged array is written to, its start and end are written by the caller.
+     * @param dedupKey  if not empty, an object element is dropped when an element before it had the same value for
+     *                  this key. Elements that are not objects or do not have the key are always kept.
+     */
+    public MergeArraysImpl(@NotNull final JsonGenerator generator, @Nullable final String dedupKey) {
+        this.generator = generator;
+        this.dedupKey = dedupKey == null || dedupKey.isEmpty() ? null : dedupKey;
+    }
+
+    /**
+     * Appends the elements of the array.
+     *
+     * @return false if the json is not an array, in which case nothing is appended.
+     * @throws IOException if the json is not valid.
+     */
+    public boolean append(@NotNull final String array) throws IOException {
+        try (final JsonParser parser = JsonEngine.createParser(array)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                //an invalid json is reported as such rather than as not being an array
+                JsonEngine.readTree(array);
+                return false;
+            }
+            appendElements(parser);
+            return true;
+        }
+    }
+
+    /**
+     * Appends the elements of the arrays held by an outer array, like [[1, 2], [3]].
+     *
+     * @return false if the json is not an array of arrays, in which case the arrays before the first element that is
+     * not an array are appended.
+     * @throws IOException if the json is not valid.
+     */
+    public boolean appendAll(@NotNull final String arrays) throws IOException {
+        try (final JsonParser parser = JsonEngine.createParser(arrays)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                JsonEngine.readTree(arrays);
+                return false;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_ARRAY) {
+                    return false;
+                }
+                appendElements(parser);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return the number of elements appended so far.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    private void appendElements(final JsonParser parser) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (dedupKey != null && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                final JsonNode element = JsonEngine.readTree(parser);
+                final JsonNode key = element.get(dedupKey);
+                if (key == null || seenKeys.add(key)) {
+                    generator.writeTree(element);
+                    size++;
+                }
+            } else {
+                generator.copyCurrentStructure(parser);
+                size++;
+            }
+        }
+    }
+}
@@ -35,6 +35,16 @@ public final class Constants {
         public static final String NAME = "name";
         public static final String VALUE = "value";
         public static final String VALIDATE_VALUE = "validateValue";
+        public static final String OPERATIONS = "operations";
+        public static final String ATOMIC = "atomic";
+        public static final String ARRAYS = "arrays";
+        public static final String DEDUP_KEY = "dedupKey";
+        public static final String OUTPUT_FILE = "outputFile";
+    }
+
+    public static final class OutputNames extends io.cloudslang.content.constants.OutputNames {
+        public static final String OPERATION_RESULTS = "operationResults";
+        public static final String SIZE = "size";
     }
 
     static final class EditJsonOperations {
@@ -45,6 +55,18 @@ public final class Constants {
         static final String ADD_ACTION = "add";
     }
 
+    public static final class EditJsonBatch {
+        public static final String INDEX = "index";
+        public static final String STATUS = "status";
+        public static final String RESULT = "result";
+        public static final String ERROR = "error";
+        public static final String SUCCESS = "success";
+        public static final String FAILURE = "failure";
+        public static final String ROLLED_BACK = "rolledBack";
+        public static final String SKIPPED = "skipped";
+        public static final String OPERATIONS_NOT_AN_ARRAY = "The operations input should be a JSON array of objects!";
+    }
+
     public static final class AddPropertyToObject {
 
         public static final String NEW_LINE = "\n";
@@ -16,9 +16,9 @@
 package io.cloudslang.content.json.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cloudslang.content.utils.StringUtilities;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,17 +29,12 @@ import static io.cloudslang.content.json.utils.Constants.AddPropertyToObject.JSO
 public class InputsValidation {
 
     @NotNull
-    public static List<String> verifyJsonObject(@NotNull final String jsonObject, @NotNull ObjectMapper objectMapper) {
+    public static List<String> verifyJsonObject(@Nullable final String jsonObject, @Nullable final JsonNode jsonRoot) {
         final List<String> exceptionMessages = new ArrayList<>();
         if (StringUtilities.isBlank(jsonObject)) {
             exceptionMessages.add(EMPTY_JSON);
         }
-        try {
-            JsonNode jsonRoot = objectMapper.readTree(jsonObject);
-            if (jsonRoot == null || !(jsonRoot.isContainerNode() && jsonRoot.isObject())) {
-                throw new Exception();
-            }
-        } catch (Exception exception) {
+        if (jsonRoot == null || !(jsonRoot.isContainerNode() && jsonRoot.isObject())) {
             exceptionMessages.add(JSON_EXCEPTION);
         }
         return exceptionMessages;
@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The JSON parsing shared by all the cs-json actions: one Jackson mapper accepting single quoted names and values,
+ * and one JsonPath configuration working on its trees. Both are thread safe once built, so they are built once
+ * instead of on every call.
+ */
+public final class JsonEngine {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+    private static final ObjectReader READER = OBJECT_MAPPER.reader();
+    //accepts the unquoted names that the Gson and json-smart parsers accepted too
+    private static final ObjectReader LENIENT_MAP_READER = READER
+            .with(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .forType(LinkedHashMap.class);
+    private static final Configuration JSON_PATH_CONFIGURATION = Configuration.defaultConfiguration()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(OBJECT_MAPPER));
+
+    private JsonEngine() {
+    }
+
+    /**
+     * @return the shared mapper, it must not be configured any further.
+     */
+    @NotNull
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    @NotNull
+    public static JsonNodeFactory getNodeFactory() {
+        return OBJECT_MAPPER.getNodeFactory();
+    }
+
+    @NotNull
+    public static Configuration getJsonPathConfiguration() {
+        return JSON_PATH_CONFIGURATION;
+    }
+
+    /**
+     * @return a token stream over the json, to be closed by the caller.
+     */
+    @NotNull
+    public static JsonParser createParser(final String json) throws IOException {
+        return OBJECT_MAPPER.getFactory().createParser(json);
+    }
+
+    /**
+     * @return a compact json writer over the writer, to be closed by the caller.
+     */
+    @NotNull
+    public static JsonGenerator createGenerator(final Writer writer) throws IOException {
+        return OBJECT_MAPPER.getFactory().createGenerator(writer);
+    }
+
+    public static JsonNode readTree(final String json) throws IOException {
+        return READER.readTree(json);
+    }
+
+    /**
+     * Reads the value the parser is positioned on as a tree.
+     */
+    @NotNull
+    public static JsonNode readTree(final JsonParser parser) throws IOException {
+        final JsonNode jsonNode = READER.readTree(parser);
+        return jsonNode == null ? getNodeFactory().nullNode() : jsonNode;
+    }
+
+    /**
+     * Reads a JSON object as maps and lists, accepting unquoted names.
+     */
+    public static Map<String, Object> readLenientMap(final String json) throws IOException {
+        return LENIENT_MAP_READER.readValue(json);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.jayway.jsonpath.JsonPath;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process wide cache of compiled json paths, evicting the least recently used path once it is full. Flows evaluate
+ * the same few paths over and over, and a compiled path is immutable, so it can be shared by all the actions.
+ */
+public final class JsonPathCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private static final JsonPathCache INSTANCE = new JsonPathCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Map<String, JsonPath> paths;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    JsonPathCache(final int maximumSize) {
+        this.paths = new LinkedHashMap<String, JsonPath>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, JsonPath> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @NotNull
+    public static JsonPathCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the compiled path, compiling it only if it is not cached yet.
+     * @throws IllegalArgumentException if the path is empty or not a valid json path, like JsonPath.compile does.
+     */
+    @NotNull
+    public JsonPath compile(final String jsonPath) {
+        JsonPath path;
+        synchronized (paths) {
+            path = paths.get(jsonPath);
+        }
+        if (path != null) {
+            hits.incrementAndGet();
+            return path;
+        }
+        misses.incrementAndGet();
+        //compiled outside the lock, two threads missing the same path at once just compile it twice
+        path = JsonPath.compile(jsonPath);
+        synchronized (paths) {
+            paths.put(jsonPath, path);
+        }
+        return path;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the share of the lookups answered from the cache, between 0 and 1.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.get();
+        final long lookups = hitCount + misses.get();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    public int size() {
+        synchronized (paths) {
+            return paths.size();
+        }
+    }
+
+    /**
+     * Removes all the paths and resets the counters.
+     */
+    public void clear() {
+        synchronized (paths) {
+            paths.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Answers array sizes, key listings and definite JsonPath queries on the token stream of a JSON, without building
+ * the tree of the whole document. The siblings of the path are skipped, so the memory used does not grow with the
+ * size of the document. The rest of the document is still read after the target, so an invalid json is reported the
+ * same way it is when the tree is built.
+ * <p>
+ * A null result means the question can not be answered this way, and the caller should evaluate it on the tree.
+ */
+public final class JsonStreamEvaluator {
+
+    private static final String LENGTH_FUNCTION = ".length()";
+
+    private JsonStreamEvaluator() {
+    }
+
+    /**
+     * @return the number of elements of the root array, or null if the root is not an array.
+     * @throws IOException if the array is not valid json.
+     */
+    @Nullable
+    public static Integer arraySize(@NotNull final String json) throws IOException {
+        try (final JsonParser parser = JsonEngine.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return null;
+            }
+            return countElements(parser);
+        }
+    }
+
+    /**
+     * @return the distinct names of the root object in the order they appear, or null if the root is not an object.
+     * @throws IOException if the object is not valid json.
+     */
+    @Nullable
+    public static Set<String> objectKeys(@NotNull final String json) throws IOException {
+        try (final JsonParser parser = JsonEngine.createParser(json)) {
+            parser.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            final Set<String> keys = new LinkedHashSet<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                keys.add(parser.getCurrentName());
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Evaluates a definite path, made only of names, non negative indexes and an optional trailing length().
+     * Duplicate names are left to the tree, where the last one wins.
+     *
+     * @return the value found, or null if the path is not definite, is not found, the json has duplicate names or
+     * is not valid.
+     */
+    @Nullable
+    public static JsonNode evaluate(@Nullable final String json, @Nullable final String jsonPath) {
+        if (json == null || jsonPath == null) {
+            return null;
+        }
+        final DefinitePath path = DefinitePath.compile(jsonPath);
+        if (path == null) {
+            return null;
+        }
+        try (final JsonParser parser = JsonEngine.createParser(json)) {
+            parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            for (final Object segment : path.segments) {
+                if (segment instanceof String) {
+                    token = moveToField(parser, token, (String) segment);
+                } else {
+                    token = moveToElement(parser, token, (Integer) segment);
+                }
+                if (token == null) {
+                    return null;
+                }
+            }
+            final JsonNode result;
+            if (!path.length) {
+                result = JsonEngine.readTree(parser);
+            } else if (token == JsonToken.START_ARRAY) {
+                result = JsonEngine.getNodeFactory().numberNode(countElements(parser));
+            } else {
+                return null;
+            }
+            return skipToEnd(parser) ? result : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the tokens left after the target, which fails on invalid json and on duplicate names.
+     *
+     * @return false if there is more than one root value.
+     */
+    private static boolean skipToEnd(final JsonParser parser) throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            if (parser.nextToken() == null) {
+                return false;
+            }
+        }
+        return parser.nextToken() == null;
+    }
+
+    @Nullable
+    private static JsonToken moveToField(final JsonParser parser, final JsonToken token, final String name) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final boolean found = name.equals(parser.getCurrentName());
+            final JsonToken value = parser.nextToken();
+            if (found) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static JsonToken moveToElement(final JsonParser parser, final JsonToken token, final int index) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            return null;
+        }
+        for (int i = 0; i < index; i++) {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return null;
+            }
+            parser.skipChildren();
+        }
+        final JsonToken value = parser.nextToken();
+        return value == JsonToken.END_ARRAY ? null : value;
+    }
+
+    private static int countElements(final JsonParser parser) throws IOException {
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * The names and indexes of a path in dot or bracket notation, like $.store.book[0]['title'].
+     */
+    static final class DefinitePath {
+
+        private final List<Object> segments;
+        private final boolean length;
+
+        private DefinitePath(final List<Object> segments, final boolean length) {
+            this.segments = segments;
+            this.length = length;
+        }
+
+        /**
+         * @return the path, or null if it has wildcards, deep scans, filters, slices or functions other than length().
+         */
+        @Nullable
+        static DefinitePath compile(@NotNull final String jsonPath) {
+            String path = jsonPath.trim();
+            if (!path.startsWith("$")) {
+                return null;
+            }
+            final boolean length = path.endsWith(LENGTH_FUNCTION);
+            if (length) {
+                path = path.substring(0, path.length() - LENGTH_FUNCTION.length());
+            }
+            final List<Object> segments = new ArrayList<>();
+            int position = 1;
+            while (position < path.length()) {
+                final int end;
+                if (path.charAt(position) == '.') {
+                    end = nameEnd(path, position + 1);
+                    if (end == position + 1) {
+                        return null;
+                    }
+                    segments.add(path.substring(position + 1, end));
+                } else if (path.charAt(position) == '[') {
+                    end = path.indexOf(']', position);
+                    if (end < 0) {
+                        return null;
+                    }
+                    final Object segment = bracketSegment(path.substring(position + 1, end));
+                    if (segment == null) {
+                        return null;
+                    }
+                    segments.add(segment);
+                } else {
+                    return null;
+                }
+                position = path.charAt(position) == '[' ? end + 1 : end;
+            }
+            return new DefinitePath(Collections.unmodifiableList(segments), length);
+        }
+
+        private static int nameEnd(final String path, final int start) {
+            int position = start;
+            while (position < path.length() && isNameCharacter(path.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+
+        private static boolean isNameCharacter(final char character) {
+            return Character.isLetterOrDigit(character) || character == '_' || character == '-';
+        }
+
+        @Nullable
+        private static Object bracketSegment(final String segment) {
+            if (segment.length() >= 2) {
+                final char quote = segment.charAt(0);
+                if ((quote == '\'' || quote == '"') && segment.charAt(segment.length() - 1) == quote) {
+                    final String name = segment.substring(1, segment.length() - 1);
+                    return name.isEmpty() || name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\\') >= 0 ? null : name;
+                }
+            }
+            if (segment.isEmpty() || segment.length() > 9) {
+                return null;
+            }
+            for (int i = 0; i < segment.length(); i++) {
+                if (segment.charAt(i) < '0' || segment.charAt(i) > '9') {
+                    return null;
+                }
+            }
+            return Integer.valueOf(segment);
+        }
+    }
+}
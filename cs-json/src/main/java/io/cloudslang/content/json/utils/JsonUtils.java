@@ -17,13 +17,8 @@
 
 package io.cloudslang.content.json.utils;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.internal.JsonContext;
-import com.jayway.jsonpath.spi.json.AbstractJsonProvider;
-import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import io.cloudslang.content.constants.OtherValues;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ReturnCodes;
@@ -65,6 +60,10 @@ public class JsonUtils {
         if (StringUtilities.isBlank(jsonObject)) {
             throw new Exception("Empty jsonObject provided!");
         }
+        validateEditJsonOperation(jsonPath, action, name, value);
+    }
+
+    public static void validateEditJsonOperation(String jsonPath, String action, String name, Object value) throws Exception {
         if (StringUtilities.isBlank(jsonPath)) {
             throw new Exception("Empty jsonPath provided!");
         }
@@ -96,7 +95,7 @@ public class JsonUtils {
         checkForNullValue(actionString, value);
     }
 
-    private static void checkForNullValue(String actionString, String value) throws Exception {
+    private static void checkForNullValue(String actionString, Object value) throws Exception {
         final ActionsEnum actionEnum = ActionsEnum.valueOf(actionString);
         if (actionEnum.getNeedValue()) {
             if (value == null) {
@@ -107,7 +106,7 @@ public class JsonUtils {
 
     public static JsonPath getValidJsonPath(final String jsonPath) {
         try {
-            return JsonPath.compile(jsonPath);
+            return JsonPathCache.getInstance().compile(jsonPath);
         } catch (IllegalArgumentException iae) {
             throw hammerIllegalArgumentExceptionWithMessage(INVALID_JSONPATH, iae);
         }
@@ -116,11 +115,7 @@ public class JsonUtils {
     @NotNull
     public static JsonContext getValidJsonContext(final String jsonObject) {
         try {
-            final ObjectMapper objectMapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-            final AbstractJsonProvider provider = new JacksonJsonNodeJsonProvider(objectMapper);
-            final Configuration configuration = Configuration.defaultConfiguration()
-                    .jsonProvider(provider);
-            final JsonContext jsonContext = new JsonContext(configuration);
+            final JsonContext jsonContext = new JsonContext(JsonEngine.getJsonPathConfiguration());
             jsonContext.parse(jsonObject);
             return jsonContext;
         } catch (IllegalArgumentException iae) {
@@ -0,0 +1,89 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.actions;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class EditJsonBatchTest {
+
+    private static final String RETURN_RESULT = "returnResult";
+    private static final String RETURN_CODE = "returnCode";
+    private static final String OPERATION_RESULTS = "operationResults";
+    private static final String JSON = "{\"store\":{\"book\":[{\"title\":\"Moby Dick\",\"price\":8.99}],\"bicycle\":{\"color\":\"red\"}}}";
+
+    private EditJsonBatch editJsonBatch = new EditJsonBatch();
+
+    @Test
+    public void allOperationsAppliedInOrder() {
+        final String operations = "[{\"action\": \"insert\", \"jsonPath\": \"$.store.bicycle\", \"name\": \"price\", \"value\": 19.95}," +
+                "{\"action\": \"add\", \"jsonPath\": \"$.store.book\", \"value\": {\"title\": \"Sword of Honour\"}}," +
+                "{\"action\": \"update\", \"jsonPath\": \"$.store.book[0].price\", \"value\": \"9.99\"}," +
+                "{\"action\": \"delete\", \"jsonPath\": \"$.store.bicycle.color\"}," +
+                "{\"action\": \"get\", \"jsonPath\": \"$.store.book[1].title\"}]";
+        final Map<String, String> result = editJsonBatch.execute(JSON, operations, null);
+        assertEquals("0", result.get(RETURN_CODE));
+        assertEquals("{\"store\":{\"book\":[{\"title\":\"Moby Dick\",\"price\":\"9.99\"},{\"title\":\"Sword of Honour\"}]," +
+                "\"bicycle\":{\"price\":19.95}}}", result.get(RETURN_RESULT));
+        assertEquals("[{\"index\":0,\"action\":\"insert\",\"jsonPath\":\"$.store.bicycle\",\"status\":\"success\"}," +
+                "{\"index\":1,\"action\":\"add\",\"jsonPath\":\"$.store.book\",\"status\":\"success\"}," +
+                "{\"index\":2,\"action\":\"update\",\"jsonPath\":\"$.store.book[0].price\",\"status\":\"success\"}," +
+                "{\"index\":3,\"action\":\"delete\",\"jsonPath\":\"$.store.bicycle.color\",\"status\":\"success\"}," +
+                "{\"index\":4,\"action\":\"get\",\"jsonPath\":\"$.store.book[1].title\",\"status\":\"success\",\"result\":\"Sword of Honour\"}]",
+                result.get(OPERATION_RESULTS));
+    }
+
+    @Test
+    public void atomicBatchRollsBackOnFailure() {
+        final String operations = "[{\"action\": \"update\", \"jsonPath\": \"$.store.bicycle.color\", \"value\": \"blue\"}," +
+                "{\"action\": \"insert\", \"jsonPath\": \"$.store.bicycle\", \"value\": 1}," +
+                "{\"action\": \"delete\", \"jsonPath\": \"$.store.book\"}]";
+        final Map<String, String> result = editJsonBatch.execute(JSON, operations, "true");
+        assertEquals("-1", result.get(RETURN_CODE));
+        assertEquals("Empty name provided for insert action!", result.get(RETURN_RESULT));
+        assertEquals("[{\"index\":0,\"action\":\"update\",\"jsonPath\":\"$.store.bicycle.color\",\"status\":\"rolledBack\"}," +
+                "{\"index\":1,\"action\":\"insert\",\"jsonPath\":\"$.store.bicycle\",\"status\":\"failure\",\"error\":\"Empty name provided for insert action!\"}," +
+                "{\"index\":2,\"action\":\"delete\",\"jsonPath\":\"$.store.book\",\"status\":\"skipped\"}]",
+                result.get(OPERATION_RESULTS));
+    }
+
+    @Test
+    public void nonAtomicBatchSkipsFailedOperations() {
+        final String operations = "[{\"action\": \"update\", \"jsonPath\": \"$.store.bicycle.color\", \"value\": \"blue\"}," +
+                "{\"action\": \"rename\", \"jsonPath\": \"$.store\"}," +
+                "{\"action\": \"delete\", \"jsonPath\": \"$.store.book\"}]";
+        final Map<String, String> result = editJsonBatch.execute(JSON, operations, "false");
+        assertEquals("0", result.get(RETURN_CODE));
+        assertEquals("{\"store\":{\"bicycle\":{\"color\":\"blue\"}}}", result.get(RETURN_RESULT));
+        assertEquals("[{\"index\":0,\"action\":\"update\",\"jsonPath\":\"$.store.bicycle.color\",\"status\":\"success\"}," +
+                "{\"index\":1,\"action\":\"rename\",\"jsonPath\":\"$.store\",\"status\":\"failure\"," +
+                "\"error\":\"Invalid action provided! Action should be one of the values: get insert add update delete \"}," +
+                "{\"index\":2,\"action\":\"delete\",\"jsonPath\":\"$.store.book\",\"status\":\"success\"}]",
+                result.get(OPERATION_RESULTS));
+    }
+
+    @Test
+    public void invalidOperations() {
+        final Map<String, String> result = editJsonBatch.execute(JSON, "{\"action\": \"get\"}", null);
+        assertEquals("-1", result.get(RETURN_CODE));
+        assertEquals("The operations input should be a JSON array of objects!", result.get(RETURN_RESULT));
+    }
+}
@@ -79,4 +79,53 @@ public class JsonPathQueryTest {
         assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
         assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "[{\"title\":\"Sayings of the Century\",\"price\":8.95},{\"title\":\"Moby Dick\",\"price\":8.99}]");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void executeDefiniteJsonPath() {
+        final Map<String, String> resultMap = jsonPathQuery.execute(BOOKSTORE_JSON, "$.store.book[1]['title']");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "\"Sword of Honour\"");
+    }
+
+    @Test
+    public void executeArrayLength() {
+        final Map<String, String> resultMap = jsonPathQuery.execute(BOOKSTORE_JSON, "$.store.book.length()");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "4");
+    }
+
+    @Test
+    public void executeObjectLength() {
+        final Map<String, String> resultMap = jsonPathQuery.execute(BOOKSTORE_JSON, "$.store.book[0].length()");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "2");
+    }
+
+    @Test
+    public void executeDefiniteJsonPathOutOfRange() {
+        final Map<String, String> resultMap = jsonPathQuery.execute(BOOKSTORE_JSON, "$.store.book[7]");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "null");
+    }
+
+    @Test
+    public void executeDefiniteJsonPathNotFound() {
+        final Map<String, String> resultMap = jsonPathQuery.execute(BOOKSTORE_JSON, "$.store.bicycle");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.FAILURE);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "No results for path: $['store']['bicycle']");
+    }
+
+    @Test
+    public void executeDefiniteJsonPathOnTruncatedJson() {
+        final Map<String, String> resultMap = jsonPathQuery.execute("{\"a\":1, oops", "$.a");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.FAILURE);
+        assertNotNull(resultMap.get(OutputNames.EXCEPTION));
+    }
+
+    @Test
+    public void executeDefiniteJsonPathWithDuplicateNames() {
+        final Map<String, String> resultMap = jsonPathQuery.execute("{\"a\":1,\"a\":2}", "$.a");
+        assertEquals(resultMap.get(OutputNames.RETURN_CODE), ReturnCodes.SUCCESS);
+        assertEquals(resultMap.get(OutputNames.RETURN_RESULT), "2");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.actions;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.EXCEPTION;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MergeJsonArraysTest {
+
+    private static final String SIZE = "size";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MergeJsonArrays mergeJsonArrays = new MergeJsonArrays();
+
+    @Test
+    public void mergeManyArrays() {
+        final Map<String, String> returnResult = mergeJsonArrays.execute("[[1, 2], [], ['three', {'four': [4]}], [null, true]]", null, null);
+        assertEquals("[1,2,\"three\",{\"four\":[4]},null,true]", returnResult.get(RETURN_RESULT));
+        assertEquals("6", returnResult.get(SIZE));
+        assertEquals("0", returnResult.get(RETURN_CODE));
+    }
+
+    @Test
+    public void mergeWithDedupKey() {
+        final String arrays = "[[{\"id\": 1, \"v\": \"a\"}, {\"id\": 2}], [{\"id\": 1, \"v\": \"b\"}, {\"id\": \"1\"}, {\"name\": 3}, 1, 1]]";
+        final Map<String, String> returnResult = mergeJsonArrays.execute(arrays, "id", null);
+        assertEquals("[{\"id\":1,\"v\":\"a\"},{\"id\":2},{\"id\":\"1\"},{\"name\":3},1,1]", returnResult.get(RETURN_RESULT));
+        assertEquals("6", returnResult.get(SIZE));
+    }
+
+    @Test
+    public void mergeToFile() throws Exception {
+        final File outputFile = new File(folder.getRoot(), "merged.json");
+        final Map<String, String> returnResult = mergeJsonArrays.execute("[[1], [2, 3]]", "", outputFile.getAbsolutePath());
+        assertEquals("0", returnResult.get(RETURN_CODE));
+        assertEquals(outputFile.getAbsolutePath(), returnResult.get(RETURN_RESULT));
+        assertEquals("3", returnResult.get(SIZE));
+        assertEquals("[1,2,3]", new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void notAnArrayOfArrays() {
+        final File outputFile = new File(folder.getRoot(), "merged.json");
+        final Map<String, String> returnResult = mergeJsonArrays.execute("[[1], 2]", null, outputFile.getAbsolutePath());
+        assertEquals("-1", returnResult.get(RETURN_CODE));
+        assertEquals(MergeJsonArrays.NOT_AN_ARRAY_OF_ARRAYS_MESSAGE, returnResult.get(RETURN_RESULT));
+        assertFalse(outputFile.exists());
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void failedMergeKeepsTheExistingOutputFile() throws Exception {
+        final File outputFile = folder.newFile("merged.json");
+        Files.write(outputFile.toPath(), "[0]".getBytes(StandardCharsets.UTF_8));
+        final Map<String, String> returnResult = mergeJsonArrays.execute("[[1], [dfgs]]", null, outputFile.getAbsolutePath());
+        assertEquals("-1", returnResult.get(RETURN_CODE));
+        assertEquals("[0]", new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void invalidArrays() {
+        final Map<String, String> returnResult = mergeJsonArrays.execute("[[1], [dfgs]]", null, null);
+        assertEquals("-1", returnResult.get(RETURN_CODE));
+        assertTrue(returnResult.get(EXCEPTION).toLowerCase().startsWith("unrecognized token 'dfgs'"));
+    }
+}
@@ -193,6 +193,15 @@ public class JsonServiceTest {
         actualJsonStringOutput = jsonServiceUnderTest.removeEmptyElementsJson(jsonStringInput);
     }
 
+    @Test
+    public void givenUnquotedNamesAndNestedArraysThenSuccessfullyRemoveEmpty() throws RemoveEmptyElementException {
+        jsonStringInput = "{removed1: '', expected: [[], ['value', null, {}], 1.5]}";
+        expectedJsonStringOutput = "{'expected':[['value'],1.5]}";
+        actualJsonStringOutput = jsonServiceUnderTest.removeEmptyElementsJson(jsonStringInput);
+
+        assertEquals(expectedJsonStringOutput, actualJsonStringOutput);
+    }
+
     @Test
     public void givenJsonWithEmptyElementsThenReturnEmptyJsonString() throws RemoveEmptyElementException {
         jsonStringInput = "{'remove1': '','remove2': ''}";
@@ -0,0 +1,115 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.internal.JsonContext;
+import com.jayway.jsonpath.spi.json.GsonJsonProvider;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing with a mapper and a JsonPath configuration built on every call, as the actions did, with the
+ * shared JsonEngine.
+ * <p>
+ * It is not a unit test, run it with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.cloudslang.content.json.utils.JsonEngineBenchmark -Dexec.args="[seconds]"
+ */
+public class JsonEngineBenchmark {
+
+    private static final String JSON = "{'store': {'book': [" +
+            "{'category': 'reference', 'author': 'Nigel Rees', 'title': 'Sayings of the Century', 'price': 8.95}," +
+            "{'category': 'fiction', 'author': 'Evelyn Waugh', 'title': 'Sword of Honour', 'price': 12.99}," +
+            "{'category': 'fiction', 'author': 'Herman Melville', 'title': 'Moby Dick', 'price': 8.99}]," +
+            "'bicycle': {'color': 'red', 'price': 19.95}}, 'expensive': 10}";
+
+    private interface Parse {
+        Object run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 3;
+
+        run("readTree, new mapper per call", seconds, new Parse() {
+            @Override
+            public Object run() throws Exception {
+                return new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true).readTree(JSON);
+            }
+        });
+        run("readTree, shared engine", seconds, new Parse() {
+            @Override
+            public Object run() throws Exception {
+                return JsonEngine.readTree(JSON);
+            }
+        });
+        run("JsonPath context, new configuration per call", seconds, new Parse() {
+            @Override
+            public Object run() {
+                final ObjectMapper objectMapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+                final Configuration configuration = Configuration.defaultConfiguration()
+                        .jsonProvider(new JacksonJsonNodeJsonProvider(objectMapper));
+                return new JsonContext(configuration).parse(JSON);
+            }
+        });
+        run("JsonPath context, shared engine", seconds, new Parse() {
+            @Override
+            public Object run() {
+                return JsonUtils.getValidJsonContext(JSON);
+            }
+        });
+        run("remove empty parse, Gson check and json-smart read", seconds, new Parse() {
+            @Override
+            public Object run() {
+                JsonPath.parse(JSON, Configuration.builder().jsonProvider(new GsonJsonProvider()).build());
+                return JsonPath.read(JSON, "$");
+            }
+        });
+        run("remove empty parse, shared engine", seconds, new Parse() {
+            @Override
+            public Object run() throws Exception {
+                return JsonEngine.readLenientMap(JSON);
+            }
+        });
+    }
+
+    private static void run(String name, long seconds, Parse parse) throws Exception {
+        //warm up for as long as the measurement
+        measure(parse, seconds);
+        final long parses = measure(parse, seconds);
+        System.out.println(String.format("%-52s %,12d parses/s", name, parses / seconds));
+    }
+
+    private static long measure(Parse parse, long seconds) throws Exception {
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long parses = 0;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < 100; i++) {
+                if (parse.run() == null) {
+                    throw new IllegalStateException();
+                }
+            }
+            parses += 100;
+        }
+        return parses;
+    }
+}
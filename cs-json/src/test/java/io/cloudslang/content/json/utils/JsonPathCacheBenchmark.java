@@ -0,0 +1,84 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.jayway.jsonpath.JsonPath;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares compiling typical filter expressions on every call with taking them from the JsonPathCache.
+ * <p>
+ * It is not a unit test, run it with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.cloudslang.content.json.utils.JsonPathCacheBenchmark -Dexec.args="[seconds]"
+ */
+public class JsonPathCacheBenchmark {
+
+    private static final String[] PATHS = {
+            "$.store.book[?(@.price < 10)].title",
+            "$..book[?(@.isbn)]",
+            "$.items[?(@.status == 'ACTIVE' && @.size > 100)].id",
+            "$.data.results[?(@.name =~ /.*prod.*/i)]['id', 'name']",
+            "$.store.book[0].author"
+    };
+
+    private interface Compile {
+        JsonPath run(String jsonPath);
+    }
+
+    public static void main(String[] args) {
+        final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 3;
+
+        run("JsonPath.compile per call", seconds, new Compile() {
+            @Override
+            public JsonPath run(String jsonPath) {
+                return JsonPath.compile(jsonPath);
+            }
+        });
+        final JsonPathCache cache = JsonPathCache.getInstance();
+        run("JsonPathCache", seconds, new Compile() {
+            @Override
+            public JsonPath run(String jsonPath) {
+                return cache.compile(jsonPath);
+            }
+        });
+        System.out.println(String.format("hit rate %.6f", cache.getHitRate()));
+    }
+
+    private static void run(String name, long seconds, Compile compile) {
+        //warm up for as long as the measurement
+        measure(compile, seconds);
+        final long compiles = measure(compile, seconds);
+        System.out.println(String.format("%-28s %,12d paths/s", name, compiles / seconds));
+    }
+
+    private static long measure(Compile compile, long seconds) {
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long compiles = 0;
+        while (System.nanoTime() < end) {
+            for (String jsonPath : PATHS) {
+                if (compile.run(jsonPath) == null) {
+                    throw new IllegalStateException();
+                }
+            }
+            compiles += PATHS.length;
+        }
+        return compiles;
+    }
+}
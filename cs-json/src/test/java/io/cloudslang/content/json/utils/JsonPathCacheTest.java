@@ -0,0 +1,74 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class JsonPathCacheTest {
+
+    @Test
+    public void compiledPathIsReused() {
+        final JsonPathCache cache = new JsonPathCache(4);
+        final JsonPath path = cache.compile("$.store.book[?(@.price < 10)].title");
+        assertSame(path, cache.compile("$.store.book[?(@.price < 10)].title"));
+        assertSame(path, cache.compile("$.store.book[?(@.price < 10)].title"));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void leastRecentlyUsedPathIsEvicted() {
+        final JsonPathCache cache = new JsonPathCache(2);
+        final JsonPath first = cache.compile("$.a");
+        final JsonPath second = cache.compile("$.b");
+        cache.compile("$.a");
+        cache.compile("$.c");
+        assertEquals(2, cache.size());
+        assertSame(first, cache.compile("$.a"));
+        assertNotSame(second, cache.compile("$.b"));
+    }
+
+    @Test
+    public void clearResetsTheCounters() {
+        final JsonPathCache cache = new JsonPathCache(2);
+        cache.compile("$.a");
+        cache.compile("$.a");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHitRate(), 0);
+    }
+
+    @Test(expected = InvalidPathException.class)
+    public void invalidPathIsNotCached() {
+        final JsonPathCache cache = new JsonPathCache(2);
+        try {
+            cache.compile("$.store..");
+        } finally {
+            assertEquals(0, cache.size());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.json.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class JsonStreamEvaluatorTest {
+
+    private static final String JSON = "{'items': [{'id': 1, 'tags': ['a', 'b']}, {'id': 2}, null], 'next': 'x', 'count': 3}";
+
+    @Test
+    public void arraySizeSkipsNestedValues() throws Exception {
+        assertEquals(Integer.valueOf(3), JsonStreamEvaluator.arraySize("[[1, [2, 3]], {'a': [4]}, 'b']"));
+        assertEquals(Integer.valueOf(0), JsonStreamEvaluator.arraySize(" [ ] "));
+        assertNull(JsonStreamEvaluator.arraySize(JSON));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void arraySizeOfInvalidArray() throws Exception {
+        JsonStreamEvaluator.arraySize("[1, {'a' 2}]");
+    }
+
+    @Test
+    public void objectKeysInOrderWithoutDuplicates() throws Exception {
+        assertEquals(new LinkedHashSet<>(Arrays.asList("b", "a", "c")), JsonStreamEvaluator.objectKeys("{b: 1, 'a': {c: 2}, \"c\": [3], b: 4}"));
+        assertNull(JsonStreamEvaluator.objectKeys("[1]"));
+    }
+
+    @Test
+    public void evaluateDefinitePaths() {
+        assertEquals("[\"a\",\"b\"]", JsonStreamEvaluator.evaluate(JSON, "$.items[0].tags").toString());
+        assertEquals("\"b\"", JsonStreamEvaluator.evaluate(JSON, "$['items'][0][\"tags\"][1]").toString());
+        assertEquals("3", JsonStreamEvaluator.evaluate(JSON, "$.count").toString());
+        assertEquals("3", JsonStreamEvaluator.evaluate(JSON, "$.items.length()").toString());
+        assertEquals("null", JsonStreamEvaluator.evaluate(JSON, "$.items[2]").toString());
+    }
+
+    @Test
+    public void evaluateReadsTheWholeDocument() {
+        assertNull(JsonStreamEvaluator.evaluate("{'a': 1, 'b': [not json", "$.a"));
+        assertNull(JsonStreamEvaluator.evaluate("{\"a\":1, oops", "$.a"));
+        assertNull(JsonStreamEvaluator.evaluate("{'a': [1, 2], 'b': ", "$.a.length()"));
+        assertNull(JsonStreamEvaluator.evaluate("{'a': 1} {'a': 2}", "$.a"));
+    }
+
+    @Test
+    public void evaluateLeavesDuplicateNamesToTheTree() {
+        assertNull(JsonStreamEvaluator.evaluate("{\"a\":1,\"a\":2}", "$.a"));
+        assertNull(JsonStreamEvaluator.evaluate("{'a': {'b': 1}, 'c': {'d': 1, 'd': 2}}", "$.a.b"));
+    }
+
+    @Test
+    public void evaluateLeavesTheRestToTheTree() {
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.items[?(@.id > 1)]"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$..id"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.items[*].id"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.items[0:1]"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.items[-1]"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.missing"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.items[3]"));
+        assertNull(JsonStreamEvaluator.evaluate(JSON, "$.next.length()"));
+        assertNull(JsonStreamEvaluator.evaluate("{'a': ", "$.a"));
+    }
+}
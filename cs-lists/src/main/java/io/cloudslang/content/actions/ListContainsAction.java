@@ -82,8 +82,8 @@ public class ListContainsAction {
         Map<String, String> result = new HashMap<>();
         try {
             delimiter = InputsUtils.getInputDefaultValue(delimiter, Constants.DEFAULT_DELIMITER);
-            String[] subArray = sublist.split(delimiter);
-            String[] containerArray = container.split(delimiter);
+            String[] subArray = ListProcessor.toArray(sublist, delimiter);
+            String[] containerArray = ListProcessor.toArray(container, delimiter);
             String[] uncontainedArray = ListProcessor.getUncontainedArray(subArray, containerArray, InputsUtils.toBoolean(ignoreCase, true, IGNORE_CASE));
 
             if (ListProcessor.arrayElementsAreNull(uncontainedArray)) {
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import io.cloudslang.content.utils.Constants;
+import io.cloudslang.content.utils.InputsUtils;
+import io.cloudslang.content.utils.ListProcessor;
+import io.cloudslang.content.utils.ListSetOperations;
+import io.cloudslang.content.utils.ListSetOperations.Element;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.utils.Constants.EMPTY_STRING;
+import static io.cloudslang.content.utils.Constants.OutputNames.COUNTS;
+import static io.cloudslang.content.utils.Constants.OutputNames.EXCEPTION;
+import static io.cloudslang.content.utils.Constants.OutputNames.RESPONSE;
+import static io.cloudslang.content.utils.Constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.utils.Constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.utils.Constants.ResponseNames.FAILURE;
+import static io.cloudslang.content.utils.Constants.ResponseNames.SUCCESS;
+import static io.cloudslang.content.utils.Constants.ReturnCodes.RETURN_CODE_FAILURE;
+import static io.cloudslang.content.utils.Constants.ReturnCodes.RETURN_CODE_SUCCESS;
+
+public class ListDistinctAction {
+    private static final String LIST = "list";
+    private static final String DELIMITER = "delimiter";
+    private static final String IGNORE_CASE = "ignoreCase";
+    private static final String INCLUDE_COUNTS = "includeCounts";
+
+    /**
+     * This method removes the duplicate elements of a list.
+     *
+     * @param list          The list.
+     * @param delimiter     A delimiter separating the list elements. Default is a comma.
+     * @param ignoreCase    If set to 'true' then the elements are compared case insensitive. Default is false.
+     * @param includeCounts If set to 'true' then the counts output holds the number of occurrences in the list of every
+     *                      returned element. Default is false.
+     * @return The elements of the list, each element once, in the order of its first occurrence.
+     */
+    @Action(name = "List Distinct",
+            outputs = {
+                    @Output(RESPONSE),
+                    @Output(RETURN_RESULT),
+                    @Output(COUNTS),
+                    @Output(RETURN_CODE),
+                    @Output(EXCEPTION)
+            },
+            responses = {
+                    @Response(text = SUCCESS, field = RETURN_CODE, value = RETURN_CODE_SUCCESS, matchType = MatchType.COMPARE_EQUAL),
+                    @Response(text = FAILURE, field = RETURN_CODE, value = RETURN_CODE_FAILURE, matchType = MatchType.COMPARE_EQUAL, isOnFail = true, isDefault = true)
+            })
+    public Map<String, String> distinct(@Param(value = LIST, required = true) String list,
+                                        @Param(value = DELIMITER) String delimiter,
+                                        @Param(value = IGNORE_CASE) String ignoreCase,
+                                        @Param(value = INCLUDE_COUNTS) String includeCounts) {
+        Map<String, String> result = new HashMap<>();
+        try {
+            delimiter = InputsUtils.getInputDefaultValue(delimiter, Constants.DEFAULT_DELIMITER);
+            final List<Element> elements = ListSetOperations.distinct(ListProcessor.toArray(list, delimiter),
+                    InputsUtils.toBoolean(ignoreCase, false, IGNORE_CASE));
+
+            result.put(RESPONSE, SUCCESS);
+            result.put(RETURN_RESULT, ListSetOperations.joinValues(elements, delimiter));
+            result.put(COUNTS, InputsUtils.toBoolean(includeCounts, false, INCLUDE_COUNTS) ?
+                    ListSetOperations.joinCounts(elements, delimiter) : EMPTY_STRING);
+            result.put(RETURN_CODE, RETURN_CODE_SUCCESS);
+            result.put(EXCEPTION, EMPTY_STRING);
+        } catch (Exception e) {
+            result.put(RESPONSE, FAILURE);
+            result.put(RETURN_RESULT, EMPTY_STRING);
+            result.put(RETURN_CODE, RETURN_CODE_FAILURE);
+            result.put(EXCEPTION, e.getMessage());
+        }
+        return result;
+    }
+}
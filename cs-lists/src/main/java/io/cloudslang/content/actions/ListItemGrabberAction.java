@@ -23,6 +23,7 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import io.cloudslang.content.utils.ListProcessor;
+import io.cloudslang.content.utils.ListTokenizer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -73,15 +74,19 @@ public class ListItemGrabberAction {
                                                 @Param(value = INDEX, required = true) String index) {
         Map<String, String> result = new HashMap<>();
         try {
-            String[] table = ListProcessor.toArray(list, delimiter);
+            ListTokenizer tokenizer = ListTokenizer.forDelimiter(delimiter);
             int resolvedIndex;
             try {
-                resolvedIndex = ListProcessor.getIndex(index, table.length);
+                resolvedIndex = ListProcessor.getIndex(index, 0);
+                if (resolvedIndex < 0) {
+                    // an index from the end, the list has to be counted
+                    resolvedIndex = ListProcessor.getIndex(index, tokenizer.count(list));
+                }
             } catch (NumberFormatException e) {
                 throw new NumberFormatException(e.getMessage() + WHILE_PARSING_INDEX);
             }
 
-            String value = table[resolvedIndex];
+            String value = tokenizer.get(list, resolvedIndex);
             result.put(RESULT_TEXT, value);
             result.put(RESPONSE, SUCCESS);
             result.put(RETURN_RESULT, value);
@@ -23,7 +23,7 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import io.cloudslang.content.utils.Constants;
-import io.cloudslang.content.utils.ListProcessor;
+import io.cloudslang.content.utils.ListTokenizer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -65,10 +65,10 @@ public class ListSizeAction {
                                            @Param(value = DELIMITER, required = true) String delimiter) {
         Map<String, String> result = new HashMap<>();
         try {
-            String[] table = ListProcessor.toArray(list, delimiter);
-            result.put(RESULT_TEXT, String.valueOf(table.length));
+            String size = String.valueOf(ListTokenizer.forDelimiter(delimiter).count(list));
+            result.put(RESULT_TEXT, size);
             result.put(RESPONSE, Constants.ResponseNames.SUCCESS);
-            result.put(RETURN_RESULT, String.valueOf(table.length));
+            result.put(RETURN_RESULT, size);
             result.put(RETURN_CODE, RETURN_CODE_SUCCESS);
         } catch (Exception e) {
             result.put(RESULT_TEXT, e.getMessage());
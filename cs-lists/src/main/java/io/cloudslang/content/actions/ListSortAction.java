@@ -22,11 +22,13 @@ import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
-import io.cloudslang.content.utils.ListProcessor;
+import io.cloudslang.content.utils.ListSorter;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
+import static io.cloudslang.content.utils.Constants.INPUT_NOT_NON_NEGATIVE_INTEGER;
 import static io.cloudslang.content.utils.Constants.OutputNames.RESPONSE;
 import static io.cloudslang.content.utils.Constants.OutputNames.RESULT_TEXT;
 import static io.cloudslang.content.utils.Constants.OutputNames.RETURN_CODE;
@@ -35,6 +37,7 @@ import static io.cloudslang.content.utils.Constants.ResponseNames.FAILURE;
 import static io.cloudslang.content.utils.Constants.ResponseNames.SUCCESS;
 import static io.cloudslang.content.utils.Constants.ReturnCodes.RETURN_CODE_FAILURE;
 import static io.cloudslang.content.utils.Constants.ReturnCodes.RETURN_CODE_SUCCESS;
+import static io.cloudslang.content.utils.InputsUtils.getInputDefaultValue;
 
 /**
  * Created by giloan on 7/8/2016.
@@ -44,6 +47,10 @@ public class ListSortAction {
     private static final String LIST = "list";
     private static final String DELIMITER = "delimiter";
     private static final String REVERSE = "reverse";
+    private static final String COLLATION = "collation";
+    private static final String LOCALE = "locale";
+    private static final String TOP_K = "topK";
+    private static final String DEFAULT_LOCALE = "en";
 
     /**
      * This method sorts a list of strings. If the list contains only numerical strings, it is sorted in numerical order.
@@ -52,6 +59,14 @@ public class ListSortAction {
      * @param list      The list to be sorted.
      * @param delimiter The list delimiter.
      * @param reverse   A boolean value for sorting the list in reverse order.
+     * @param collation How a list that is not numerical is sorted: binary (by the character codes), natural (numbers
+     *                  inside the strings are compared by their value, e.g. item2 before item10) or locale (using the
+     *                  rules of the locale input).
+     *                  Default value: binary
+     * @param locale    The language tag of the locale used by the locale collation, e.g. en-US, de, fr-CA.
+     *                  Default value: en
+     * @param topK      If greater than 0, only the first topK elements of the sorted list are returned.
+     *                  Default value: 0
      * @return The sorted list.
      */
     @Action(name = "List Sort",
@@ -67,11 +82,17 @@ public class ListSortAction {
             })
     public Map<String, String> sortList(@Param(value = LIST, required = true) String list,
                                         @Param(value = DELIMITER, required = true) String delimiter,
-                                        @Param(value = REVERSE) String reverse) {
+                                        @Param(value = REVERSE) String reverse,
+                                        @Param(value = COLLATION) String collation,
+                                        @Param(value = LOCALE) String locale,
+                                        @Param(value = TOP_K) String topK) {
 
         Map<String, String> result = new HashMap<>();
         try {
-            String sortedList = sort(list, Boolean.parseBoolean(reverse), delimiter);
+            String sortedList = ListSorter.sort(list, delimiter, Boolean.parseBoolean(reverse),
+                    getInputDefaultValue(collation, ListSorter.COLLATION_BINARY),
+                    Locale.forLanguageTag(getInputDefaultValue(locale, DEFAULT_LOCALE)),
+                    toTopK(getInputDefaultValue(topK, "0")));
             result.put(RESULT_TEXT, sortedList);
             result.put(RESPONSE, SUCCESS);
             result.put(RETURN_RESULT, sortedList);
@@ -85,30 +106,15 @@ public class ListSortAction {
         return result;
     }
 
-    private String sort(String list, boolean reverse, String delimiter) {
+    private int toTopK(String topK) throws Exception {
         try {
-            int[] unsorted = ListProcessor.toIntArray(list, delimiter);
-            if (reverse) {
-                return ListProcessor.toString(ListProcessor.reverse(ListProcessor.sort(unsorted)), delimiter);
-            } else {
-                return ListProcessor.toString(ListProcessor.sort(unsorted), delimiter);
+            final int count = Integer.parseInt(topK.trim());
+            if (count >= 0) {
+                return count;
             }
         } catch (NumberFormatException e) {
-            try {
-                double[] unsorted = ListProcessor.toDoubleArray(list, delimiter);
-                if (reverse) {
-                    return ListProcessor.toString(ListProcessor.reverse(ListProcessor.sort(unsorted)), delimiter);
-                } else {
-                    return ListProcessor.toString(ListProcessor.sort(unsorted), delimiter);
-                }
-            } catch (NumberFormatException f) {
-                String[] unsorted = ListProcessor.toArray(list, delimiter);
-                if (reverse) {
-                    return ListProcessor.toString(ListProcessor.reverse(ListProcessor.sort(unsorted)), delimiter);
-                } else {
-                    return ListProcessor.toString(ListProcessor.sort(unsorted), delimiter);
-                }
-            }
+            // reported below
         }
+        throw new Exception(String.format(INPUT_NOT_NON_NEGATIVE_INTEGER, TOP_K));
     }
 }
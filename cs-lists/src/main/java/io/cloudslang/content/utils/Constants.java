@@ -26,6 +26,8 @@ public class Constants {
     public static final String TRUE = "true";
     public static final String FALSE = "false";
     public static final String INPUT_NOT_BOOLEAN = "Input %s not a boolean value!";
+    public static final String INPUT_NOT_NON_NEGATIVE_INTEGER = "Input %s not an integer greater than or equal to 0!";
+    public static final String INVALID_COLLATION = "Invalid collation: %s. Valid values: binary, natural, locale.";
 
 
     public static final class OutputNames {
@@ -35,6 +37,7 @@ public class Constants {
         public static final String EXCEPTION = "exception";
         public static final String RESPONSE = "response";
         public static final String RESULT_STRING = "resultString";
+        public static final String COUNTS = "counts";
 
         public static final String RESULT_TEXT = "result";
     }
@@ -24,17 +24,20 @@ import java.util.Map;
 
 public class IteratorProcessor {
 
-    private static final String TEXT_ARRAYLIST = "iterator_arraylist";
+    private static final String TEXT_LIST_INDEX = "iterator_list_index";
     private static final String TEXT_INDEX = "iterator_index";
-    private static final String TEXT_STRINGLIST = "iterator_stringlist";
-    private String[] splitList;
+    private static final String TEXT_LIST_HASH = "iterator_list_hash";
+    private static final String TEXT_LIST_LENGTH = "iterator_list_length";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private ListOffsetIndex listIndex;
     private int index;
 
     public IteratorProcessor() {
     }
 
     private boolean initialized(GlobalSessionObject<Map<String, Object>> session) {
-        return (session.get().get(TEXT_ARRAYLIST) != null &&
+        return (session.get().get(TEXT_LIST_INDEX) != null &&
                 session.get().get(TEXT_INDEX) != null);
     }
 
@@ -50,21 +53,6 @@ public class IteratorProcessor {
                 throw new IteratorProcessorException("delimiter has null or 0 length");
             }
 
-            // Get array list value
-            try {
-                splitList = (String[]) sessionMap.get(TEXT_ARRAYLIST);
-            } catch (Exception e) {
-                splitList = new String[0];
-            }
-
-            // Get String list value
-            String stringList;
-            try {
-                stringList = (String) sessionMap.get(TEXT_STRINGLIST);
-            } catch (Exception e) {
-                stringList = "";
-            }
-
             // Get index value
             try {
                 index = (Integer) sessionMap.get(TEXT_INDEX);
@@ -72,68 +60,62 @@ public class IteratorProcessor {
                 index = 0;
             }
 
-            if (splitList == null) {
-                splitList = new String[0];
-            }
-
-            if (stringList == null) {
-                stringList = "";
-            }
-
-            if (index == 0 && initialized(session)) {
-                if (list.indexOf(stringList) != 0) {
-                    stringList = "";
-                    splitList = new String[0];
-                }
-                sessionMap.put(TEXT_ARRAYLIST, splitList);
+            // the list given on the previous step is only known by its hash and length, a step over the same list
+            // hashes it once instead of comparing and splitting it again
+            final boolean initialized = initialized(session);
+            final int lastLength = initialized ? (Integer) sessionMap.get(TEXT_LIST_LENGTH) : 0;
+            final long lastHash = initialized ? (Long) sessionMap.get(TEXT_LIST_HASH) : FNV_OFFSET_BASIS;
+            final int prefixLength = Math.min(lastLength, list.length());
+            final long prefixHash = hash(list, 0, prefixLength, FNV_OFFSET_BASIS);
+            final boolean extended = list.length() >= lastLength && prefixHash == lastHash;
+            final long hash = hash(list, prefixLength, list.length(), prefixHash);
+
+            if (index == 0 && initialized && !extended) {
+                sessionMap.remove(TEXT_LIST_INDEX);
                 sessionMap.put(TEXT_INDEX, 0);
             }
 
-            if (!initialized(session) || !stringList.equals(list)) {
-                String lastIn = list;
-                int index = list.indexOf(stringList);
-                if (index == 0) {
+            if (!initialized(session) || !extended || list.length() != lastLength) {
+                if (!initialized(session)) {
                     if (list.length() == 0) {
                         throw new IteratorProcessorException("list has null or 0 length");
                     }
-                    splitList = ListProcessor.toArray(list, delim);
-                } else {
-                    if (initialized(session) && list.startsWith(delim)) {
-                        list = list.substring(1, list.length());
-                    }
-                    String listarray[] = ListProcessor.toArray(list, delim);
-                    splitList = combine(this.splitList, listarray);
-                }
-
-                if (list == "" && splitList.length == 0) {
-                    throw new IteratorProcessorException("list has null or zero length");
-                }
-
-                // ok, now push data into context
-                if (!initialized(session)) {
+                    listIndex = new ListOffsetIndex(list, delim);
                     sessionMap.put(TEXT_INDEX, 0);
+                } else if (extended) {
+                    // only the elements from the last one on are split again
+                    listIndex = (ListOffsetIndex) sessionMap.get(TEXT_LIST_INDEX);
+                    listIndex.extend(list);
+                } else {
+                    listIndex = (ListOffsetIndex) sessionMap.get(TEXT_LIST_INDEX);
+                    listIndex.append(list.startsWith(delim) ? list.substring(1) : list);
                 }
 
-                sessionMap.put(TEXT_ARRAYLIST, splitList);
-                sessionMap.put(TEXT_STRINGLIST, lastIn);
+                sessionMap.put(TEXT_LIST_INDEX, listIndex);
+                sessionMap.put(TEXT_LIST_HASH, hash);
+                sessionMap.put(TEXT_LIST_LENGTH, list.length());
             }
         }
 
         // pull data from context
-        splitList = (String[]) sessionMap.get(TEXT_ARRAYLIST);
+        listIndex = (ListOffsetIndex) sessionMap.get(TEXT_LIST_INDEX);
         index = (Integer) sessionMap.get(TEXT_INDEX);
     }
 
-    private String[] combine(String[] s1, String[] s2) {
-        String[] temp = new String[s1.length + s2.length];
-        System.arraycopy(s1, 0, temp, 0, s1.length);
-        System.arraycopy(s2, 0, temp, s1.length, s2.length);
-        return temp;
+    /**
+     * FNV-1a hash of a range of the list, continuing the hash of the characters before it.
+     */
+    private static long hash(String list, int from, int to, long hash) {
+        for (int i = from; i < to; i++) {
+            hash ^= list.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
     }
 
     public String getNext(GlobalSessionObject<Map<String, Object>> session) {
-        if (index < splitList.length) {
-            String ret = splitList[index];
+        if (index < listIndex.size()) {
+            String ret = listIndex.get(index);
             index += 1;
             session.get().put(TEXT_INDEX, index);
 
@@ -147,11 +129,11 @@ public class IteratorProcessor {
     }
 
     public boolean hasNext() {
-        return index <= splitList.length;
+        return index <= listIndex.size();
     }
 
     public void setStepSessionEnd(GlobalSessionObject<Map<String, Object>> session) {
-        session.get().put(TEXT_INDEX, Integer.toString(0));
+        session.get().put(TEXT_INDEX, 0);
     }
 
     public int getIndex() {
@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import java.util.Arrays;
+
+/**
+ * Elements of a delimited list kept as start and end offsets into the list string, so that iterating a large list
+ * doesn't hold a copy of every element. The elements are the ones {@link ListProcessor#toArray(String, String)} returns.
+ */
+class ListOffsetIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ListTokenizer tokenizer;
+    private final String delimiter;
+    private String list;
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int size;
+    //true once another list was appended, the indexed string is then no longer the last list given
+    private boolean appended;
+
+    ListOffsetIndex(final String list, final String separator) {
+        this.tokenizer = ListTokenizer.forDelimiter(separator);
+        this.delimiter = tokenizer.getDelimiter();
+        this.list = tokenizer.normalize(list);
+        index(0);
+    }
+
+    /**
+     * Re-indexes the list after it was extended, the elements before the last one are kept as they are. If another
+     * list was appended, the indexed string does not prefix the extended list, which is then indexed from scratch.
+     *
+     * @param extendedList a list starting with the last list given.
+     */
+    void extend(final String extendedList) {
+        list = tokenizer.normalize(extendedList);
+        int from = 0;
+        if (appended) {
+            size = 0;
+            appended = false;
+        } else if (size > 0) {
+            size--;
+            from = starts[size];
+        }
+        index(from);
+    }
+
+    /**
+     * Adds the elements of another list after the indexed ones.
+     */
+    void append(final String otherList) {
+        final int from = list.length();
+        list = list + tokenizer.normalize(otherList);
+        appended = true;
+        index(from);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(final int position) {
+        return list.substring(starts[position], ends[position]);
+    }
+
+    private void index(final int from) {
+        if (from >= list.length()) {
+            return;
+        }
+        int start = from;
+        int end;
+        while ((end = list.indexOf(delimiter, start)) > -1) {
+            add(start, end);
+            start = end + delimiter.length();
+        }
+        add(start, list.length());
+        //like String.split, the trailing empty elements are dropped
+        while (size > 0 && starts[size - 1] == ends[size - 1]) {
+            size--;
+        }
+    }
+
+    private void add(final int start, final int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+}
@@ -20,14 +20,12 @@ package io.cloudslang.content.utils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 
 public class ListProcessor {
 
     public static String[] toArray(String list, String delimiter) {
-        return toArrayFromNormalized(normalizeString(list, delimiter), normalizeDelimiter(delimiter));
+        return ListTokenizer.forDelimiter(delimiter).split(list);
     }
 
     public static int getIndex(String index, int listLength) throws Exception {
@@ -127,38 +125,21 @@ public class ListProcessor {
     }
 
     public static String[] sort(String[] unsorted) {
-        List<String> sorted = new ArrayList<>(unsorted.length);
-        for (int count = 0; count < unsorted.length; count++) {
-            sorted.add(unsorted[count]);
-        }
-        Collections.sort(sorted);
-        return sorted.toArray(new String[unsorted.length]);
+        String[] sorted = unsorted.clone();
+        Arrays.sort(sorted);
+        return sorted;
     }
 
     public static int[] sort(int[] unsorted) {
-        List<Integer> sorted = new ArrayList<>(unsorted.length);
-        for (int count = 0; count < unsorted.length; count++) {
-            sorted.add(unsorted[count]);
-        }
-        Collections.sort(sorted);
-        int[] out = new int[unsorted.length];
-        for (int count = 0; count < out.length; count++) {
-            out[count] = sorted.get(count);
-        }
-        return out;
+        int[] sorted = unsorted.clone();
+        ListSorter.sort(sorted);
+        return sorted;
     }
 
     public static double[] sort(double[] unsorted) {
-        List<Double> sorted = new ArrayList<>(unsorted.length);
-        for (int count = 0; count < unsorted.length; count++) {
-            sorted.add(unsorted[count]);
-        }
-        Collections.sort(sorted);
-        double[] out = new double[unsorted.length];
-        for (int count = 0; count < out.length; count++) {
-            out[count] = sorted.get(count);
-        }
-        return out;
+        double[] sorted = unsorted.clone();
+        ListSorter.sort(sorted);
+        return sorted;
     }
 
     public static int[] trimPercent(int[] array, int percent) {
@@ -196,7 +177,7 @@ public class ListProcessor {
         return array;
     }
 
-    private static String normalizeString(String str, String sep) {
+    static String normalizeString(String str, String sep) {
         String LITERAL_TAB = "\\" + "t";
         String LITERAL_NEW_LINE = "\\" + "n";
         String LITERAL_RETURN = "\\" + "r";
@@ -213,39 +194,6 @@ public class ListProcessor {
         return str;
     }
 
-    private static String normalizeDelimiter(String delim) {
-        delim = normalizeString(delim, delim);
-        delim = regularExpressionReplace(delim, '\\');
-        delim = regularExpressionReplace(delim, '|');
-        delim = regularExpressionReplace(delim, '(');
-        delim = regularExpressionReplace(delim, ')');
-        delim = regularExpressionReplace(delim, '*');
-        delim = regularExpressionReplace(delim, '+');
-        delim = regularExpressionReplace(delim, '.');
-        delim = regularExpressionReplace(delim, '?');
-        delim = regularExpressionReplace(delim, '[');
-        delim = regularExpressionReplace(delim, ']');
-        delim = regularExpressionReplace(delim, '^');
-        delim = regularExpressionReplace(delim, '{');
-        delim = regularExpressionReplace(delim, '}');
-        delim = regularExpressionReplace(delim, '$');
-        return delim;
-    }
-
-    private static String regularExpressionReplace(String delim, char character) {
-        int index;
-        if ((index = delim.indexOf(character)) > -1) {
-            String start = delim.substring(0, index);
-            String end = "";
-            if (index + 1 < delim.length()) {
-                end = delim.substring(index + 1, delim.length());
-            }
-            delim = start + "\\" + character + regularExpressionReplace(end, character);
-
-        }
-        return delim;
-    }
-
     @SuppressWarnings("unchecked")
     private static <T extends Comparable<T>> T[] trimPercent(Class<T> c, T[] array, int percent) {
         // how many elements do we need to trim?
@@ -282,14 +230,6 @@ public class ListProcessor {
         return rounded;
     }
 
-    private static String[] toArrayFromNormalized(String list, String delimiter) {
-        if (list.length() == 0) {
-            return new String[0];
-        }
-        return list.split(delimiter);
-    }
-
-
     /**
      * This method check if all elements of an array are null.
      *
@@ -308,25 +248,7 @@ public class ListProcessor {
     }
 
     public static String[] getUncontainedArray(String[] subArray, String[] containerArray, boolean ignoreCase) {
-        String[] uncontainedArray = new String[subArray.length];
-        int index = 0;
-        boolean found = false;
-        for (String subStr : subArray) {
-            for (String contStr : containerArray) {
-                found = elementsAreEqual(subStr, contStr, ignoreCase);
-                if (found) {
-                    break;
-                }
-            }
-            if (!found) {
-                uncontainedArray[index] = subStr;
-                index++;
-            }
-        }
-        String[] newUncontainedArray = new String[index];
-        System.arraycopy(uncontainedArray, 0, newUncontainedArray, 0, index);
-
-        return newUncontainedArray;
+        return ListSetOperations.getUncontained(subArray, containerArray, ignoreCase);
     }
 
     public static boolean elementsAreEqual(String a, String b, boolean ignoreCase) {
@@ -0,0 +1,162 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set operations over list elements, backed by hash lookups. The elements of the results keep the order and the
+ * spelling of their first occurrence, together with the number of times they occur in the lists.
+ */
+public class ListSetOperations {
+
+    private ListSetOperations() {
+    }
+
+    public static List<Element> union(String[] first, String[] second, boolean ignoreCase) {
+        final Map<String, Element> elements = count(first, ignoreCase);
+        addAll(elements, second, ignoreCase);
+        return new ArrayList<>(elements.values());
+    }
+
+    public static List<Element> intersect(String[] first, String[] second, boolean ignoreCase) {
+        final Map<String, Element> secondElements = count(second, ignoreCase);
+        final List<Element> result = new ArrayList<>();
+        for (Map.Entry<String, Element> entry : count(first, ignoreCase).entrySet()) {
+            final Element other = secondElements.get(entry.getKey());
+            if (other != null) {
+                entry.getValue().count += other.count;
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    public static List<Element> difference(String[] first, String[] second, boolean ignoreCase) {
+        final Set<String> secondKeys = keys(second, ignoreCase);
+        final List<Element> result = new ArrayList<>();
+        for (Map.Entry<String, Element> entry : count(first, ignoreCase).entrySet()) {
+            if (!secondKeys.contains(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    public static List<Element> distinct(String[] elements, boolean ignoreCase) {
+        return new ArrayList<>(count(elements, ignoreCase).values());
+    }
+
+    /**
+     * @return the elements of the sublist, duplicates included, that the container doesn't have.
+     */
+    public static String[] getUncontained(String[] subArray, String[] containerArray, boolean ignoreCase) {
+        final Set<String> containerKeys = keys(containerArray, ignoreCase);
+        final List<String> uncontained = new ArrayList<>();
+        for (String element : subArray) {
+            if (!containerKeys.contains(key(element, ignoreCase))) {
+                uncontained.add(element);
+            }
+        }
+        return uncontained.toArray(new String[uncontained.size()]);
+    }
+
+    public static String joinValues(List<Element> elements, String delimiter) {
+        final StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                joined.append(delimiter);
+            }
+            joined.append(elements.get(i).getValue());
+        }
+        return joined.toString();
+    }
+
+    public static String joinCounts(List<Element> elements, String delimiter) {
+        final StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                joined.append(delimiter);
+            }
+            joined.append(elements.get(i).getCount());
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Folds the case of the element the way String.equalsIgnoreCase compares it, so that equal keys mean elements
+     * equal ignoring case.
+     */
+    static String key(String element, boolean ignoreCase) {
+        if (!ignoreCase || element == null) {
+            return element;
+        }
+        final char[] chars = element.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static Map<String, Element> count(String[] elements, boolean ignoreCase) {
+        final Map<String, Element> counted = new LinkedHashMap<>();
+        addAll(counted, elements, ignoreCase);
+        return counted;
+    }
+
+    private static void addAll(Map<String, Element> counted, String[] elements, boolean ignoreCase) {
+        for (String element : elements) {
+            final String key = key(element, ignoreCase);
+            final Element existing = counted.get(key);
+            if (existing == null) {
+                counted.put(key, new Element(element));
+            } else {
+                existing.count++;
+            }
+        }
+    }
+
+    private static Set<String> keys(String[] elements, boolean ignoreCase) {
+        final Set<String> keys = new HashSet<>(elements.length * 4 / 3 + 1);
+        for (String element : elements) {
+            keys.add(key(element, ignoreCase));
+        }
+        return keys;
+    }
+
+    public static class Element {
+        private final String value;
+        private int count = 1;
+
+        Element(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
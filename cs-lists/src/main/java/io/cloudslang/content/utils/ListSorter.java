@@ -0,0 +1,313 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts a delimited list. The list is split once and its elements are classified in the same pass that parses them:
+ * integers and decimals are sorted as primitive arrays, anything else as strings.
+ */
+public class ListSorter {
+
+    public static final String COLLATION_BINARY = "binary";
+    public static final String COLLATION_NATURAL = "natural";
+    public static final String COLLATION_LOCALE = "locale";
+
+    /**
+     * Arrays at least this large are sorted in parallel, in chunks merged by the fork join pool.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final ForkJoinPool SORT_POOL = new ForkJoinPool();
+
+    private static final Comparator<String> BINARY_COMPARATOR = new Comparator<String>() {
+        @Override
+        public int compare(String first, String second) {
+            return first.compareTo(second);
+        }
+    };
+
+    private ListSorter() {
+    }
+
+    /**
+     * @param collation how strings are compared: binary, natural (embedded numbers compared by value) or locale.
+     * @param locale    the locale of the locale collation.
+     * @param topK      if greater than 0, only the first topK elements of the sorted list are returned.
+     */
+    public static String sort(String list, String delimiter, boolean reverse, String collation, Locale locale, int topK) {
+        final String[] elements = ListProcessor.toArray(list, delimiter);
+        final int count = topK > 0 ? Math.min(topK, elements.length) : elements.length;
+
+        // parse the elements as integers until one isn't, then as decimals, the ones before it are widened
+        int[] ints = new int[elements.length];
+        int position = 0;
+        for (; position < elements.length; position++) {
+            if (!isInteger(elements[position])) {
+                break;
+            }
+            try {
+                ints[position] = Integer.parseInt(elements[position]);
+            } catch (NumberFormatException e) {
+                break;
+            }
+        }
+        if (position == elements.length) {
+            sort(ints);
+            if (reverse) {
+                ints = ListProcessor.reverse(ints);
+            }
+            return ListProcessor.toString(Arrays.copyOf(ints, count), delimiter);
+        }
+
+        double[] doubles = new double[elements.length];
+        for (int i = 0; i < position; i++) {
+            doubles[i] = ints[i];
+        }
+        try {
+            for (; position < elements.length; position++) {
+                doubles[position] = Double.parseDouble(elements[position]);
+            }
+            sort(doubles);
+            if (reverse) {
+                doubles = ListProcessor.reverse(doubles);
+            }
+            return ListProcessor.toString(Arrays.copyOf(doubles, count), delimiter);
+        } catch (NumberFormatException e) {
+            // not a numeric list
+        }
+
+        Comparator<String> comparator = getComparator(collation, locale);
+        if (reverse) {
+            comparator = Collections.reverseOrder(comparator);
+        }
+        return ListProcessor.toString(sort(elements, comparator, count), delimiter);
+    }
+
+    public static void sort(int[] array) {
+        if (array.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(array);
+        } else {
+            SORT_POOL.invoke(new IntSortTask(array, new int[array.length], 0, array.length));
+        }
+    }
+
+    public static void sort(double[] array) {
+        if (array.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(array);
+        } else {
+            SORT_POOL.invoke(new DoubleSortTask(array, new double[array.length], 0, array.length));
+        }
+    }
+
+    public static Comparator<String> getComparator(String collation, Locale locale) {
+        switch (collation.toLowerCase(Locale.ENGLISH)) {
+            case COLLATION_BINARY:
+                return BINARY_COMPARATOR;
+            case COLLATION_NATURAL:
+                return new NaturalComparator();
+            case COLLATION_LOCALE:
+                final Collator collator = Collator.getInstance(locale);
+                return new Comparator<String>() {
+                    @Override
+                    public int compare(String first, String second) {
+                        return collator.compare(first, second);
+                    }
+                };
+            default:
+                throw new IllegalArgumentException(String.format(Constants.INVALID_COLLATION, collation));
+        }
+    }
+
+    /**
+     * Sorts the strings, when only the first few are needed they are selected with a heap of that size instead.
+     */
+    private static String[] sort(String[] elements, final Comparator<String> comparator, int count) {
+        if (count * 2 >= elements.length) {
+            final String[] sorted = elements.clone();
+            Arrays.sort(sorted, comparator);
+            return Arrays.copyOf(sorted, count);
+        }
+        if (count == 0) {
+            return new String[0];
+        }
+        // the heap keeps the head of the list with its greatest element on top
+        final PriorityQueue<String> heap = new PriorityQueue<>(count, Collections.reverseOrder(comparator));
+        for (String element : elements) {
+            if (heap.size() < count) {
+                heap.add(element);
+            } else if (comparator.compare(element, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(element);
+            }
+        }
+        final String[] head = new String[count];
+        for (int i = count - 1; i >= 0; i--) {
+            head[i] = heap.poll();
+        }
+        return head;
+    }
+
+    /**
+     * Whether the element has the shape Integer.parseInt accepts, so that most strings are told apart without an
+     * exception.
+     */
+    private static boolean isInteger(String element) {
+        final int length = element.length();
+        if (length == 0) {
+            return false;
+        }
+        int start = 0;
+        final char first = element.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            start = 1;
+        }
+        for (int i = start; i < length; i++) {
+            if (Character.digit(element.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares runs of digits by their value and anything else char by char, so that "item2" comes before "item10".
+     */
+    private static class NaturalComparator implements Comparator<String> {
+
+        @Override
+        public int compare(String first, String second) {
+            int i = 0;
+            int j = 0;
+            while (i < first.length() && j < second.length()) {
+                final char a = first.charAt(i);
+                final char b = second.charAt(j);
+                if (Character.isDigit(a) && Character.isDigit(b)) {
+                    final int endA = digitsEnd(first, i);
+                    final int endB = digitsEnd(second, j);
+                    final int startA = zerosEnd(first, i, endA);
+                    final int startB = zerosEnd(second, j, endB);
+                    // without the leading zeros the longer run is the greater number
+                    int result = (endA - startA) - (endB - startB);
+                    for (int k = 0; result == 0 && k < endA - startA; k++) {
+                        result = Character.digit(first.charAt(startA + k), 10) - Character.digit(second.charAt(startB + k), 10);
+                    }
+                    if (result != 0) {
+                        return result;
+                    }
+                    i = endA;
+                    j = endB;
+                } else {
+                    if (a != b) {
+                        return a - b;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            final int result = (first.length() - i) - (second.length() - j);
+            return result != 0 ? result : first.compareTo(second);
+        }
+
+        private static int digitsEnd(String string, int start) {
+            int end = start;
+            while (end < string.length() && Character.isDigit(string.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+
+        private static int zerosEnd(String string, int start, int end) {
+            while (start < end - 1 && Character.digit(string.charAt(start), 10) == 0) {
+                start++;
+            }
+            return start;
+        }
+    }
+
+    private static class IntSortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+
+        IntSortTask(int[] array, int[] buffer, int from, int to) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SORT_THRESHOLD) {
+                Arrays.sort(array, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new IntSortTask(array, buffer, from, middle), new IntSortTask(array, buffer, middle, to));
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                buffer[i] = right >= to || left < middle && array[left] <= array[right] ? array[left++] : array[right++];
+            }
+            System.arraycopy(buffer, from, array, from, to - from);
+        }
+    }
+
+    private static class DoubleSortTask extends RecursiveAction {
+        private final double[] array;
+        private final double[] buffer;
+        private final int from;
+        private final int to;
+
+        DoubleSortTask(double[] array, double[] buffer, int from, int to) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SORT_THRESHOLD) {
+                Arrays.sort(array, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new DoubleSortTask(array, buffer, from, middle), new DoubleSortTask(array, buffer, middle, to));
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                // Double.compare orders -0.0 and NaN the way Arrays.sort does
+                buffer[i] = right >= to || left < middle && Double.compare(array[left], array[right]) <= 0 ? array[left++] : array[right++];
+            }
+            System.arraycopy(buffer, from, array, from, to - from);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Splits lists by a delimiter, the way String.split does with the escaped delimiter: the delimiter is matched
+ * literally and the trailing empty elements are dropped. The tokenizers are cached per delimiter, so the delimiter is
+ * normalized once, and the list is scanned with indexOf instead of a regular expression.
+ */
+public class ListTokenizer {
+
+    private static final int MAX_CACHED_TOKENIZERS = 256;
+    private static final ConcurrentMap<String, ListTokenizer> TOKENIZERS = new ConcurrentHashMap<>();
+
+    private final String separator;
+    private final String delimiter;
+
+    private ListTokenizer(String separator) {
+        this.separator = separator;
+        this.delimiter = ListProcessor.normalizeString(separator, separator);
+    }
+
+    public static ListTokenizer forDelimiter(String separator) {
+        ListTokenizer tokenizer = TOKENIZERS.get(separator);
+        if (tokenizer == null) {
+            tokenizer = new ListTokenizer(separator);
+            if (TOKENIZERS.size() < MAX_CACHED_TOKENIZERS) {
+                final ListTokenizer cached = TOKENIZERS.putIfAbsent(separator, tokenizer);
+                if (cached != null) {
+                    tokenizer = cached;
+                }
+            }
+        }
+        return tokenizer;
+    }
+
+    /**
+     * @return the delimiter with its escaped special characters (\t, \n, \r) replaced.
+     */
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * @return the list with the escaped special characters of the delimiter replaced, the elements are cut from it.
+     */
+    public String normalize(String list) {
+        return ListProcessor.normalizeString(list, separator);
+    }
+
+    public String[] split(String list) {
+        final List<String> elements = new ArrayList<>();
+        final Iterator<String> iterator = iterator(list);
+        while (iterator.hasNext()) {
+            elements.add(iterator.next());
+        }
+        return elements.toArray(new String[elements.size()]);
+    }
+
+    /**
+     * Counts the elements without cutting them from the list.
+     */
+    public int count(String list) {
+        list = normalize(list);
+        if (delimiter.isEmpty()) {
+            return list.length();
+        }
+        int count = 0;
+        int nonEmptyCount = 0;
+        int start = 0;
+        int end;
+        while ((end = list.indexOf(delimiter, start)) > -1) {
+            count++;
+            if (end > start) {
+                nonEmptyCount = count;
+            }
+            start = end + delimiter.length();
+        }
+        if (start < list.length()) {
+            nonEmptyCount = count + 1;
+        }
+        return nonEmptyCount;
+    }
+
+    /**
+     * @return the element at the index, the elements after it aren't read.
+     */
+    public String get(String list, int index) {
+        final Iterator<String> iterator = iterator(list);
+        for (int position = 0; index >= 0 && iterator.hasNext(); position++) {
+            final String element = iterator.next();
+            if (position == index) {
+                return element;
+            }
+        }
+        throw new ArrayIndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    /**
+     * @return an iterator cutting the elements from the list as they are read. Empty elements are only looked ahead
+     * of to know whether they are trailing ones.
+     */
+    public Iterator<String> iterator(String list) {
+        return new ElementIterator(normalize(list));
+    }
+
+    private class ElementIterator implements Iterator<String> {
+        private final String list;
+        private int start;
+        private int pendingEmpty;
+        private String next;
+
+        ElementIterator(String list) {
+            this.list = list;
+            this.start = list.isEmpty() ? -1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pendingEmpty > 0 || next != null) {
+                return true;
+            }
+            while (start > -1) {
+                // like String.split, an empty delimiter splits the list in characters
+                final int end = delimiter.isEmpty() ? (start + 1 < list.length() ? start + 1 : -1) : list.indexOf(delimiter, start);
+                final String element = end > -1 ? list.substring(start, end) : list.substring(start);
+                start = end > -1 ? end + delimiter.length() : -1;
+                if (!element.isEmpty()) {
+                    next = element;
+                    return true;
+                }
+                pendingEmpty++;
+            }
+            pendingEmpty = 0;
+            return false;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (pendingEmpty > 0) {
+                pendingEmpty--;
+                return "";
+            }
+            final String element = next;
+            next = null;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
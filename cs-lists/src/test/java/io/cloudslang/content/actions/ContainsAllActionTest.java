@@ -49,4 +49,11 @@ public class ContainsAllActionTest {
         assertEquals(RETURN_RESULT_FAILURE, result.get(RETURN_RESULT));
         assertEquals(RETURN_CODE_FAILURE, result.get(RETURN_CODE));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testContainsElementIgnoreCase() {
+        Map<String, String> result = listContains.containsElement("spiderman|HULK", "SpiderMan|IronMan|Hulk", "|", "true");
+        assertEquals(RESPONSE_SUCCESS, result.get(RESPONSE));
+        assertEquals(RETURN_CODE_SUCCESS, result.get(RETURN_CODE));
+    }
+}
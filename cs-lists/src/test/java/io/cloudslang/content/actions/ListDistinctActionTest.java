@@ -0,0 +1,47 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.actions;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ListDistinctActionTest {
+
+    private static final String RETURN_RESULT = "returnResult";
+    private static final String COUNTS = "counts";
+    private static final String RESPONSE = "response";
+    private static final String EXCEPTION = "exception";
+    private final ListDistinctAction listDistinct = new ListDistinctAction();
+
+    @Test
+    public void testDistinct() {
+        Map<String, String> result = listDistinct.distinct("b,a,b,c,a,b", ",", "false", "true");
+        assertEquals("success", result.get(RESPONSE));
+        assertEquals("b,a,c", result.get(RETURN_RESULT));
+        assertEquals("3,2,1", result.get(COUNTS));
+    }
+
+    @Test
+    public void testDistinctIgnoreCase() {
+        Map<String, String> result = listDistinct.distinct("Straße, STRASSE, straße", ", ", "true", "true");
+        assertEquals("Straße, STRASSE", result.get(RETURN_RESULT));
+        assertEquals("2, 1", result.get(COUNTS));
+    }
+}
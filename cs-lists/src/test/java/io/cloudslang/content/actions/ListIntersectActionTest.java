@@ -0,0 +1,46 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.actions;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ListIntersectActionTest {
+
+    private static final String RETURN_RESULT = "returnResult";
+    private static final String COUNTS = "counts";
+    private static final String RESPONSE = "response";
+    private static final String EXCEPTION = "exception";
+    private final ListIntersectAction listIntersect = new ListIntersectAction();
+
+    @Test
+    public void testIntersect() {
+        Map<String, String> result = listIntersect.intersect("b,a,b,c", "c,d,b,e", ",", "false", "true");
+        assertEquals("success", result.get(RESPONSE));
+        assertEquals("b,c", result.get(RETURN_RESULT));
+        assertEquals("3,2", result.get(COUNTS));
+    }
+
+    @Test
+    public void testIntersectIgnoreCase() {
+        assertEquals("a", listIntersect.intersect("a,B", "A,c", ",", "true", null).get(RETURN_RESULT));
+        assertEquals("", listIntersect.intersect("a,B", "A,c", ",", "false", null).get(RETURN_RESULT));
+    }
+}
@@ -33,4 +33,19 @@ public class ListItemGrabberActionTest {
         assertEquals("success", result.get("response"));
         assertEquals("Ion", result.get("result"));
     }
+
+    @Test
+    public void testGetItemFromTheEnd() {
+        Map<String, String> result = new ListItemGrabberAction().grabItemFromList(LIST, ",", "end-1");
+        assertEquals("success", result.get("response"));
+        assertEquals("Maria", result.get("result"));
+        assertEquals("George", new ListItemGrabberAction().grabItemFromList(LIST, ",", "end").get("result"));
+    }
+
+    @Test
+    public void testGetItemOutOfTheList() {
+        Map<String, String> result = new ListItemGrabberAction().grabItemFromList(LIST, ",", "5");
+        assertEquals("failure", result.get("response"));
+        assertEquals("5", result.get("result"));
+    }
 }
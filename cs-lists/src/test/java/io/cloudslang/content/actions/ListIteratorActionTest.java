@@ -105,4 +105,57 @@ public class ListIteratorActionTest {
         assertEquals(HAS_MORE, result.get(RESULT_TEXT));
         assertEquals("ThisIsOnlyAWord", result.get(RESULT_STRING));
     }
+
+    @Test
+    public void testListIteratorIteratesWholeList() {
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final ListIteratorAction listIteratorAction = new ListIteratorAction();
+        assertEquals("Maria", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+        assertEquals("Ioana", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+        assertEquals("Matei", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+        assertEquals("Gicu", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+        assertEquals("George", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+        assertEquals(NO_MORE, listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_TEXT));
+        assertEquals("Maria", listIteratorAction.execute(LIST_STRING, ", ", globalSessionObject).get(RESULT_STRING));
+    }
+
+    @Test
+    public void testListIteratorExtendedList() {
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final ListIteratorAction listIteratorAction = new ListIteratorAction();
+        assertEquals("a", listIteratorAction.execute("a,b", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("bc", listIteratorAction.execute("a,bc,,d", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("", listIteratorAction.execute("a,bc,,d", ",", globalSessionObject).get(RESULT_STRING));
+        final Map<String, String> result = listIteratorAction.execute("a,bc,,d", ",", globalSessionObject);
+        assertEquals("d", result.get(RESULT_STRING));
+        assertEquals("3", result.get("index"));
+        assertEquals(NO_MORE, listIteratorAction.execute("a,bc,,d", ",", globalSessionObject).get(RESULT_TEXT));
+    }
+
+    @Test
+    public void testListIteratorOtherListAppended() {
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final ListIteratorAction listIteratorAction = new ListIteratorAction();
+        assertEquals("a", listIteratorAction.execute("a,b", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("b", listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("x", listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("y", listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals(NO_MORE, listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_TEXT));
+        assertEquals("a", listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_STRING));
+    }
+
+    @Test
+    public void testListIteratorOtherListThenExtended() {
+        final GlobalSessionObject<Map<String, Object>> globalSessionObject = new GlobalSessionObject<>();
+        final ListIteratorAction listIteratorAction = new ListIteratorAction();
+        assertEquals("a", listIteratorAction.execute("a,b,c", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("b", listIteratorAction.execute("a,b,c", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("c", listIteratorAction.execute("x,y", ",", globalSessionObject).get(RESULT_STRING));
+        // the extended list replaces the appended one, whose elements were already all given
+        assertEquals(NO_MORE, listIteratorAction.execute("x,y,z", ",", globalSessionObject).get(RESULT_TEXT));
+        assertEquals("x", listIteratorAction.execute("x,y,z", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("y", listIteratorAction.execute("x,y,z", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals("z", listIteratorAction.execute("x,y,z", ",", globalSessionObject).get(RESULT_STRING));
+        assertEquals(NO_MORE, listIteratorAction.execute("x,y,z", ",", globalSessionObject).get(RESULT_TEXT));
+    }
 }
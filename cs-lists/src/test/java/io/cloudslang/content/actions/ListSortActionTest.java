@@ -17,9 +17,13 @@
 
 package io.cloudslang.content.actions;
 
+import io.cloudslang.content.utils.ListProcessor;
+import io.cloudslang.content.utils.ListSorter;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -30,29 +34,96 @@ public class ListSortActionTest {
 
     @Test
     public void testSortLettersReverse() {
-        Map<String, String> result = new ListSortAction().sortList(LIST_STRING, ",", "true");
+        Map<String, String> result = new ListSortAction().sortList(LIST_STRING, ",", "true", null, null, null);
         assertEquals("success", result.get("response"));
         assertEquals("z,s,g,b,a", result.get("result"));
     }
 
     @Test
     public void testSortLetters() {
-        Map<String, String> result1 = new ListSortAction().sortList(LIST_STRING, ",", "false");
+        Map<String, String> result1 = new ListSortAction().sortList(LIST_STRING, ",", "false", null, null, null);
         assertEquals("success", result1.get("response"));
         assertEquals("a,b,g,s,z", result1.get("result"));
     }
 
     @Test
     public void testSortIntegers() {
-        Map<String, String> result2 = new ListSortAction().sortList(LIST_INTEGER, ",", "true");
+        Map<String, String> result2 = new ListSortAction().sortList(LIST_INTEGER, ",", "true", null, null, null);
         assertEquals("success", result2.get("response"));
         assertEquals("10,8,6,5,1", result2.get("result"));
     }
 
     @Test
     public void testSortIntegersInvalidReverse() {
-        Map<String, String> result2 = new ListSortAction().sortList(LIST_INTEGER, ",", "sdfsd");
+        Map<String, String> result2 = new ListSortAction().sortList(LIST_INTEGER, ",", "sdfsd", null, null, null);
         assertEquals("success", result2.get("response"));
         assertEquals("1,5,6,8,10", result2.get("result"));
     }
+
+    @Test
+    public void testSortDecimals() {
+        Map<String, String> result = new ListSortAction().sortList("10,2.5,-1,3", ",", "false", null, null, null);
+        assertEquals("success", result.get("response"));
+        assertEquals("-1.0,2.5,3.0,10.0", result.get("result"));
+    }
+
+    @Test
+    public void testSortMixedListAsStrings() {
+        Map<String, String> result = new ListSortAction().sortList("10,2.5,b,3", ",", "false", null, null, null);
+        assertEquals("success", result.get("response"));
+        assertEquals("10,2.5,3,b", result.get("result"));
+    }
+
+    @Test
+    public void testSortNaturalCollation() {
+        Map<String, String> result = new ListSortAction().sortList("item10,item2,item01,item1b", ",", "false", "natural", null, null);
+        assertEquals("success", result.get("response"));
+        assertEquals("item01,item1b,item2,item10", result.get("result"));
+    }
+
+    @Test
+    public void testSortLocaleCollation() {
+        Map<String, String> binary = new ListSortAction().sortList("b,a,B,\u00e4", ",", "false", "binary", null, null);
+        assertEquals("B,a,b,\u00e4", binary.get("result"));
+
+        Map<String, String> result = new ListSortAction().sortList("b,a,B,\u00e4", ",", "false", "locale", "de", null);
+        assertEquals("success", result.get("response"));
+        assertEquals("a,\u00e4,b,B", result.get("result"));
+    }
+
+    @Test
+    public void testSortTopK() {
+        assertEquals("1,5", new ListSortAction().sortList(LIST_INTEGER, ",", "false", null, null, "2").get("result"));
+        assertEquals("10,8,6", new ListSortAction().sortList(LIST_INTEGER, ",", "true", null, null, "3").get("result"));
+        assertEquals("a,b", new ListSortAction().sortList(LIST_STRING, ",", "false", null, null, "2").get("result"));
+        assertEquals("z", new ListSortAction().sortList(LIST_STRING, ",", "true", null, null, "1").get("result"));
+        assertEquals("a,b,g,s,z", new ListSortAction().sortList(LIST_STRING, ",", "false", null, null, "10").get("result"));
+    }
+
+    @Test
+    public void testSortInvalidInputs() {
+        Map<String, String> result = new ListSortAction().sortList(LIST_STRING, ",", "false", null, null, "-1");
+        assertEquals("failure", result.get("response"));
+        assertEquals("Input topK not an integer greater than or equal to 0!", result.get("result"));
+
+        result = new ListSortAction().sortList(LIST_STRING, ",", "false", "alphabetical", null, null);
+        assertEquals("failure", result.get("response"));
+        assertEquals("Invalid collation: alphabetical. Valid values: binary, natural, locale.", result.get("result"));
+    }
+
+    @Test
+    public void testSortLargeIntegerListInParallel() {
+        final Random random = new Random(42);
+        final int[] values = new int[ListSorter.PARALLEL_SORT_THRESHOLD * 4 + 3];
+        final StringBuilder list = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+            list.append(i == 0 ? "" : ",").append(values[i]);
+        }
+        Arrays.sort(values);
+
+        Map<String, String> result = new ListSortAction().sortList(list.toString(), ",", "false", null, null, null);
+        assertEquals("success", result.get("response"));
+        assertEquals(ListProcessor.toString(values, ","), result.get("result"));
+    }
 }
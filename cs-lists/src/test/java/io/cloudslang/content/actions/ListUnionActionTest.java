@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.actions;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ListUnionActionTest {
+
+    private static final String RETURN_RESULT = "returnResult";
+    private static final String COUNTS = "counts";
+    private static final String RESPONSE = "response";
+    private static final String EXCEPTION = "exception";
+    private final ListUnionAction listUnion = new ListUnionAction();
+
+    @Test
+    public void testUnion() {
+        Map<String, String> result = listUnion.union("b,a,b,c", "c,d,a,e", ",", "false", "true");
+        assertEquals("success", result.get(RESPONSE));
+        assertEquals("b,a,c,d,e", result.get(RETURN_RESULT));
+        assertEquals("2,2,2,1,1", result.get(COUNTS));
+    }
+
+    @Test
+    public void testUnionIgnoreCase() {
+        Map<String, String> result = listUnion.union("Host1;host2", "HOST2;host3", ";", "true", null);
+        assertEquals("Host1;host2;host3", result.get(RETURN_RESULT));
+        assertEquals("", result.get(COUNTS));
+    }
+
+    @Test
+    public void testUnionInvalidIgnoreCase() {
+        Map<String, String> result = listUnion.union("a", "b", ",", "maybe", null);
+        assertEquals("failure", result.get(RESPONSE));
+        assertEquals("Input ignoreCase not a boolean value!", result.get(EXCEPTION));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class ListTokenizerTest {
+
+    private static final String[] LISTS = {"", "a", "a,b", ",a,,b", "a,b,,", ",,,", "a,,b,,,c,", "xaaa", "aaaa", "a|b|c"};
+    private static final String[] DELIMITERS = {",", "aa", "|", ",,", "b"};
+
+    @Test
+    public void splitsLikeStringSplit() {
+        for (String delimiter : DELIMITERS) {
+            final ListTokenizer tokenizer = ListTokenizer.forDelimiter(delimiter);
+            for (String list : LISTS) {
+                final String[] expected = list.isEmpty() ? new String[0] : list.split(Pattern.quote(delimiter));
+                final String message = list + " split by " + delimiter;
+                assertArrayEquals(message, expected, tokenizer.split(list));
+                assertEquals(message, expected.length, tokenizer.count(list));
+
+                final List<String> iterated = new ArrayList<>();
+                final Iterator<String> iterator = tokenizer.iterator(list);
+                while (iterator.hasNext()) {
+                    iterated.add(iterator.next());
+                }
+                assertArrayEquals(message, expected, iterated.toArray());
+            }
+        }
+    }
+
+    @Test
+    public void splitsByEscapedCharacters() {
+        assertArrayEquals(new String[]{"a", "b"}, ListTokenizer.forDelimiter("\\t").split("a\\tb"));
+        assertArrayEquals(new String[]{"a", "b"}, ListTokenizer.forDelimiter("\\n").split("a\nb"));
+        assertArrayEquals(new String[]{"a", "b", "c"}, ListTokenizer.forDelimiter("").split("abc"));
+        assertEquals(3, ListTokenizer.forDelimiter("").count("abc"));
+    }
+
+    @Test
+    public void getsElementWithoutReadingTheRest() {
+        final ListTokenizer tokenizer = ListTokenizer.forDelimiter(",");
+        assertEquals("", tokenizer.get("a,,b", 1));
+        assertEquals("b", tokenizer.get("a,,b", 2));
+        assertFalse(tokenizer.iterator("a,,").next().isEmpty());
+        assertSame(tokenizer, ListTokenizer.forDelimiter(","));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void getOutOfTheList() {
+        ListTokenizer.forDelimiter(",").get("a,b,,", 2);
+    }
+}
@@ -1,28 +1,24 @@
-
-
 package io.cloudslang.content.xml.services;
 
 import io.cloudslang.content.utils.OutputUtilities;
 import io.cloudslang.content.utils.StringUtilities;
 import io.cloudslang.content.xml.entities.inputs.ApplyXslTransformationInputs;
-import io.cloudslang.content.xml.utils.Constants;
+import io.cloudslang.content.xml.utils.ParsingErrorFilter;
+import io.cloudslang.content.xml.utils.RethrowingErrorListener;
 import io.cloudslang.content.xml.utils.XmlUtils;
+import io.cloudslang.content.xml.utils.XslTemplatesCache;
 
-import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.io.StringReader;
+import java.io.OutputStream;
 import java.io.StringWriter;
-import java.net.URL;
 import java.util.Map;
 
 
@@ -33,63 +29,55 @@ import java.util.Map;
 public class ApplyXslTransformationService {
     public final Map<String, String> execute(final ApplyXslTransformationInputs applyXslTransformationInputs)
             throws Exception {
-        final Templates template = getTemplate(applyXslTransformationInputs);
+        final Templates template = XslTemplatesCache.getInstance().getTemplates(applyXslTransformationInputs.getXslTemplate(),
+                applyXslTransformationInputs.getParsingFeatures());
         final Transformer xmlTransformer = template.newTransformer();
+        xmlTransformer.setErrorListener(RethrowingErrorListener.getInstance());
 
         final Source source = getSourceStream(applyXslTransformationInputs);
-        final Result result = getResultStream(applyXslTransformationInputs);
-
-        xmlTransformer.transform(source, result);
-        if (StringUtilities.isEmpty(applyXslTransformationInputs.getOutputFile())) {
-            return OutputUtilities.getSuccessResultsMap(((StreamResult) result).getWriter().toString());
-        }
-        return OutputUtilities.getSuccessResultsMap("Result was written in the output file: " + applyXslTransformationInputs.getOutputFile());
-    }
-
-    private Result getResultStream(ApplyXslTransformationInputs applyXslTransformationInputs) throws FileNotFoundException {
-        String outputFile = applyXslTransformationInputs.getOutputFile();
-        if (StringUtilities.isEmpty(outputFile)) {
-            StringWriter stringWriter = new StringWriter();
-            return new StreamResult(stringWriter);
+        try {
+            final String outputFile = applyXslTransformationInputs.getOutputFile();
+            if (StringUtilities.isEmpty(outputFile)) {
+                final StringWriter stringWriter = new StringWriter();
+                transform(xmlTransformer, source, new StreamResult(stringWriter));
+                return OutputUtilities.getSuccessResultsMap(stringWriter.toString());
+            }
+            //the result is streamed to the file instead of being held in memory
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+                transform(xmlTransformer, source, new StreamResult(outputStream));
+            }
+            return OutputUtilities.getSuccessResultsMap("Result was written in the output file: " + outputFile);
+        } finally {
+            if (source instanceof SAXSource) {
+                XmlUtils.closeSource((SAXSource) source);
+            }
         }
-        return new StreamResult(new FileOutputStream(outputFile));
     }
 
     private Source getSourceStream(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
         String xmlDocument = applyXslTransformationInputs.getXmlDocument();
         if (StringUtilities.isNotEmpty(xmlDocument)) {
-            return readSource(xmlDocument, applyXslTransformationInputs.getParsingFeatures());
+            return XmlUtils.createSaxSource(xmlDocument, applyXslTransformationInputs.getParsingFeatures());
         }
         return new StreamSource();
-
     }
 
     /**
-     * Reads the xml content from a file, URL or string.
+     * Transforms the source, which is parsed only once, by the transformation itself.
      *
-     * @param xmlDocument xml document as String, path or URL
-     * @return the resulting xml after validation
-     * @throws Exception in case something went wrong
+     * @throws Exception the parsing error of the source if it is not a valid xml, as it was reported when the source
+     *                   was validated before the transformation
      */
-    private Source readSource(String xmlDocument, String features) throws Exception {
-        if (xmlDocument.startsWith(Constants.Inputs.HTTP_PREFIX_STRING) || xmlDocument.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING)) {
-            URL xmlUrl = new URL(xmlDocument);
-            InputStream xmlStream = xmlUrl.openStream();
-            XmlUtils.parseXmlInputStream(xmlStream, features);
-            return new StreamSource(xmlStream);
-        } else {
-            if (new File(xmlDocument).exists()) {
-                XmlUtils.parseXmlFile(xmlDocument, features);
-                return new StreamSource(new FileInputStream(xmlDocument));
-            }
-            XmlUtils.parseXmlString(xmlDocument, features);
-            return new StreamSource(new StringReader(xmlDocument));
-
+    private void transform(Transformer xmlTransformer, Source source, StreamResult result) throws Exception {
+        if (!(source instanceof SAXSource)) {
+            xmlTransformer.transform(source, result);
+            return;
+        }
+        final ParsingErrorFilter errorFilter = ParsingErrorFilter.filter((SAXSource) source);
+        try {
+            xmlTransformer.transform(source, result);
+        } catch (TransformerException e) {
+            throw errorFilter.unwrap(e);
         }
-    }
-
-    private Templates getTemplate(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
-        final TransformerFactory factory = TransformerFactory.newInstance();
-        return factory.newTemplates(readSource(applyXslTransformationInputs.getXslTemplate(), applyXslTransformationInputs.getParsingFeatures()));
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.sax.SAXSource;
+
+/**
+ * Keeps the first fatal parsing error of a source, which the transformer only reports wrapped in its own exceptions.
+ */
+public class ParsingErrorFilter extends XMLFilterImpl {
+    private static final String[] JAXP_PROPERTY_PREFIXES = {"http://javax.xml.XMLConstants/property/",
+            "http://www.oracle.com/xml/jaxp/properties/"};
+
+    private SAXParseException parsingError;
+
+    private ParsingErrorFilter(XMLReader parent) {
+        super(parent);
+    }
+
+    /**
+     * Sets a filter keeping the parsing errors between the source and its reader.
+     *
+     * @param source the source to be parsed by a transformer
+     * @return the filter
+     */
+    public static ParsingErrorFilter filter(SAXSource source) {
+        ParsingErrorFilter errorFilter = new ParsingErrorFilter(source.getXMLReader());
+        source.setXMLReader(errorFilter);
+        return errorFilter;
+    }
+
+    /**
+     * @param e the exception thrown by the transformer
+     * @return the parsing error causing the exception if there was one, as a parser would have reported it, or else
+     * the exception
+     */
+    public Exception unwrap(TransformerException e) {
+        return parsingError == null ? e : parsingError;
+    }
+
+    @Override
+    public void fatalError(SAXParseException e) throws SAXException {
+        if (parsingError == null) {
+            parsingError = e;
+        }
+        super.fatalError(e);
+        throw e;
+    }
+
+    /**
+     * The transformer sets the JAXP access and limit properties on its reader and prints a warning when the parser
+     * doesn't know them, a parser that doesn't know them doesn't apply them anyway.
+     */
+    @Override
+    public void setProperty(String name, Object value) throws SAXNotRecognizedException, SAXNotSupportedException {
+        try {
+            super.setProperty(name, value);
+        } catch (SAXNotRecognizedException | SAXNotSupportedException e) {
+            if (!isJaxpProperty(name)) {
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isJaxpProperty(String name) {
+        for (String prefix : JAXP_PROPERTY_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import javax.xml.transform.ErrorListener;
+import javax.xml.transform.TransformerException;
+
+/**
+ * Reports the errors of a stylesheet compilation or transformation by throwing them, instead of printing them to the
+ * standard error as the default listener of the JDK does. Warnings are ignored.
+ */
+public class RethrowingErrorListener implements ErrorListener {
+    private static final RethrowingErrorListener INSTANCE = new RethrowingErrorListener();
+
+    private RethrowingErrorListener() {
+    }
+
+    public static RethrowingErrorListener getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void warning(TransformerException exception) {
+    }
+
+    @Override
+    public void error(TransformerException exception) throws TransformerException {
+        throw exception;
+    }
+
+    @Override
+    public void fatalError(TransformerException exception) throws TransformerException {
+        throw exception;
+    }
+}
@@ -7,6 +7,7 @@ import io.cloudslang.content.httpclient.entities.HttpClientInputs;
 import io.cloudslang.content.httpclient.build.auth.AuthTypes;
 import io.cloudslang.content.xml.entities.SimpleNamespaceContext;
 import io.cloudslang.content.xml.entities.inputs.CommonInputs;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.methods.HttpGet;
 import org.jdom2.input.SAXBuilder;
@@ -15,6 +16,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
@@ -22,6 +24,7 @@ import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
@@ -31,6 +34,7 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -247,6 +251,37 @@ public class XmlUtils {
         return inputXML;
     }
 
+    /**
+     * Creates a source reading the xml from an URL, a file or a string, for a transformation to parse it only once
+     * and with the given parsing features.
+     *
+     * @param xmlDocument xml document as String, path or URL
+     * @param features    parsing features to set on the parser
+     * @return the source, whose stream should be closed with closeSource
+     * @throws Exception in case the parser can not be created or the file or URL can not be opened
+     */
+    public static SAXSource createSaxSource(String xmlDocument, String features) throws Exception {
+        SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        setFeatures(parserFactory, features);
+        XMLReader xmlReader = parserFactory.newSAXParser().getXMLReader();
+
+        InputSource inputSource;
+        if (xmlDocument.startsWith(Constants.Inputs.HTTP_PREFIX_STRING) || xmlDocument.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING)) {
+            inputSource = new InputSource(new java.net.URL(xmlDocument).openStream());
+        } else if (new File(xmlDocument).exists()) {
+            inputSource = new InputSource(new FileInputStream(xmlDocument));
+        } else {
+            inputSource = new InputSource(new StringReader(xmlDocument));
+        }
+        return new SAXSource(xmlReader, inputSource);
+    }
+
+    public static void closeSource(SAXSource source) {
+        IOUtils.closeQuietly(source.getInputSource().getByteStream());
+        IOUtils.closeQuietly(source.getInputSource().getCharacterStream());
+    }
+
     public static StringWriter getStringWriter(Document doc) throws TransformerException {
         DOMSource domSource = new DOMSource(doc);
         StringWriter writer = new StringWriter();
@@ -352,6 +387,15 @@ public class XmlUtils {
 
     }
 
+    public static void setFeatures(SAXParserFactory reader, String features) throws ParserConfigurationException, SAXException {
+        if (StringUtils.isNotBlank(features)) {
+            Map<String, Boolean> featuresMap = parseFeatures(features);
+            for (String key : featuresMap.keySet()) {
+                reader.setFeature(key, featuresMap.get(key));
+            }
+        }
+    }
+
     public static void setFeatures(SAXBuilder reader, String features) throws SAXException {
         if (!StringUtils.isEmpty(features)) {
             Map<String, Boolean> featuresMap = parseFeatures(features);
@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process wide cache of compiled XSL stylesheets. Templates are thread safe, so one compiled stylesheet can be
+ * applied to any number of documents at once.
+ * <p>
+ * A stylesheet given as a string is cached by the hash of its content, one given as a file by its path, last
+ * modification time and size, so an edited file is compiled again. Stylesheets read from an URL are not cached.
+ * The parsing features are part of the key, as they change how the stylesheet is parsed.
+ */
+public final class XslTemplatesCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private static final XslTemplatesCache INSTANCE = new XslTemplatesCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Map<String, Templates> templates;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    XslTemplatesCache(final int maximumSize) {
+        this.templates = new LinkedHashMap<String, Templates>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Templates> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public static XslTemplatesCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param xslTemplate the stylesheet as String, path or URL
+     * @param features    parsing features to set on the parser of the stylesheet
+     * @return the compiled stylesheet, compiling it only if it is not cached yet
+     * @throws Exception in case the stylesheet can not be read or compiled
+     */
+    public Templates getTemplates(final String xslTemplate, final String features) throws Exception {
+        final String key = getKey(xslTemplate, features);
+        if (key == null) {
+            return compile(xslTemplate, features);
+        }
+        Templates compiled;
+        synchronized (templates) {
+            compiled = templates.get(key);
+        }
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        //compiled outside the lock, two threads missing the same stylesheet at once just compile it twice
+        compiled = compile(xslTemplate, features);
+        synchronized (templates) {
+            templates.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * Removes all the stylesheets and resets the counters.
+     */
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    static String getKey(final String xslTemplate, final String features) throws Exception {
+        if (xslTemplate.startsWith(Constants.Inputs.HTTP_PREFIX_STRING) || xslTemplate.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING)) {
+            return null;
+        }
+        final String featuresKey = features == null ? Constants.EMPTY_STRING : features;
+        final File file = new File(xslTemplate);
+        if (file.exists()) {
+            return "file:" + file.getAbsolutePath() + "|" + file.lastModified() + "|" + file.length() + "|" + featuresKey;
+        }
+        return "sha-256:" + sha256(xslTemplate) + "|" + featuresKey;
+    }
+
+    private static String sha256(final String content) throws Exception {
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static Templates compile(final String xslTemplate, final String features) throws Exception {
+        final SAXSource source = XmlUtils.createSaxSource(xslTemplate, features);
+        final ParsingErrorFilter errorFilter = ParsingErrorFilter.filter(source);
+        try {
+            final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+            transformerFactory.setErrorListener(RethrowingErrorListener.getInstance());
+            return transformerFactory.newTemplates(source);
+        } catch (TransformerConfigurationException e) {
+            throw errorFilter.unwrap(e);
+        } finally {
+            XmlUtils.closeSource(source);
+        }
+    }
+}
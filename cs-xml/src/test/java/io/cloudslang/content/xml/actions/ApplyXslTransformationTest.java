@@ -2,13 +2,16 @@
 
 package io.cloudslang.content.xml.actions;
 
+import io.cloudslang.content.xml.utils.XslTemplatesCache;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.PrintStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Map;
@@ -19,6 +22,7 @@ import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
 import static org.apache.commons.io.IOUtils.readLines;
 import static org.apache.commons.lang3.StringUtils.join;
 
@@ -180,4 +184,67 @@ public class ApplyXslTransformationTest {
         assertEquals(FAILURE, result.get(RETURN_CODE));
         assertEquals(result.get(RETURN_RESULT), "XML document structures must start and end within the same entity.");
     }
+
+    @Test
+    public void applyXslTransformationReusesCompiledTemplate() {
+        final XslTemplatesCache cache = XslTemplatesCache.getInstance();
+        cache.clear();
+        for (int i = 0; i < 3; i++) {
+            Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, xsl, "", "");
+            assertEquals(SUCCESS, result.get(RETURN_CODE));
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+
+        Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, xsl, "",
+                "http://apache.org/xml/features/disallow-doctype-decl true");
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void applyXslTransformationInvalidXsl() {
+        Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, "<xsl:stylesheet", "", "");
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertEquals("XML document structures must start and end within the same entity.", result.get(RETURN_RESULT));
+    }
+
+    @Test
+    public void applyXslTransformationErrorsAreNotPrinted() throws Exception {
+        final PrintStream err = System.err;
+        final ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(printed, true, "UTF-8"));
+        try {
+            final String unknownFunction = "<xsl:stylesheet version=\"1.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">" +
+                    "<xsl:template match=\"/\"><xsl:value-of select=\"unknown()\"/></xsl:template></xsl:stylesheet>";
+            assertEquals(FAILURE, applyXslTransformation.applyXslTransformation(xml, unknownFunction, "", "").get(RETURN_CODE));
+            assertEquals(FAILURE, applyXslTransformation.applyXslTransformation(xml, "<xsl:stylesheet", "", "").get(RETURN_CODE));
+            assertEquals(FAILURE, applyXslTransformation.applyXslTransformation(invalidXml, xsl, "", "").get(RETURN_CODE));
+        } finally {
+            System.setErr(err);
+        }
+        assertEquals("", printed.toString("UTF-8"));
+    }
+
+    @Test
+    public void applyXslTransformationDoctypeDisallowed() {
+        Map<String, String> result = applyXslTransformation.applyXslTransformation("<!DOCTYPE map []>" + xml.substring(xml.indexOf("?>") + 2), xsl, "",
+                "http://apache.org/xml/features/disallow-doctype-decl true");
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertTrue(result.get(RETURN_RESULT).contains("DOCTYPE is disallowed"));
+    }
+
+    @Test
+    public void applyXslTransformationToOutputFile() throws Exception {
+        final File outputFile = File.createTempFile("applyXslTransformation", ".html");
+        try {
+            Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, xsl, outputFile.getAbsolutePath(), "");
+            assertEquals(SUCCESS, result.get(RETURN_CODE));
+            assertEquals("Result was written in the output file: " + outputFile.getAbsolutePath(), result.get(RETURN_RESULT));
+            Map<String, String> inMemory = applyXslTransformation.applyXslTransformation(xml, xsl, "", "");
+            assertEquals(inMemory.get(RETURN_RESULT), FileUtils.readFileToString(outputFile, Charset.forName("UTF-8")));
+        } finally {
+            FileUtils.deleteQuietly(outputFile);
+        }
+    }
 }